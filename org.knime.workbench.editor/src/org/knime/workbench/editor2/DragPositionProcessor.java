@@ -89,6 +89,14 @@ class DragPositionProcessor {
      */
     private static final int USER_DRAG_SLOP_FOR_BOUNDS = 10;
 
+    /**
+     * Distance in pixels around the drag location in which figures are looked for in the part index, it covers the
+     * selection handles which lie outside the figures' bounds.
+     *
+     * @see #isNearIndexedPart(org.eclipse.draw2d.geometry.Point)
+     */
+    private static final int HIT_TEST_SLOP = 10;
+
     /**
      * Implementors of this interface will have the method invoked on the SWT thread; it will not be invoked for
      * successive hits on the same target, if that target has not been vetoed by any vetoers.
@@ -215,7 +223,7 @@ void processDragEventAtPoint(final Point p, final boolean shouldAffectMark,
             }
         }
 
-        if (ep == null) {
+        if ((ep == null) && isNearIndexedPart(m_lastPosition)) {
             ep = m_parentViewer.findObjectAt(m_lastPosition);
         }
 
@@ -408,6 +416,25 @@ org.eclipse.draw2d.geometry.Point getLastPosition() {
     // Only private functionality follows
     //
 
+    /**
+     * Looks up the workflow's part index to tell whether there's a node, annotation or connection near the location. If
+     * there's none the hit test of the viewer, which walks all figures, can be skipped as it would only find the
+     * background.
+     *
+     * @param location the location in viewer coordinates
+     */
+    private boolean isNearIndexedPart(final org.eclipse.draw2d.geometry.Point location) {
+        final EditPart contents = m_parentViewer.getContents();
+        if (!(contents instanceof WorkflowRootEditPart)) {
+            return true;
+        }
+        final WorkflowRootEditPart root = (WorkflowRootEditPart)contents;
+        final Rectangle area = new Rectangle(location.x, location.y, 1, 1);
+        area.expand(HIT_TEST_SLOP, HIT_TEST_SLOP);
+        root.getFigure().translateToRelative(area);
+        return !root.getPartIndex().getParts(area).isEmpty();
+    }
+
     private void translateFigureLocation(final Rectangle bounds) {
         final Viewport vp = ((FigureCanvas)m_parentViewer.getControl()).getViewport();
         final org.eclipse.draw2d.geometry.Point location = vp.getViewLocation();
@@ -109,6 +109,7 @@
 import org.eclipse.gef.ui.actions.PrintAction;
 import org.eclipse.gef.ui.actions.RedoAction;
 import org.eclipse.gef.ui.actions.SaveAction;
+import org.eclipse.gef.ui.actions.SelectAllAction;
 import org.eclipse.gef.ui.actions.StackAction;
 import org.eclipse.gef.ui.actions.UndoAction;
 import org.eclipse.gef.ui.actions.WorkbenchPartAction;
@@ -256,6 +257,7 @@
 import org.knime.workbench.editor2.actions.ToggleEditorModeAction;
 import org.knime.workbench.editor2.actions.ToggleFlowVarPortsAction;
 import org.knime.workbench.editor2.actions.UnlinkNodesAction;
+import org.knime.workbench.editor2.actions.WorkflowSelectAllAction;
 import org.knime.workbench.editor2.actions.ZoomInAlternateIncrementAction;
 import org.knime.workbench.editor2.actions.ZoomOutAlternateIncrementAction;
 import org.knime.workbench.editor2.actions.ZoomResetAction;
@@ -777,6 +779,8 @@ protected void createActions() {
         final WorkbenchPartAction print = new PrintAction(this);
         final WorkbenchPartAction hideNodeName = new HideNodeNamesAction(this);
         final WorkbenchPartAction showNodeIdAction = new ShowNodeIdsAction(this);
+        // replaces the default action, it must see all nodes of large workflows
+        final SelectAllAction selectAll = new WorkflowSelectAllAction(this);
 
         // node actions
         //
@@ -842,6 +846,7 @@ protected void createActions() {
         m_actionRegistry.registerAction(save);
         m_actionRegistry.registerAction(saveAs);
         m_actionRegistry.registerAction(print);
+        m_actionRegistry.registerAction(selectAll);
 
         m_actionRegistry.registerAction(openDialog);
         m_actionRegistry.registerAction(execute);
@@ -43,6 +43,7 @@
 import org.knime.workbench.editor2.editparts.AnnotationEditPart;
 import org.knime.workbench.editor2.editparts.ConnectionContainerEditPart;
 import org.knime.workbench.editor2.editparts.NodeContainerEditPart;
+import org.knime.workbench.editor2.editparts.WorkflowRootEditPart;
 import org.knime.workbench.editor2.figures.WorkflowAnnotationFigure;
 
 /**
@@ -112,7 +113,7 @@ public class WorkflowMarqueeSelectionTool extends AbstractTool implements DragTr
 
     private Collection<GraphicalEditPart> deselectedEditParts;
 
-    private Collection<GraphicalEditPart> alreadySelectedEditParts;
+    private Set<GraphicalEditPart> alreadySelectedEditParts;
 
     private Request targetRequest;
 
@@ -208,7 +209,7 @@ private void calculateConnections(final Collection<GraphicalEditPart> newSelecti
     private void calculateNewSelection(final Collection<GraphicalEditPart> newSelections,
             final Collection<GraphicalEditPart> deselections) {
         Rectangle marqueeRect = getMarqueeSelectionRectangle();
-        for (Iterator<GraphicalEditPart> itr = getAllChildren().iterator(); itr.hasNext();) {
+        for (Iterator<GraphicalEditPart> itr = getCandidates(marqueeRect).iterator(); itr.hasNext();) {
             GraphicalEditPart child = itr.next();
             IFigure figure = child.getFigure();
             if (!child.isSelectable()
@@ -273,12 +274,35 @@ private void calculateNewSelection(final Collection<GraphicalEditPart> newSelect
     }
 
     private boolean wasSelected(final EditPart part) {
-        for (Object o : alreadySelectedEditParts) {
-            if (o == part) {
-                return true;
+        return alreadySelectedEditParts.contains(part);
+    }
+
+    /**
+     * Returns the parts that need to be checked against the marquee. In toggle mode these are all parts (the ones
+     * outside the marquee may need to be re-selected), otherwise only the parts near the marquee, which are looked up
+     * in the workflow's part index.
+     */
+    private Collection<GraphicalEditPart> getCandidates(final Rectangle marqueeRect) {
+        final EditPart contents = getCurrentViewer().getContents();
+        if (isToggle() || !(contents instanceof WorkflowRootEditPart)) {
+            return getAllChildren();
+        }
+        final WorkflowRootEditPart root = (WorkflowRootEditPart)contents;
+        final Rectangle area = marqueeRect.getCopy();
+        root.getFigure().translateToRelative(area);
+        // compensate rounding errors when zoomed
+        area.expand(1, 1);
+        final List<GraphicalEditPart> candidates = new ArrayList<GraphicalEditPart>();
+        for (GraphicalEditPart part : root.getPartIndex().getParts(area)) {
+            if (part instanceof ConnectionEditPart) {
+                if (marqueeBehavior != BEHAVIOR_NODES_CONTAINED) {
+                    candidates.add(part);
+                }
+            } else if (marqueeBehavior != BEHAVIOR_CONNECTIONS_TOUCHED) {
+                candidates.add(part);
             }
         }
-        return false;
+        return candidates;
     }
 
     private Request createTargetRequest() {
@@ -399,7 +423,7 @@ protected boolean handleButtonDown(final int button) {
                 setSelectionMode(DEFAULT_MODE);
             }
         }
-        alreadySelectedEditParts = new ArrayList<GraphicalEditPart>();
+        alreadySelectedEditParts = new HashSet<GraphicalEditPart>();
         alreadySelectedEditParts.addAll(getCurrentViewer()
                 .getSelectedEditParts());
         return true;
@@ -233,6 +233,27 @@ protected WorkflowManagerUI getManager() {
         return null;
     }
 
+    /**
+     * @param id the id of the node at the other end of a connection of this port (or of the workflow itself)
+     * @return whether the node has an edit part; connections only get edit parts if it has one
+     * @see WorkflowRootEditPart#isMaterialized(NodeID)
+     */
+    protected boolean isMaterialized(final NodeID id) {
+        if (getParent() != null && getParent().getParent() instanceof WorkflowRootEditPart) {
+            return ((WorkflowRootEditPart)getParent().getParent()).isMaterialized(id);
+        }
+        return true;
+    }
+
+    /**
+     * Refreshes the source and target connections, e.g. after the nodes at their other ends got or lost their edit
+     * parts.
+     */
+    void refreshConnections() {
+        refreshSourceConnections();
+        refreshTargetConnections();
+    }
+
     /**
      * We must register *every* node as a listener on the workflow, as we have
      * not real objects for it.
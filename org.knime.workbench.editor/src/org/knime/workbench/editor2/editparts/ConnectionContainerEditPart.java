@@ -56,6 +56,7 @@
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.gef.DefaultEditDomain;
 import org.eclipse.gef.EditPart;
+import org.eclipse.gef.EditPartViewer;
 import org.eclipse.gef.EditPolicy;
 import org.eclipse.gef.Request;
 import org.eclipse.gef.commands.Command;
@@ -165,6 +166,10 @@ public void activate() {
         super.activate();
         getModel().addUIInformationListener(this);
         getModel().addProgressListener(this);
+        final WorkflowRootEditPart root = getRootEditPart();
+        if (root != null) {
+            root.getPartIndex().add(this);
+        }
     }
 
     /** {@inheritDoc} */
@@ -172,9 +177,25 @@ public void activate() {
     public void deactivate() {
         getModel().removeUIInformationListener(this);
         getModel().removeProgressListener(this);
+        final WorkflowRootEditPart root = getRootEditPart();
+        if (root != null) {
+            root.getPartIndex().remove(this);
+        }
         super.deactivate();
     }
 
+    private WorkflowRootEditPart getRootEditPart() {
+        if (getParent() == null) {
+            // neither source nor target set
+            return null;
+        }
+        final EditPartViewer viewer = getViewer();
+        if ((viewer != null) && (viewer.getContents() instanceof WorkflowRootEditPart)) {
+            return (WorkflowRootEditPart)viewer.getContents();
+        }
+        return null;
+    }
+
     /**
      * Sets whether this connection should render as highlighted or regular default color; this will be ultimately
      *  ignored if the user has disabled connection highlighting via Preferences.
@@ -147,7 +147,11 @@ public List<ConnectionContainerUI> getModelSourceConnections() {
                         getIndex());
         List<ConnectionContainerUI>conns = new ArrayList<ConnectionContainerUI>();
         if (containers != null) {
-            conns.addAll(containers);
+            for (ConnectionContainerUI c : containers) {
+                if (isMaterialized(c.getDest())) {
+                    conns.add(c);
+                }
+            }
         }
         return conns;
     }
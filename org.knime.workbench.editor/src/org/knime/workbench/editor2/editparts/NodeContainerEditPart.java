@@ -67,7 +67,6 @@
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
@@ -249,6 +248,9 @@ public static Image getIconImageForNodeContainer(final NodeContainerUI nodeConta
      */
     private boolean m_uiListenerActive = true;
 
+    /** Batches the figure updates triggered by model events, shared by all node edit parts of the editor. */
+    private NodeContainerUpdateQueue m_updateQueue;
+
     private boolean m_showFlowVarPorts = false;
 
     private WorkflowEditorMode m_currentEditorMode = WorkflowEditor.INITIAL_EDITOR_MODE;
@@ -287,6 +289,10 @@ public void setShowImplFlowVarPorts(final boolean showEm) {
     public void activate() {
         super.activate();
 
+        // updates are batched per editor, a part that is not in an editor gets its own queue
+        WorkflowRootEditPart rootEditPart = getRootEditPart();
+        m_updateQueue = (rootEditPart != null) ? rootEditPart.getNodeUpdateQueue() : new NodeContainerUpdateQueue();
+
         initFigure();
 
         // If we already have extra info, init figure now
@@ -351,6 +357,7 @@ public void deactivate() {
         nc.removeNodePropertyChangedListener(this);
 
         removeEditPartListener(this);
+        m_updateQueue.remove(this);
 
         for (final Object o : getChildren()) {
             final EditPart editPart = (EditPart)o;
@@ -445,44 +452,44 @@ protected List<NodePortUI> getModelChildren() {
         return ports;
     }
 
-    private final AtomicBoolean m_updateInProgress = new AtomicBoolean(false);
-
     /** {@inheritDoc} */
     @Override
     public void stateChanged(final NodeStateEvent state) {
-        // if another state is waiting to be processed, simply return
-        // and leave the work to the previously started thread. This
-        // works because we are retrieving the current state information!
-        if (m_updateInProgress.compareAndSet(false, true)) {
-            Display display = Display.getDefault();
-            if (display.isDisposed()) {
-                return;
-            }
-            display.asyncExec(new Runnable() {
-                @Override
-                public void run() {
-                    // let others know we are in the middle of processing
-                    // this update - they will now need to start their own job.
-                    NodeContainerFigure fig = (NodeContainerFigure)getFigure();
-                    m_updateInProgress.set(false);
-                    if (isActive()) {
-                        NodeContainerUI nc = getNodeContainer();
-                        fig.setStateFromNC(nc);
-                        updateNodeMessage();
-                        // reset the tooltip text of the outports
-                        for (Object part : getChildren()) {
-                            if (part instanceof NodeOutPortEditPart || part instanceof WorkflowInPortEditPart
-                                || part instanceof MetaNodeOutPortEditPart) {
-                                AbstractPortEditPart outPortPart = (AbstractPortEditPart)part;
-                                outPortPart.rebuildTooltip();
-                            }
-                        }
-                        // always refresh visuals (does not seem to do anything
-                        // by default though: call repaints on updated figures).
-                        refreshVisuals();
-                    }
+        // the update retrieves the current state information, hence several events can be handled by one update
+        m_updateQueue.markDirty(this, NodeContainerUpdateQueue.STATE);
+    }
+
+    /**
+     * Updates the figure after the node's state, message or UI information changed. Called in the display thread by
+     * the editor's {@link NodeContainerUpdateQueue}.
+     *
+     * @param updates the combined flags of the pending updates
+     */
+    void applyUpdates(final int updates) {
+        if (!isActive()) {
+            return;
+        }
+        if ((updates & NodeContainerUpdateQueue.STATE) != 0) {
+            NodeContainerFigure fig = (NodeContainerFigure)getFigure();
+            fig.setStateFromNC(getNodeContainer());
+            // reset the tooltip text of the outports
+            for (Object part : getChildren()) {
+                if (part instanceof NodeOutPortEditPart || part instanceof WorkflowInPortEditPart
+                    || part instanceof MetaNodeOutPortEditPart) {
+                    AbstractPortEditPart outPortPart = (AbstractPortEditPart)part;
+                    outPortPart.rebuildTooltip();
                 }
-            });
+            }
+        }
+        if ((updates & NodeContainerUpdateQueue.UI_INFO) != 0) {
+            // also updates the node message and refreshes the visuals
+            updateFigureFromUIinfo(getNodeContainer().getUIInformation());
+        } else {
+            // must ignore event content - the current message is shown
+            updateNodeMessage();
+            // always refresh visuals (does not seem to do anything
+            // by default though: call repaints on updated figures).
+            refreshVisuals();
         }
     }
 
@@ -493,34 +500,10 @@ public void progressChanged(final NodeProgressEvent pe) {
         ((NodeContainerFigure)getFigure()).getProgressFigure().progressChanged(pe.getNodeProgress());
     }
 
-    private final AtomicBoolean m_messageUpdateInProgress = new AtomicBoolean();
-
     /** {@inheritDoc} */
     @Override
     public void messageChanged(final NodeMessageEvent ignored) {
-        if (m_messageUpdateInProgress.compareAndSet(false, true)) {
-            Display display = Display.getDefault();
-            if (display.isDisposed()) {
-                return;
-            }
-            display.asyncExec(new Runnable() {
-                @Override
-                public void run() {
-                    Display.getDefault().asyncExec(new Runnable() {
-                        @Override
-                        public void run() {
-                            m_messageUpdateInProgress.set(false);
-                            if (isActive()) {
-                                // must ignore event content - as this runnable
-                                // may be processing another (following) event
-                                updateNodeMessage();
-                                refreshVisuals();
-                            }
-                        }
-                    });
-                }
-            });
-        }
+        m_updateQueue.markDirty(this, NodeContainerUpdateQueue.MESSAGE);
     }
 
     /** {@inheritDoc} */
@@ -531,19 +514,8 @@ public void nodeUIInformationChanged(final NodeUIInformationEvent evt) {
             return;
         }
 
-        //
         // As this code updates the UI it must be executed in the UI thread.
-        //
-        Display.getDefault().asyncExec(new Runnable() {
-            @Override
-            public void run() {
-                if (isActive()) {
-
-                    NodeUIInformation uiInfo = getNodeContainer().getUIInformation();
-                    updateFigureFromUIinfo(uiInfo);
-                }
-            }
-        });
+        m_updateQueue.markDirty(this, NodeContainerUpdateQueue.UI_INFO);
     }
 
     private void updateFigureFromUIinfo(final NodeUIInformation uiInfo) {
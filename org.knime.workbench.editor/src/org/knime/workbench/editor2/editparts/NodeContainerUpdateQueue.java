@@ -0,0 +1,145 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026: created
+ */
+package org.knime.workbench.editor2.editparts;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.swt.widgets.Display;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Collects the updates of node edit parts of one editor that are triggered by model events (state, message and UI
+ * information changes) and applies them in batches in the display thread. Listeners only mark an edit part as dirty,
+ * a single runnable that is scheduled in the display thread whenever the first part becomes dirty updates each dirty
+ * part once, regardless of how many events it received in the meantime. This avoids flooding the display queue with
+ * one runnable per node and event, e.g. when a large workflow is reset or executed.
+ *
+ * <p>
+ * The number of dirty parts waiting for the next batch (the queue depth) is tracked; large batches are logged on debug
+ * level together with the number of events that have been coalesced.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class NodeContainerUpdateQueue {
+    /** The node's state changed. */
+    static final int STATE = 1;
+
+    /** The node's message changed. */
+    static final int MESSAGE = 2;
+
+    /** The node's UI information (e.g. its bounds) changed. */
+    static final int UI_INFO = 4;
+
+    /** Batches with at least this many edit parts are logged. */
+    private static final int LOG_BATCH_SIZE = 500;
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(NodeContainerUpdateQueue.class);
+
+    /** The dirty edit parts with the combined flags of their pending updates. */
+    private final Map<NodeContainerEditPart, Integer> m_dirtyParts = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean m_scheduled = new AtomicBoolean();
+
+    private final AtomicLong m_eventCount = new AtomicLong();
+
+    private int m_maxQueueDepth;
+
+    private final Runnable m_flush = this::flush;
+
+    /**
+     * Marks an edit part as dirty. May be called from any thread.
+     *
+     * @param part the edit part
+     * @param update the kind of update, one of {@link #STATE}, {@link #MESSAGE} and {@link #UI_INFO}
+     */
+    void markDirty(final NodeContainerEditPart part, final int update) {
+        m_dirtyParts.merge(part, update, (a, b) -> a | b);
+        m_eventCount.incrementAndGet();
+        if (m_scheduled.compareAndSet(false, true)) {
+            final Display display = Display.getDefault();
+            if (display.isDisposed()) {
+                return;
+            }
+            display.asyncExec(m_flush);
+        }
+    }
+
+    /**
+     * Discards the pending updates of an edit part, e.g. because it's deactivated.
+     *
+     * @param part the edit part
+     */
+    void remove(final NodeContainerEditPart part) {
+        m_dirtyParts.remove(part);
+    }
+
+    /* Called in the display thread. */
+    private void flush() {
+        // updates marked from now on need another batch
+        m_scheduled.set(false);
+        final long eventCount = m_eventCount.getAndSet(0);
+        final long start = System.currentTimeMillis();
+        int batchSize = 0;
+        for (NodeContainerEditPart part : m_dirtyParts.keySet()) {
+            final Integer updates = m_dirtyParts.remove(part);
+            if (updates != null) {
+                part.applyUpdates(updates);
+                batchSize++;
+            }
+        }
+        m_maxQueueDepth = Math.max(m_maxQueueDepth, batchSize);
+        if (batchSize >= LOG_BATCH_SIZE) {
+            LOGGER.debug("Updated " + batchSize + " node figures in " + (System.currentTimeMillis() - start)
+                + " ms, " + Math.max(0, eventCount - batchSize) + " events coalesced (max. queue depth "
+                + m_maxQueueDepth + ")");
+        }
+    }
+}
@@ -110,7 +110,7 @@ public List<ConnectionContainerUI> getModelTargetConnections() {
                 getManager().getIncomingConnectionFor(
                         getNodeContainer().getID(), getIndex());
 
-        if (container != null) {
+        if ((container != null) && isMaterialized(container.getSource())) {
             return Collections.singletonList(container);
         }
 
@@ -138,7 +138,11 @@ public List<ConnectionContainerUI> getModelSourceConnections() {
                         getNodeContainer().getID(), getIndex());
         List<ConnectionContainerUI> conns = new ArrayList<ConnectionContainerUI>();
         if (containers != null) {
-            conns.addAll(containers);
+            for (ConnectionContainerUI c : containers) {
+                if (isMaterialized(c.getDest())) {
+                    conns.add(c);
+                }
+            }
         }
         return conns;
     }
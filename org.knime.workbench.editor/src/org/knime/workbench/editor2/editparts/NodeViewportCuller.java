@@ -0,0 +1,305 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026: created
+ */
+package org.knime.workbench.editor2.editparts;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.draw2d.FigureCanvas;
+import org.eclipse.draw2d.FigureListener;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.Viewport;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.gef.EditPartViewer;
+import org.eclipse.gef.editparts.ZoomListener;
+import org.eclipse.gef.editparts.ZoomManager;
+import org.eclipse.swt.widgets.Display;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.NodeUIInformation;
+import org.knime.core.node.workflow.NodeUIInformationEvent;
+import org.knime.core.node.workflow.NodeUIInformationListener;
+import org.knime.core.ui.node.workflow.NodeContainerUI;
+import org.knime.workbench.editor2.figures.NodeContainerFigure;
+
+/**
+ * Decides which nodes of a very large workflow get edit parts (and hence figures) in the editor. This is an opt-in
+ * mode, enabled by setting the system property {@value #PROPERTY_NODE_THRESHOLD} to the minimum number of nodes a
+ * workflow must have to be opened in this mode. Only nodes within the visible area plus a margin of half the viewport
+ * size in each direction are materialized, all other nodes are drawn as stand-ins from their stored bounds by the
+ * {@link org.knime.workbench.editor2.figures.WorkflowFigure}. Once the visible area leaves the materialized area (by
+ * scrolling, zooming or resizing the editor) the area is recomputed around the visible one and the children of the
+ * {@link WorkflowRootEditPart} are refreshed.
+ *
+ * <p>
+ * Connection edit parts only exist if both their ends are materialized, all other connections are drawn as stand-in
+ * figures by the root part. Culled nodes are observed so that their stand-ins follow moves done on the model (e.g. by
+ * undo). Select all materializes all nodes first (see {@link WorkflowRootEditPart#materializeAllNodes()}), other
+ * actions working on the edit parts (such as the marquee selection) only see the materialized nodes.
+ *
+ * <p>
+ * All methods must be called in the display thread.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class NodeViewportCuller
+    implements PropertyChangeListener, ZoomListener, FigureListener, NodeUIInformationListener {
+    /** System property holding the minimum number of nodes of a workflow for it to be opened in large workflow mode. */
+    static final String PROPERTY_NODE_THRESHOLD = "knime.workflow.editor.largeWorkflowNodeThreshold";
+
+    private static final int NODE_THRESHOLD = Integer.getInteger(PROPERTY_NODE_THRESHOLD, -1);
+
+    private final WorkflowRootEditPart m_rootPart;
+
+    private Viewport m_viewport;
+
+    private ZoomManager m_zoomManager;
+
+    /** The area (in model coordinates) with materialized nodes, <code>null</code> until the viewport is known. */
+    private Rectangle m_materializedArea;
+
+    private Set<NodeID> m_materializedNodes = new HashSet<>();
+
+    /** The nodes without edit part, they are observed for changes of their bounds. */
+    private final Set<NodeContainerUI> m_culledNodes = new HashSet<>();
+
+    private boolean m_updateScheduled;
+
+    /** Whether the next update refreshes the root's children even if the materialized area is still sufficient. */
+    private boolean m_refreshRequired;
+
+    /**
+     * @param rootPart the edit part whose children are culled
+     */
+    NodeViewportCuller(final WorkflowRootEditPart rootPart) {
+        m_rootPart = rootPart;
+    }
+
+    /**
+     * @param nodeCount the number of nodes in the workflow
+     * @return whether a workflow with this many nodes is shown in large workflow mode
+     */
+    static boolean isEnabledFor(final int nodeCount) {
+        return (NODE_THRESHOLD > 0) && (nodeCount >= NODE_THRESHOLD);
+    }
+
+    /**
+     * @param uiInfo the node's UI information
+     * @return the bounds of the stand-in drawn for the node if it is not materialized; these are only approximate as
+     *         the actual bounds depend on the node's figure
+     */
+    static Rectangle getStandInBounds(final NodeUIInformation uiInfo) {
+        final int[] bounds = uiInfo.getBounds();
+        return new Rectangle(bounds[0], bounds[1], NodeContainerFigure.WIDTH, NodeContainerFigure.HEIGHT);
+    }
+
+    /**
+     * Registers the listeners on the viewer's viewport and zoom manager and schedules the first update.
+     */
+    void install() {
+        final EditPartViewer viewer = m_rootPart.getViewer();
+        if (viewer.getControl() instanceof FigureCanvas) {
+            m_viewport = ((FigureCanvas)viewer.getControl()).getViewport();
+            m_viewport.getHorizontalRangeModel().addPropertyChangeListener(this);
+            m_viewport.getVerticalRangeModel().addPropertyChangeListener(this);
+            m_viewport.addFigureListener(this);
+        }
+        m_zoomManager = (ZoomManager)viewer.getProperty(ZoomManager.class.toString());
+        if (m_zoomManager != null) {
+            m_zoomManager.addZoomListener(this);
+        }
+        m_refreshRequired = true;
+        scheduleUpdate();
+    }
+
+    /**
+     * Removes the listeners registered in {@link #install()}.
+     */
+    void uninstall() {
+        if (m_viewport != null) {
+            m_viewport.getHorizontalRangeModel().removePropertyChangeListener(this);
+            m_viewport.getVerticalRangeModel().removePropertyChangeListener(this);
+            m_viewport.removeFigureListener(this);
+            m_viewport = null;
+        }
+        if (m_zoomManager != null) {
+            m_zoomManager.removeZoomListener(this);
+            m_zoomManager = null;
+        }
+        for (NodeContainerUI nc : m_culledNodes) {
+            nc.removeUIInformationListener(this);
+        }
+        m_culledNodes.clear();
+    }
+
+    /**
+     * @param uiInfo the node's UI information (with absolute coordinates)
+     * @return whether the node lies in the area that is currently materialized
+     */
+    boolean isInMaterializedArea(final NodeUIInformation uiInfo) {
+        return (m_materializedArea != null) && m_materializedArea.intersects(getStandInBounds(uiInfo));
+    }
+
+    /**
+     * @param id a node's id
+     * @return whether the node currently has an edit part
+     */
+    boolean isMaterialized(final NodeID id) {
+        return m_materializedNodes.contains(id);
+    }
+
+    /**
+     * @param materializedNodes the (mutable) set of nodes that have an edit part after the root's children have been
+     *            refreshed
+     */
+    void setMaterializedNodes(final Set<NodeID> materializedNodes) {
+        m_materializedNodes = materializedNodes;
+    }
+
+    /**
+     * @param culledNodes the nodes that don't have an edit part after the root's children have been refreshed
+     */
+    void setCulledNodes(final Collection<NodeContainerUI> culledNodes) {
+        final Set<NodeContainerUI> newCulledNodes = new HashSet<>(culledNodes);
+        for (NodeContainerUI nc : m_culledNodes) {
+            if (!newCulledNodes.contains(nc)) {
+                nc.removeUIInformationListener(this);
+            }
+        }
+        for (NodeContainerUI nc : newCulledNodes) {
+            if (!m_culledNodes.contains(nc)) {
+                nc.addUIInformationListener(this);
+            }
+        }
+        m_culledNodes.clear();
+        m_culledNodes.addAll(newCulledNodes);
+    }
+
+    /**
+     * Called when a node edit part is added or removed outside of a refresh of the root's children.
+     *
+     * @param id the node's id
+     * @param materialized whether the node now has an edit part
+     */
+    void setMaterialized(final NodeID id, final boolean materialized) {
+        if (materialized) {
+            m_materializedNodes.add(id);
+        } else {
+            m_materializedNodes.remove(id);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void propertyChange(final PropertyChangeEvent evt) {
+        // the viewport has been scrolled
+        scheduleUpdate();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void zoomChanged(final double zoom) {
+        scheduleUpdate();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void figureMoved(final IFigure source) {
+        // the viewport has been resized
+        scheduleUpdate();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void nodeUIInformationChanged(final NodeUIInformationEvent evt) {
+        // a culled node has been moved, its stand-in (or the node itself if it entered the area) must follow
+        Display.getDefault().asyncExec(() -> {
+            m_refreshRequired = true;
+            scheduleUpdate();
+        });
+    }
+
+    private void scheduleUpdate() {
+        if (!m_updateScheduled) {
+            // scrolling fires many events, process them all at once
+            m_updateScheduled = true;
+            Display.getDefault().asyncExec(this::update);
+        }
+    }
+
+    private void update() {
+        m_updateScheduled = false;
+        if ((m_viewport == null) || !m_rootPart.isActive()) {
+            return;
+        }
+        final Rectangle visibleArea = m_viewport.getClientArea();
+        if (visibleArea.isEmpty()) {
+            // not laid out yet, we'll be notified once the viewport gets its size
+            return;
+        }
+        final double zoom = (m_zoomManager != null) ? m_zoomManager.getZoom() : 1.0;
+        visibleArea.scale(1.0 / zoom);
+        if ((m_materializedArea == null) || !m_materializedArea.contains(visibleArea)) {
+            m_materializedArea = visibleArea.getExpanded(visibleArea.width / 2, visibleArea.height / 2);
+        } else if (!m_refreshRequired) {
+            return;
+        }
+        m_refreshRequired = false;
+        m_rootPart.refreshMaterializedNodes();
+    }
+}
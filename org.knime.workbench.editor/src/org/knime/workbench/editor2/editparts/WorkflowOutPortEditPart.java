@@ -156,7 +156,7 @@ public List<ConnectionContainerUI> getModelTargetConnections() {
         ConnectionContainerUI container = getManager().getIncomingConnectionFor(
                 getNodeContainer().getID(), getIndex());
 
-        if (container != null) {
+        if ((container != null) && isMaterialized(container.getSource())) {
             return Collections.singletonList(container);
         }
 
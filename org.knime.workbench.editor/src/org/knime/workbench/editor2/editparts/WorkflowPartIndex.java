@@ -0,0 +1,255 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026: created
+ */
+package org.knime.workbench.editor2.editparts;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.draw2d.Connection;
+import org.eclipse.draw2d.FigureListener;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.gef.GraphicalEditPart;
+
+/**
+ * A spatial index over the figure bounds of the nodes, annotations, workflow port bars and connections (including
+ * their bendpoints) of one workflow editor. It's a uniform grid, each cell holds the edit parts whose figure bounds
+ * intersect the cell. The index follows the figures: moved figures and re-routed connections are only marked as dirty
+ * and re-indexed when the index is queried next, so dragging many figures doesn't cost anything until then.
+ *
+ * <p>
+ * The root edit part registers its children, connection edit parts register themselves. All coordinates are those of
+ * the workflow figure, i.e. unscaled and not affected by scrolling. The index must only be used in the display thread.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @see WorkflowRootEditPart#getPartIndex()
+ */
+public final class WorkflowPartIndex {
+    /** Width and height of a grid cell. */
+    private static final int CELL_SIZE = 256;
+
+    /** Parts covering more cells, such as very long connections, are kept in a separate list and always checked. */
+    private static final int MAX_CELLS_PER_PART = 64;
+
+    private final Map<GraphicalEditPart, IndexEntry> m_entries = new HashMap<>();
+
+    private final Map<Long, List<IndexEntry>> m_cells = new HashMap<>();
+
+    private final Set<IndexEntry> m_largeEntries = new HashSet<>();
+
+    private final Set<IndexEntry> m_dirtyEntries = new HashSet<>();
+
+    /**
+     * Adds an edit part to the index, does nothing if it's already contained.
+     *
+     * @param part the edit part
+     */
+    void add(final GraphicalEditPart part) {
+        if (!m_entries.containsKey(part)) {
+            final IndexEntry entry = new IndexEntry(part);
+            m_entries.put(part, entry);
+            m_dirtyEntries.add(entry);
+        }
+    }
+
+    /**
+     * Removes an edit part from the index.
+     *
+     * @param part the edit part
+     */
+    void remove(final GraphicalEditPart part) {
+        final IndexEntry entry = m_entries.remove(part);
+        if (entry != null) {
+            entry.dispose();
+            m_dirtyEntries.remove(entry);
+            removeFromCells(entry);
+        }
+    }
+
+    /**
+     * Returns the edit parts whose figure bounds intersect the given area. The caller still needs to check whether a
+     * part is actually hit, the bounds of a connection for instance are much larger than the connection itself.
+     *
+     * @param area the area in the coordinates of the workflow figure
+     * @return the parts in no particular order, never <code>null</code>
+     */
+    public List<GraphicalEditPart> getParts(final Rectangle area) {
+        update();
+        final Set<GraphicalEditPart> result = new LinkedHashSet<>();
+        final int x0 = Math.floorDiv(area.x, CELL_SIZE);
+        final int y0 = Math.floorDiv(area.y, CELL_SIZE);
+        final int x1 = Math.floorDiv(area.right(), CELL_SIZE);
+        final int y1 = Math.floorDiv(area.bottom(), CELL_SIZE);
+        if (((long)(x1 - x0 + 1)) * (y1 - y0 + 1) > m_entries.size()) {
+            // cheaper to check each part, e.g. for the marquee of a zoomed out workflow
+            for (IndexEntry entry : m_entries.values()) {
+                addIfIntersecting(entry, area, result);
+            }
+            return new ArrayList<>(result);
+        }
+        for (int x = x0; x <= x1; x++) {
+            for (int y = y0; y <= y1; y++) {
+                final List<IndexEntry> cell = m_cells.get(cellKey(x, y));
+                if (cell != null) {
+                    for (IndexEntry entry : cell) {
+                        addIfIntersecting(entry, area, result);
+                    }
+                }
+            }
+        }
+        for (IndexEntry entry : m_largeEntries) {
+            addIfIntersecting(entry, area, result);
+        }
+        return new ArrayList<>(result);
+    }
+
+    private static void addIfIntersecting(final IndexEntry entry, final Rectangle area,
+        final Set<GraphicalEditPart> result) {
+        if (entry.m_bounds.intersects(area)) {
+            result.add(entry.m_part);
+        }
+    }
+
+    /* Re-indexes the entries whose figures have changed since the last query. */
+    private void update() {
+        for (IndexEntry entry : m_dirtyEntries) {
+            removeFromCells(entry);
+            entry.m_bounds = entry.m_figure.getBounds().getCopy();
+            addToCells(entry);
+        }
+        m_dirtyEntries.clear();
+    }
+
+    private void addToCells(final IndexEntry entry) {
+        final Rectangle b = entry.m_bounds;
+        final int x0 = Math.floorDiv(b.x, CELL_SIZE);
+        final int y0 = Math.floorDiv(b.y, CELL_SIZE);
+        final int x1 = Math.floorDiv(b.right(), CELL_SIZE);
+        final int y1 = Math.floorDiv(b.bottom(), CELL_SIZE);
+        if (((long)(x1 - x0 + 1)) * (y1 - y0 + 1) > MAX_CELLS_PER_PART) {
+            m_largeEntries.add(entry);
+            return;
+        }
+        for (int x = x0; x <= x1; x++) {
+            for (int y = y0; y <= y1; y++) {
+                m_cells.computeIfAbsent(cellKey(x, y), k -> new ArrayList<>(4)).add(entry);
+            }
+        }
+    }
+
+    private void removeFromCells(final IndexEntry entry) {
+        final Rectangle b = entry.m_bounds;
+        if (b == null) {
+            // not indexed yet
+            return;
+        }
+        if (m_largeEntries.remove(entry)) {
+            return;
+        }
+        for (int x = Math.floorDiv(b.x, CELL_SIZE); x <= Math.floorDiv(b.right(), CELL_SIZE); x++) {
+            for (int y = Math.floorDiv(b.y, CELL_SIZE); y <= Math.floorDiv(b.bottom(), CELL_SIZE); y++) {
+                final Long key = cellKey(x, y);
+                final List<IndexEntry> cell = m_cells.get(key);
+                if (cell != null) {
+                    cell.remove(entry);
+                    if (cell.isEmpty()) {
+                        m_cells.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Long cellKey(final int x, final int y) {
+        return (((long)x) << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    /** An indexed edit part, listens to its figure to get marked as dirty. */
+    private final class IndexEntry implements FigureListener, PropertyChangeListener {
+        private final GraphicalEditPart m_part;
+
+        private final IFigure m_figure;
+
+        /** The bounds the entry is indexed with, <code>null</code> if not indexed yet. */
+        private Rectangle m_bounds;
+
+        IndexEntry(final GraphicalEditPart part) {
+            m_part = part;
+            m_figure = part.getFigure();
+            m_figure.addFigureListener(this);
+            if (m_figure instanceof Connection) {
+                // routing a connection changes its points but doesn't fire a move event
+                m_figure.addPropertyChangeListener(Connection.PROPERTY_POINTS, this);
+            }
+        }
+
+        void dispose() {
+            m_figure.removeFigureListener(this);
+            m_figure.removePropertyChangeListener(Connection.PROPERTY_POINTS, this);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void figureMoved(final IFigure source) {
+            m_dirtyEntries.add(this);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void propertyChange(final PropertyChangeEvent evt) {
+            m_dirtyEntries.add(this);
+        }
+    }
+}
@@ -50,18 +50,34 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EventObject;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
+import org.eclipse.draw2d.AbsoluteBendpoint;
+import org.eclipse.draw2d.BendpointConnectionRouter;
+import org.eclipse.draw2d.ColorConstants;
+import org.eclipse.draw2d.Connection;
+import org.eclipse.draw2d.ConnectionAnchor;
 import org.eclipse.draw2d.ConnectionLayer;
 import org.eclipse.draw2d.LayoutManager;
+import org.eclipse.draw2d.PolylineConnection;
+import org.eclipse.draw2d.XYAnchor;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.gef.CompoundSnapToHelper;
+import org.eclipse.gef.ConnectionEditPart;
 import org.eclipse.gef.EditPart;
 import org.eclipse.gef.EditPartViewer;
 import org.eclipse.gef.EditPolicy;
+import org.eclipse.gef.GraphicalEditPart;
 import org.eclipse.gef.LayerConstants;
 import org.eclipse.gef.SnapToGrid;
 import org.eclipse.gef.SnapToGuides;
@@ -76,6 +92,7 @@
 import org.eclipse.swt.widgets.Shell;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.workflow.Annotation;
+import org.knime.core.node.workflow.ConnectionUIInformation;
 import org.knime.core.node.workflow.NodeAnnotation;
 import org.knime.core.node.workflow.NodeID;
 import org.knime.core.node.workflow.NodeUIInformation;
@@ -85,6 +102,7 @@
 import org.knime.core.node.workflow.WorkflowEvent;
 import org.knime.core.node.workflow.WorkflowListener;
 import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.ui.node.workflow.ConnectionContainerUI;
 import org.knime.core.ui.node.workflow.NodeContainerUI;
 import org.knime.core.ui.node.workflow.WorkflowManagerUI;
 import org.knime.core.ui.node.workflow.async.AsyncWorkflowManagerUI;
@@ -131,6 +149,22 @@ public class WorkflowRootEditPart extends AbstractWorkflowEditPart implements
 
     private ProgressToolTipHelper m_toolTipHelper;
 
+    private final NodeContainerUpdateQueue m_nodeUpdateQueue = new NodeContainerUpdateQueue();
+
+    private final WorkflowPartIndex m_partIndex = new WorkflowPartIndex();
+
+    /** Only set if the workflow is shown in large workflow mode, see {@link NodeViewportCuller}. */
+    private NodeViewportCuller m_nodeCuller;
+
+    /** Set while the children are refreshed because the materialized area of a large workflow changed. */
+    private boolean m_materializingNodes = false;
+
+    /** Set while all nodes of a large workflow get edit parts, see {@link #materializeAllNodes()}. */
+    private boolean m_materializeAllNodes = false;
+
+    /** The figures drawn in large workflow mode for connections with a culled end. */
+    private final List<Connection> m_connectionStandIns = new ArrayList<>();
+
     private WorkflowPortBar m_inBar;
 
     private WorkflowPortBar m_outBar;
@@ -213,7 +247,8 @@ public NodeContainerUI getNodeContainer() {
 
     /**
      * Returns the model chidlren, that is, the <code>NodeConatiner</code>s that
-     * are stored in the workflow manager.
+     * are stored in the workflow manager. In large workflow mode only the nodes
+     * in the materialized area are returned (see {@link NodeViewportCuller}).
      *
      * {@inheritDoc}
      */
@@ -231,7 +266,13 @@ protected List getModelChildren() {
         }
 
         Collection<NodeContainerUI> nodeContainers = wfm.getNodeContainers();
-        Set<NodeID> hiddenNodes = getHiddenNodes(nodeContainers);
+        final Set<NodeID> hiddenNodes;
+        if ((m_nodeCuller != null) || NodeViewportCuller.isEnabledFor(nodeContainers.size())) {
+            // nodes outside the materialized area are treated like hidden ones
+            hiddenNodes = cullNodes(nodeContainers);
+        } else {
+            hiddenNodes = getHiddenNodes(nodeContainers);
+        }
 
         // Add the annotations associated with nodes (add them after the
         // workflow annotations so they appear above them)
@@ -268,10 +309,196 @@ protected List getModelChildren() {
         return modelChildren;
     }
 
+    /**
+     * Determines the nodes that don't get an edit part in large workflow mode, i.e. the hidden ones and those outside
+     * the materialized area, and updates the stand-ins drawn for the latter. Nodes without absolute coordinates and
+     * selected nodes are always materialized.
+     */
+    private Set<NodeID> cullNodes(final Collection<NodeContainerUI> nodeContainers) {
+        if (m_nodeCuller == null) {
+            m_nodeCuller = new NodeViewportCuller(this);
+            if (isActive()) {
+                m_nodeCuller.install();
+            }
+        }
+        final Set<NodeID> culledNodes = new HashSet<>();
+        final List<NodeContainerUI> observedNodes = new ArrayList<>();
+        final Set<NodeID> materializedNodes = new HashSet<>();
+        final List<Rectangle> standIns = new ArrayList<>();
+        final Map<?, ?> registry = getViewer().getEditPartRegistry();
+        for (NodeContainerUI nc : nodeContainers) {
+            NodeID id = nc.getID();
+            NodeUIInformation uiInfo = nc.getUIInformation();
+            if (isHiddenInUI(nc)) {
+                culledNodes.add(id);
+            } else if (m_materializeAllNodes || (uiInfo == null) || !uiInfo.hasAbsoluteCoordinates()
+                || uiInfo.isDropLocation() || m_nodeCuller.isInMaterializedArea(uiInfo)
+                || m_futureSelection.contains(id) || isSelected((EditPart)registry.get(nc))) {
+                materializedNodes.add(id);
+            } else {
+                culledNodes.add(id);
+                observedNodes.add(nc);
+                standIns.add(NodeViewportCuller.getStandInBounds(uiInfo));
+            }
+        }
+        m_nodeCuller.setMaterializedNodes(materializedNodes);
+        m_nodeCuller.setCulledNodes(observedNodes);
+        getFigure().setNodeStandIns(standIns);
+        return culledNodes;
+    }
+
+    private static boolean isSelected(final EditPart part) {
+        return (part != null) && (part.getSelected() != EditPart.SELECTED_NONE);
+    }
+
+    /**
+     * @param id the id of a node in this workflow or of the workflow itself
+     * @return whether the node has an edit part, which is always the case unless the workflow is shown in large
+     *         workflow mode (see {@link NodeViewportCuller}); connections only get edit parts if both ends have one
+     */
+    boolean isMaterialized(final NodeID id) {
+        return (m_nodeCuller == null) || id.equals(getWorkflowManager().getID()) || m_nodeCuller.isMaterialized(id);
+    }
+
+    /**
+     * Called in large workflow mode once the materialized area has changed. Creates the edit parts of the nodes that
+     * entered the area, removes the ones that left it and updates the connections of all remaining ports accordingly.
+     */
+    void refreshMaterializedNodes() {
+        m_materializingNodes = true;
+        try {
+            refreshChildren();
+        } finally {
+            m_materializingNodes = false;
+        }
+        for (Object child : getChildren()) {
+            if ((child instanceof NodeContainerEditPart) || (child instanceof AbstractWorkflowPortBarEditPart)) {
+                for (Object port : ((EditPart)child).getChildren()) {
+                    if (port instanceof AbstractPortEditPart) {
+                        ((AbstractPortEditPart)port).refreshConnections();
+                    }
+                }
+            }
+        }
+        refreshConnectionStandIns();
+        getFigure().revalidate();
+    }
+
+    /**
+     * Creates the edit parts of all nodes if the workflow is shown in large workflow mode, e.g. before all nodes are
+     * selected. Selected nodes keep their edit parts, the others are culled again with the next refresh.
+     */
+    public void materializeAllNodes() {
+        if (m_nodeCuller != null) {
+            m_materializeAllNodes = true;
+            try {
+                refreshMaterializedNodes();
+            } finally {
+                m_materializeAllNodes = false;
+            }
+        }
+    }
+
+    /**
+     * Draws the connections without edit part in large workflow mode, i.e. those with a culled end. Materialized ends
+     * are anchored at their port, culled ones at the stand-in of their node.
+     */
+    private void refreshConnectionStandIns() {
+        removeConnectionStandIns();
+        final ConnectionLayer layer = (ConnectionLayer)getLayer(LayerConstants.CONNECTION_LAYER);
+        if ((m_nodeCuller == null) || (layer == null)) {
+            return;
+        }
+        for (ConnectionContainerUI cc : getWorkflowManager().getConnectionContainers()) {
+            final boolean sourceMaterialized = isMaterialized(cc.getSource());
+            final boolean destMaterialized = isMaterialized(cc.getDest());
+            if (sourceMaterialized && destMaterialized) {
+                // has an edit part
+                continue;
+            }
+            final ConnectionAnchor sourceAnchor =
+                getStandInAnchor(cc.getSource(), cc.getSourcePort(), true, sourceMaterialized);
+            final ConnectionAnchor targetAnchor =
+                getStandInAnchor(cc.getDest(), cc.getDestPort(), false, destMaterialized);
+            if ((sourceAnchor == null) || (targetAnchor == null)) {
+                // hidden node
+                continue;
+            }
+            final PolylineConnection conn = new PolylineConnection();
+            conn.setForegroundColor(ColorConstants.lightGray);
+            conn.setSourceAnchor(sourceAnchor);
+            conn.setTargetAnchor(targetAnchor);
+            layer.add(conn);
+            conn.setConnectionRouter(new BendpointConnectionRouter());
+            final List<AbsoluteBendpoint> constraint = new ArrayList<>();
+            final ConnectionUIInformation uiInfo = cc.getUIInfo();
+            if (uiInfo != null) {
+                for (int[] p : uiInfo.getAllBendpoints()) {
+                    constraint.add(new AbsoluteBendpoint(p[0], p[1]));
+                }
+            }
+            conn.setRoutingConstraint(constraint);
+            m_connectionStandIns.add(conn);
+        }
+    }
+
+    private void removeConnectionStandIns() {
+        for (Connection conn : m_connectionStandIns) {
+            if (conn.getParent() != null) {
+                conn.getParent().remove(conn);
+            }
+        }
+        m_connectionStandIns.clear();
+    }
+
+    /**
+     * @return the anchor of the port if the node is materialized, otherwise one at the border of the node's stand-in;
+     *         <code>null</code> if the node is hidden or its port has no edit part
+     */
+    private ConnectionAnchor getStandInAnchor(final NodeID id, final int portIndex, final boolean source,
+        final boolean materialized) {
+        final WorkflowManagerUI wfm = getWorkflowManager();
+        if (materialized) {
+            final Object model;
+            final boolean inPort;
+            if (id.equals(wfm.getID())) {
+                // connections from the workflow's in ports start at the in port bar and vice versa
+                model = source ? m_inBar : m_outBar;
+                inPort = source;
+            } else {
+                model = wfm.getNodeContainer(id);
+                inPort = !source;
+            }
+            final EditPart part = (model == null) ? null : (EditPart)getViewer().getEditPartRegistry().get(model);
+            if (part != null) {
+                for (Object child : part.getChildren()) {
+                    if ((child instanceof AbstractPortEditPart) && (((AbstractPortEditPart)child).isInPort() == inPort)
+                        && (((AbstractPortEditPart)child).getIndex() == portIndex)) {
+                        final AbstractPortEditPart port = (AbstractPortEditPart)child;
+                        return source ? port.getSourceConnectionAnchor((ConnectionEditPart)null)
+                            : port.getTargetConnectionAnchor((ConnectionEditPart)null);
+                    }
+                }
+            }
+            return null;
+        }
+        final NodeContainerUI nc = wfm.getNodeContainer(id);
+        final NodeUIInformation uiInfo = (nc == null) ? null : nc.getUIInformation();
+        if ((uiInfo == null) || !uiInfo.hasAbsoluteCoordinates() || isHiddenInUI(nc)) {
+            return null;
+        }
+        final Rectangle bounds = NodeViewportCuller.getStandInBounds(uiInfo);
+        final int y = bounds.y + (bounds.height / 2);
+        return new XYAnchor(source ? new Point(bounds.right(), y) : new Point(bounds.x, y));
+    }
+
     private static Set<NodeID> getHiddenNodes(final Collection<NodeContainerUI> ncs) {
-        return ncs.stream()
-            .filter(nc -> Wrapper.wraps(nc, WorkflowManager.class) && Wrapper.unwrapWFM(nc).isHiddenInUI())
-            .map(NodeContainerUI::getID).collect(Collectors.toSet());
+        return ncs.stream().filter(WorkflowRootEditPart::isHiddenInUI).map(NodeContainerUI::getID)
+            .collect(Collectors.toSet());
+    }
+
+    private static boolean isHiddenInUI(final NodeContainerUI nc) {
+        return Wrapper.wraps(nc, WorkflowManager.class) && Wrapper.unwrapWFM(nc).isHiddenInUI();
     }
 
     /**
@@ -311,6 +538,42 @@ public Object getAdapter(final Class adapter) {
         return super.getAdapter(adapter);
     }
 
+    /**
+     * @return the spatial index over the figures of this editor's nodes, annotations, port bars and connections
+     */
+    public WorkflowPartIndex getPartIndex() {
+        return m_partIndex;
+    }
+
+    /**
+     * Also adds the child to the part index.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected void addChildVisual(final EditPart childEditPart, final int index) {
+        super.addChildVisual(childEditPart, index);
+        m_partIndex.add((GraphicalEditPart)childEditPart);
+    }
+
+    /**
+     * Also removes the child from the part index.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected void removeChildVisual(final EditPart childEditPart) {
+        m_partIndex.remove((GraphicalEditPart)childEditPart);
+        super.removeChildVisual(childEditPart);
+    }
+
+    /**
+     * @return the queue that batches the figure updates of the node edit parts in this editor
+     */
+    NodeContainerUpdateQueue getNodeUpdateQueue() {
+        return m_nodeUpdateQueue;
+    }
+
     /**
      * Activate controller, register as workflow listener.
      *
@@ -325,6 +588,10 @@ public void activate() {
         // add as listener on the command stack
         getViewer().getEditDomain().getCommandStack()
                 .addCommandStackListener(this);
+
+        if (m_nodeCuller != null) {
+            m_nodeCuller.install();
+        }
     }
 
     /**
@@ -342,6 +609,10 @@ public void deactivate() {
         getWorkflowManager().removeListener(this);
         getViewer().getEditDomain().getCommandStack()
                 .removeCommandStackListener(this);
+        if (m_nodeCuller != null) {
+            m_nodeCuller.uninstall();
+            removeConnectionStandIns();
+        }
         EditPolicyIterator editPolicyIterator = getEditPolicyIterator();
         while (editPolicyIterator.hasNext()) {
             editPolicyIterator.next().deactivate();
@@ -411,40 +682,61 @@ protected void createEditPolicies() {
 
     private final AtomicBoolean m_workflowChangedOngoingBoolean = new AtomicBoolean();
 
+    /** Workflow events that have been received but not yet processed in the display thread. */
+    private final Queue<WorkflowEvent> m_pendingWorkflowEvents = new ConcurrentLinkedQueue<>();
+
     /**
-     * Controller is getting notified about model changes. This invokes
-     * <code>refreshChildren</code> keep in sync with the model.
+     * Controller is getting notified about model changes. Added and removed nodes are reflected by adding or removing
+     * only their edit parts (connections are updated by the port edit parts), all other changes invoke
+     * <code>refreshChildren</code> to keep in sync with the model.
      *
      * {@inheritDoc}
      */
     @Override
     public void workflowChanged(final WorkflowEvent event) {
-
+        m_pendingWorkflowEvents.add(event);
         if (m_workflowChangedOngoingBoolean.compareAndSet(false, true)) {
             Display.getDefault().asyncExec(new Runnable() {
                 @Override
                 public void run() {
                     m_workflowChangedOngoingBoolean.set(false);
 
-                    // refreshing the children
-                    refreshChildren();
+                    final List<WorkflowEvent> events = new ArrayList<>();
+                    WorkflowEvent e;
+                    while ((e = m_pendingWorkflowEvents.poll()) != null) {
+                        events.add(e);
+                    }
+                    if (events.isEmpty()) {
+                        // already processed by a previous run
+                        return;
+                    }
 
-                    // refresing connections
-                    refreshSourceConnections();
-                    refreshTargetConnections();
+                    if (!updateChildren(events)) {
+                        // refreshing the children
+                        refreshChildren();
 
-                    // update out port (workflow in port) tooltips
+                        // refresing connections
+                        refreshSourceConnections();
+                        refreshTargetConnections();
 
-                    for (Object part : getChildren()) {
+                        // update out port (workflow in port) tooltips
 
-                        if (part instanceof NodeOutPortEditPart
-                                || part instanceof WorkflowInPortEditPart) {
-                            AbstractPortEditPart outPortPart =
-                                    (AbstractPortEditPart)part;
-                            outPortPart.rebuildTooltip();
+                        for (Object part : getChildren()) {
+
+                            if (part instanceof NodeOutPortEditPart
+                                    || part instanceof WorkflowInPortEditPart) {
+                                AbstractPortEditPart outPortPart =
+                                        (AbstractPortEditPart)part;
+                                outPortPart.rebuildTooltip();
+                            }
                         }
                     }
 
+                    if (m_nodeCuller != null) {
+                        // connections to culled nodes may have been added or removed
+                        refreshConnectionStandIns();
+                    }
+
                     // always refresh visuals
                     getFigure().revalidate();
                     refreshVisuals();
@@ -453,6 +745,102 @@ public void run() {
         }
     }
 
+    /**
+     * Applies the given events to the child edit parts without reconciling all of them with the model. Only node
+     * additions and removals change the children; connections are updated by the port edit parts and dirty or settings
+     * events don't affect the children at all.
+     *
+     * @param events the events in the order they were fired
+     * @return <code>false</code> if any of the events requires a full refresh, nothing has been changed in this case
+     */
+    private boolean updateChildren(final List<WorkflowEvent> events) {
+        for (WorkflowEvent event : events) {
+            switch (event.getType()) {
+                case NODE_ADDED:
+                    if (!(Wrapper.wrap(event.getNewValue()) instanceof NodeContainerUI)) {
+                        return false;
+                    }
+                    break;
+                case NODE_REMOVED:
+                    Object oldValue = Wrapper.wrap(event.getOldValue());
+                    if (!(oldValue instanceof NodeContainerUI)) {
+                        return false;
+                    }
+                    if (!isMaterialized(((NodeContainerUI)oldValue).getID())) {
+                        // its stand-in needs to be removed
+                        return false;
+                    }
+                    break;
+                case CONNECTION_ADDED:
+                case CONNECTION_REMOVED:
+                case WORKFLOW_DIRTY:
+                case NODE_SETTINGS_CHANGED:
+                    break;
+                default:
+                    return false;
+            }
+        }
+
+        // index the current children; annotations come first, the port bars last (see getModelChildren)
+        final Map<NodeID, EditPart> nodeParts = new HashMap<>();
+        final Map<NodeID, EditPart> nodeAnnotationParts = new HashMap<>();
+        int annotationCount = 0;
+        int portBarCount = 0;
+        for (Object o : getChildren()) {
+            EditPart part = (EditPart)o;
+            Object model = part.getModel();
+            if (model instanceof Annotation) {
+                annotationCount++;
+                if (model instanceof NodeAnnotation) {
+                    nodeAnnotationParts.put(((NodeAnnotation)model).getNodeID(), part);
+                }
+            } else if (model instanceof WorkflowPortBar) {
+                portBarCount++;
+            } else if (part instanceof NodeContainerEditPart) {
+                nodeParts.put(((NodeContainerEditPart)part).getNodeContainer().getID(), part);
+            }
+        }
+
+        for (WorkflowEvent event : events) {
+            if (event.getType() == WorkflowEvent.Type.NODE_ADDED) {
+                NodeContainerUI nc = (NodeContainerUI)Wrapper.wrap(event.getNewValue());
+                NodeID id = nc.getID();
+                if (nodeParts.containsKey(id) || isHiddenInUI(nc)) {
+                    continue;
+                }
+                // the node annotation is added first, it needs to exist when the node's part is activated
+                NodeAnnotation nodeAnno = nc.getNodeAnnotation();
+                if ((nodeAnno != null) && !nodeAnnotationParts.containsKey(id)) {
+                    EditPart annoPart = createChild(nodeAnno);
+                    addChild(annoPart, annotationCount);
+                    annotationCount++;
+                    nodeAnnotationParts.put(id, annoPart);
+                }
+                EditPart nodePart = createChild(nc);
+                addChild(nodePart, getChildren().size() - portBarCount);
+                nodeParts.put(id, nodePart);
+                if (m_nodeCuller != null) {
+                    m_nodeCuller.setMaterialized(id, true);
+                }
+            } else if (event.getType() == WorkflowEvent.Type.NODE_REMOVED) {
+                NodeID id = ((NodeContainerUI)Wrapper.wrap(event.getOldValue())).getID();
+                EditPart nodePart = nodeParts.remove(id);
+                if (nodePart != null) {
+                    removeChild(nodePart);
+                }
+                if (m_nodeCuller != null) {
+                    m_nodeCuller.setMaterialized(id, false);
+                }
+                EditPart annoPart = nodeAnnotationParts.remove(id);
+                if (annoPart != null) {
+                    removeChild(annoPart);
+                    annotationCount--;
+                }
+            }
+        }
+        return true;
+    }
+
     private final AtomicBoolean m_nodeUIChangedOngoingBoolean = new AtomicBoolean();
 
     /**
@@ -529,6 +917,10 @@ protected void refreshVisuals() {
     @Override
     protected EditPart createChild(final Object model) {
         final EditPart part = super.createChild(model);
+        if (m_materializingNodes) {
+            // nodes that are scrolled into view don't change the selection
+            return part;
+        }
         LOGGER.debug("part: " + part);
         if (part instanceof NodeContainerEditPart) {
             getViewer().deselect(this);
@@ -48,7 +48,9 @@
 package org.knime.workbench.editor2.editparts.snap;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -209,6 +211,9 @@ public String toString() {
      */
     private static final double THRESHOLD = 5.0001;
 
+    /** The rows and columns are sorted by their offsets so that the closest entries can be found by binary search. */
+    private static final Comparator<Entry> OFFSET_ORDER = Comparator.comparingInt(e -> e.m_offset);
+
     private boolean m_cachedCloneBool;
 
     /**
@@ -315,7 +320,7 @@ protected double getCorrectionFor(final Entry[] entries,
      * Returns the correction value for the given entries and sides. During a
      * move, the left, right, or center is free to snap to a location.
      *
-     * @param entries the entries
+     * @param entries the entries, sorted by their offsets
      * @param extendedData the requests extended data
      * @return the correction amount or THRESHOLD if no correction was made
      */
@@ -323,37 +328,58 @@ protected double getCorrectionForY(final Entry[] entries,
             final Map extendedData, final Entry[] ys, final int moveDelta) {
 
         // get the smallest distance to the next y value
-        double result = Double.MAX_VALUE;
-        for (Entry entry : entries) {
-            for (Entry y : ys) {
-
-                // only compare inports to outports as only oposite parts
-                // can connect and must be alligned
-                if (!(entry.m_inport ^ y.m_inport)) {
-                    continue;
-                }
-
-                // and only ports of same type (data - data, model-model)
-                // are snaped
-                if (!entry.m_portType .equals(y.m_portType)) {
-                    continue;
+        double result = THRESHOLD;
+        for (Entry y : ys) {
+            final double target = y.m_offset + moveDelta;
+            final int start = indexOfOffset(entries, target);
+            // the first matching entry in either direction is the closest one
+            for (int i = start; (i < entries.length) && (entries[i].m_offset - target < Math.abs(result)); i++) {
+                if (isSnapPartner(entries[i], y)) {
+                    result = entries[i].m_offset - target;
+                    break;
                 }
-
-                double diff = entry.m_offset - (y.m_offset + moveDelta);
-                if (Math.abs(diff) < Math.abs(result)) {
-                    result = diff;
+            }
+            for (int i = start - 1; (i >= 0) && (target - entries[i].m_offset < Math.abs(result)); i--) {
+                if (isSnapPartner(entries[i], y)) {
+                    result = entries[i].m_offset - target;
+                    break;
                 }
             }
         }
 
-        return Math.round(result);
+        return (result == THRESHOLD) ? THRESHOLD : Math.round(result);
+    }
+
+    private static boolean isSnapPartner(final Entry entry, final Entry y) {
+        // only compare inports to outports as only oposite parts
+        // can connect and must be alligned
+        // and only ports of same type (data - data, model-model)
+        // are snaped
+        return (entry.m_inport ^ y.m_inport) && entry.m_portType.equals(y.m_portType);
+    }
+
+    /**
+     * @return the index of the first entry whose offset is not smaller than the value, or the number of entries
+     */
+    private static int indexOfOffset(final Entry[] entries, final double value) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (entries[mid].m_offset < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
     }
 
     /**
      * Returns the correction value between {@link #THRESHOLD}, or the
      * THRESHOLD if no corrections were found.
      *
-     * @param entries the entries
+     * @param entries the entries, sorted by their offsets
      * @param extendedData the map for setting values
      * @param vert <code>true</code> if vertical
      * @param value the value being corrected
@@ -373,33 +399,27 @@ protected double getCorrectionFor(final Entry[] entries,
             property = vert ? KEY_EAST_ANCHOR : KEY_SOUTH_ANCHOR;
         }
 
-        for (int i = 0; i < entries.length; i++) {
-            Entry entry = entries[i];
-            double magnitude;
-
-            if (entry.m_side == -1 && side != 0) {
-                magnitude = Math.abs(value - entry.m_offset);
-                if (magnitude < resultMag) {
-                    resultMag = magnitude;
-                    result = entry.m_offset - value;
-                    extendedData.put(property, entry.m_offset);
-                }
-            } else if (entry.m_side == 0 && side == 0) {
-                magnitude = Math.abs(value - entry.m_offset);
-                if (magnitude < resultMag) {
-                    resultMag = magnitude;
-                    result = entry.m_offset - value;
-                    extendedData.put(property, entry.m_offset);
-                }
-            } else if (entry.m_side == 1 && side != 0) {
-                magnitude = Math.abs(value - entry.m_offset);
-                if (magnitude < resultMag) {
-                    resultMag = magnitude;
-                    result = entry.m_offset - value;
-                    extendedData.put(property, entry.m_offset);
-                }
+        // only entries closer than the best one so far need to be looked at,
+        // starting at the value and going in both directions
+        final int start = indexOfOffset(entries, value);
+        Entry best = null;
+        for (int i = start; (i < entries.length) && (entries[i].m_offset - value < resultMag); i++) {
+            if ((entries[i].m_side == 0) == (side == 0)) {
+                best = entries[i];
+                resultMag = best.m_offset - value;
+                break;
             }
         }
+        for (int i = start - 1; (i >= 0) && (value - entries[i].m_offset < resultMag); i--) {
+            if ((entries[i].m_side == 0) == (side == 0)) {
+                best = entries[i];
+                break;
+            }
+        }
+        if (best != null) {
+            result = best.m_offset - value;
+            extendedData.put(property, best.m_offset);
+        }
         return result;
     }
 
@@ -527,6 +547,8 @@ protected void populateRowsAndCols(final List parts, final List dragedParts) {
 
         m_rows = rowVector.toArray(new Entry[rowVector.size()]);
         m_cols = colVector.toArray(new Entry[colVector.size()]);
+        Arrays.sort(m_rows, OFFSET_ORDER);
+        Arrays.sort(m_cols, OFFSET_ORDER);
     }
 
     /**
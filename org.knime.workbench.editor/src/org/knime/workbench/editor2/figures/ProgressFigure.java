@@ -47,10 +47,12 @@
  */
 package org.knime.workbench.editor2.figures;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.draw2d.ColorConstants;
 import org.eclipse.draw2d.DelegatingLayout;
@@ -85,6 +87,9 @@ public class ProgressFigure extends RectangleFigure implements MouseMotionListen
     /** Update interval for moving unknown progress timer in ms. */
     private static final int UNKNOWN_PROGRESS_UPDATE_INTERVAL = 100;
 
+    /** Minimum interval between two repaints of progress figures in ms, i.e. at most 25 frames per second. */
+    private static final int FRAME_INTERVAL = 40;
+
     private static final int UNKNOW_PROGRESS_BAR_WIDTH = 10;
 
     private static final Font PROGRESS_FONT;
@@ -97,7 +102,7 @@ public class ProgressFigure extends RectangleFigure implements MouseMotionListen
 
     private static final Color PROGRESS_BAR_COLOR = ColorConstants.darkBlue;
 
-    private static final UnknownProgressTimer unknownProgressTimer;
+    private static final ProgressPulse PROGRESS_PULSE = new ProgressPulse();
 
     static {
         Display current = Display.getCurrent();
@@ -111,10 +116,6 @@ public class ProgressFigure extends RectangleFigure implements MouseMotionListen
         PROGRESS_FONT = new Font(current, name, height, SWT.NORMAL);
         QUEUED_FONT = new Font(current, name, 7, SWT.NORMAL);
         QUEUED_FONT_SMALL = new Font(current, name, 6, SWT.NORMAL);
-
-        // instantiate and start the unkown progress timer
-        unknownProgressTimer = new UnknownProgressTimer();
-        unknownProgressTimer.start();
     }
 
     private boolean m_unknownProgress = false;
@@ -157,13 +158,8 @@ public static enum ProgressMode {
 
     private ProgressToolTipHelper m_toolTipHelper;
 
-    private final Runnable m_repaintObject = new Runnable() {
-        @Override
-        public void run() {
-
-            repaint();
-        }
-    };
+    /** The latest progress reported by the node, not yet shown; <code>null</code> if there is none. */
+    private final AtomicReference<NodeProgress> m_pendingProgress = new AtomicReference<>();
 
     /**
      * Creates a new node figure.
@@ -317,7 +313,7 @@ public void paintFigure(final Graphics graphics) {
      */
     public void stopUnknownProgress() {
         m_unknownProgress = false;
-        unknownProgressTimer.removeFigure(this);
+        PROGRESS_PULSE.removeUnknownProgress(this);
     }
 
     /**
@@ -340,7 +336,7 @@ public void activateUnknownProgress() {
             return;
         }
 
-        unknownProgressTimer.addFigure(this);
+        PROGRESS_PULSE.addUnknownProgress(this);
     }
 
     /**
@@ -362,11 +358,23 @@ public ProgressMode getProgressMode() {
     }
 
     /**
-     * Updates UI after progress has changed.
+     * Updates UI after progress has changed. The progress is only recorded, it is shown with the next repaint of all
+     * progress figures in the display thread. This method never waits for the display thread.
      *
      * @param pe the new progress to display
      */
-    public synchronized void progressChanged(final NodeProgress pe) {
+    public void progressChanged(final NodeProgress pe) {
+        if (m_pendingProgress.getAndSet(pe) == null) {
+            PROGRESS_PULSE.markDirty(this);
+        }
+    }
+
+    /* Shows the latest recorded progress, called in the display thread. */
+    private void applyPendingProgress() {
+        final NodeProgress pe = m_pendingProgress.getAndSet(null);
+        if (pe == null) {
+            return;
+        }
         int newWorked = m_currentWorked;
         if (pe.hasProgress()) {
             double progress = pe.getProgress().doubleValue();
@@ -378,11 +386,11 @@ public synchronized void progressChanged(final NodeProgress pe) {
         if (newWorked > m_currentWorked) {
 
             // switch to known progress
-            // this causes another rendering type and stops the thread
-            // for unknown redering triggering started in
+            // this causes another rendering type and stops the cycling
+            // for unknown rendering started in
             // activateUnknownProgress
             m_unknownProgress = false;
-            unknownProgressTimer.removeFigure(this);
+            PROGRESS_PULSE.removeUnknownProgress(this);
 
             m_currentWorked = newWorked;
 
@@ -400,26 +408,14 @@ public synchronized void progressChanged(final NodeProgress pe) {
             String meString = m_currentProgressMessage;
             m_currentProgressMessage = message == null ? "" : m_stateMessage + " - " + message;
 
-            if (!m_currentProgressMessage.equals(meString) && (m_mouseEvent != null) && (m_currentDisplay != null)
-                && !m_currentDisplay.isDisposed() /* bugfix: 1392 */) {
-                m_currentDisplay.syncExec(new Runnable() {
-                    @Override
-                    public void run() {
-                        if (m_mouseEvent != null) {
-                            getToolTipHelper().displayToolTipNear(ProgressFigure.this,
-                                new Label(m_currentProgressMessage), m_mouseEvent.x, m_mouseEvent.y);
-                        }
-                    }
-                });
+            if (!m_currentProgressMessage.equals(meString) && (m_mouseEvent != null)) {
+                getToolTipHelper().displayToolTipNear(ProgressFigure.this, new Label(m_currentProgressMessage),
+                    m_mouseEvent.x, m_mouseEvent.y);
             }
         }
 
-        if (m_currentDisplay == null) {
-            return;
-        }
-
         if (changed) {
-            m_currentDisplay.syncExec(m_repaintObject);
+            repaint();
         }
     }
 
@@ -442,7 +438,8 @@ public void reset() {
         m_currentProgressMessage = "";
         m_currentWorked = -1;
         m_unknownProgress = true;
-        unknownProgressTimer.removeFigure(this);
+        m_pendingProgress.set(null);
+        PROGRESS_PULSE.removeUnknownProgress(this);
         m_mouseEvent = null;
 
         if (getToolTipHelper() != null) {
@@ -526,86 +523,90 @@ public void mouseMoved(final MouseEvent me) {
     }
 
     /**
-     * Implements a thread that updates all figures passed to it. The thread for updating the unknown progress figures
-     * (cycling figures) is intended to run just one time. The advantage is that the expensive rendering on the display
-     * thread is only invoked once for all figures to render.
-     *
-     * @author Christoph Sieb, University of Konstanz
+     * Repaints the progress figures in batches on the display thread. Execution threads only record the latest
+     * progress of a figure and queue the figure; a single pulse, running at most every {@link #FRAME_INTERVAL} ms and
+     * only while there is something to do, shows the recorded progress of all queued figures and moves the cycling
+     * bars of figures with unknown progress. Scheduling the pulse never waits for the display thread. All progress
+     * figures are expected to live on the same (workbench) display.
      */
-    private static class UnknownProgressTimer extends Thread {
+    private static final class ProgressPulse implements Runnable {
+        /** Figures with a recorded but not yet shown progress. */
+        private final Queue<ProgressFigure> m_dirtyFigures = new ConcurrentLinkedQueue<>();
 
-        private final List<ProgressFigure> m_figuresToPaint = new ArrayList<ProgressFigure>();
+        /** Figures that show an unknown (cycling) progress. */
+        private final Set<ProgressFigure> m_unknownProgressFigures = ConcurrentHashMap.newKeySet();
 
-        /**
-         * Creats an unknown progress timer for cycling progress bar rendering.
-         */
-        public UnknownProgressTimer() {
-            super("Unknown Progress Timer");
-        }
-
-        @Override
-        public void run() {
-            while (!isInterrupted()) {
-                // if the queue is empty wait for the next
-                // figure to render
-                synchronized (m_figuresToPaint) {
-                    while (m_figuresToPaint.size() == 0) {
-                        try {
-                            m_figuresToPaint.wait();
-                        } catch (InterruptedException e) {
-                            break;
-                        }
-                    }
-                    long timestamp = System.currentTimeMillis();
+        /** Whether the pulse is scheduled on the display thread. */
+        private final AtomicBoolean m_scheduled = new AtomicBoolean();
 
-                    // a map Display to list of prog-figures - presumably this is always a single entry map
-                    Map<Display, List<ProgressFigure>> byDisplayMap = m_figuresToPaint.stream()
-                            // filter those that need updating - some got updated by ordinary repaint events
-                            .filter(p -> (timestamp - p.m_unknownProgressBarRenderingStatus.m_lastUpdateTimestamp
-                                    > UNKNOWN_PROGRESS_UPDATE_INTERVAL))
-                            .collect(Collectors.groupingBy(ProgressFigure::getCurrentDisplay));
-                    for (final Map.Entry<Display, List<ProgressFigure>> entry : byDisplayMap.entrySet()) {
-                        Display dp = entry.getKey();
-                        if ((dp != null) && !dp.isDisposed()) {
-                            dp.asyncExec(new Runnable() {
-                                @Override
-                                public void run() {
-                                    entry.getValue().stream().forEach(f -> f.repaint());
-                                }
-                            });
-                        }
-                    }
-                }
+        private volatile Display m_display;
 
-                // figure updates with some delay
-                try {
-                    Thread.sleep(UNKNOWN_PROGRESS_UPDATE_INTERVAL);
-                } catch (InterruptedException e) {
-                    break;
-                }
-            }
+        /**
+         * Queues a figure whose progress has been recorded.
+         *
+         * @param figure the figure
+         */
+        void markDirty(final ProgressFigure figure) {
+            m_dirtyFigures.add(figure);
+            schedule(figure.getCurrentDisplay());
         }
 
         /**
-         * Add a progress figure that should be rendered regularly. (Intended for cycling progress bars)
+         * Adds a figure that should be repainted regularly. (Intended for cycling progress bars)
          *
-         * @param figure The figure to render regularly
+         * @param figure the figure to render regularly
          */
-        public void addFigure(final ProgressFigure figure) {
-            synchronized (m_figuresToPaint) {
-                m_figuresToPaint.add(figure);
-                m_figuresToPaint.notify();
-            }
+        void addUnknownProgress(final ProgressFigure figure) {
+            m_unknownProgressFigures.add(figure);
+            schedule(figure.getCurrentDisplay());
         }
 
         /**
-         * Remove a figure that is no longer intended to be rendered regulary.
+         * Removes a figure that is no longer intended to be rendered regularly.
          *
          * @param figure the figure to remove
          */
-        public void removeFigure(final ProgressFigure figure) {
-            synchronized (m_figuresToPaint) {
-                m_figuresToPaint.remove(figure);
+        void removeUnknownProgress(final ProgressFigure figure) {
+            m_unknownProgressFigures.remove(figure);
+        }
+
+        private void schedule(final Display display) {
+            if ((display == null) || display.isDisposed()) {
+                return;
+            }
+            m_display = display;
+            if (m_scheduled.compareAndSet(false, true)) {
+                if (Display.getCurrent() == display) {
+                    display.timerExec(FRAME_INTERVAL, this);
+                } else {
+                    // timerExec may only be called in the display thread, asyncExec doesn't wait for it
+                    display.asyncExec(() -> display.timerExec(FRAME_INTERVAL, this));
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            ProgressFigure figure;
+            while ((figure = m_dirtyFigures.poll()) != null) {
+                figure.applyPendingProgress();
+            }
+
+            // only repaint cycling figures that have not been updated by ordinary repaint events
+            final long timestamp = System.currentTimeMillis();
+            for (ProgressFigure f : m_unknownProgressFigures) {
+                if (timestamp - f.m_unknownProgressBarRenderingStatus.m_lastUpdateTimestamp
+                        > UNKNOWN_PROGRESS_UPDATE_INTERVAL) {
+                    f.repaint();
+                }
+            }
+
+            m_scheduled.set(false);
+            // figures queued while this pulse was running need another one
+            final Display display = m_display;
+            if ((!m_dirtyFigures.isEmpty() || !m_unknownProgressFigures.isEmpty()) && (display != null)
+                && !display.isDisposed() && m_scheduled.compareAndSet(false, true)) {
+                display.timerExec(FRAME_INTERVAL, this);
             }
         }
     }
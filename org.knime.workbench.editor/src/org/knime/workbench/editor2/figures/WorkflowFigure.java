@@ -48,9 +48,11 @@
 package org.knime.workbench.editor2.figures;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+import org.eclipse.draw2d.ColorConstants;
 import org.eclipse.draw2d.Figure;
 import org.eclipse.draw2d.FigureListener;
 import org.eclipse.draw2d.FreeformLayeredPane;
@@ -97,6 +99,9 @@ public class WorkflowFigure extends FreeformLayeredPane implements ControlListen
 
     private Viewport m_viewport;
 
+    /** Approximate bounds of the nodes that have no figure (only in large workflow mode). */
+    private List<Rectangle> m_nodeStandIns = Collections.emptyList();
+
     /**
      * New workflow root figure.
      */
@@ -186,6 +191,33 @@ protected void paintFigure(final Graphics graphics) {
                 imgBox.width, imgBox.height + 5);
         }
         paintWatermarkWallpaper(graphics);
+        paintNodeStandIns(graphics);
+    }
+
+    private void paintNodeStandIns(final Graphics graphics) {
+        if (!m_nodeStandIns.isEmpty()) {
+            final Rectangle clip = graphics.getClip(new Rectangle());
+            graphics.pushState();
+            graphics.setBackgroundColor(ColorConstants.lightGray);
+            for (final Rectangle standIn : m_nodeStandIns) {
+                if (standIn.intersects(clip)) {
+                    graphics.fillRectangle(standIn);
+                }
+            }
+            graphics.popState();
+        }
+    }
+
+    /**
+     * Sets the bounds of the nodes that are drawn as simple stand-ins as they have no figure of their own (which is the
+     * case for nodes outside the visible area of very large workflows). The stand-ins also extend the canvas.
+     *
+     * @param nodeStandIns the approximate bounds of the nodes without figure, not <code>null</code>
+     */
+    public void setNodeStandIns(final List<Rectangle> nodeStandIns) {
+        m_nodeStandIns = nodeStandIns;
+        ensureExpandedCanvas();
+        repaint();
     }
 
     private void paintWatermarkWallpaper(final Graphics graphics) {
@@ -334,7 +366,7 @@ private void augmentBottomWhitespaceBuffer(final int pixelHeight, final Rectangl
 
     // This should be called on the SWT thread.
     private void ensureExpandedCanvas() {
-        if (getChildren().size() == 3) {
+        if ((getChildren().size() == 3) && m_nodeStandIns.isEmpty()) {
             // There are only tent stakes in the canvas
             return;
         }
@@ -368,6 +400,23 @@ private void ensureExpandedCanvas() {
 
     // This returns the minimum bounds of the workflow canvas without tent stakes
     private Rectangle calculateStakelessBoundingRectangle(final boolean minimumBounding) {
+        final Rectangle childBounds = calculateChildBoundingRectangle(minimumBounding);
+        if (m_nodeStandIns.isEmpty()) {
+            return childBounds;
+        }
+
+        Rectangle bounds = childBounds.isEmpty() ? null : childBounds;
+        for (final Rectangle standIn : m_nodeStandIns) {
+            bounds = (bounds == null) ? standIn.getCopy() : bounds.union(standIn);
+        }
+        if (!minimumBounding) {
+            bounds.union(0, 0);
+        }
+        return bounds;
+    }
+
+    // The bounds of the child figures, see calculateStakelessBoundingRectangle
+    private Rectangle calculateChildBoundingRectangle(final boolean minimumBounding) {
         final List<?> children = getChildren();
         final int count = children.size();
 
@@ -186,6 +186,42 @@ public void testResolveWorkflowRelativeLocal() throws Exception {
         assertThat("Unexpected resolved URL", conn.getURL().toURI(), is(expectedPath.toUri()));
     }
 
+    /**
+     * Checks that cached resolutions of workflow-relative knime-URLs are not used once the workflow has a context with
+     * a different location.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testResolveWorkflowRelativeAfterMove() throws Exception {
+        URL url = new URL("knime://knime.workflow/workflow.knime");
+
+        Path currentLocation = KNIMEConstants.getKNIMETempPath().resolve("root").resolve("workflow");
+        WorkflowCreationHelper ch = new WorkflowCreationHelper();
+        WorkflowContext.Factory fac = new WorkflowContext.Factory(currentLocation.toFile());
+        fac.setMountpointRoot(currentLocation.getParent().toFile());
+        ch.setWorkflowContext(fac.createContext());
+        WorkflowManager wfm = WorkflowManager.ROOT.createAndAddProject("Test" + UUID.randomUUID(), ch);
+        NodeContext.pushContext(wfm);
+
+        Path expectedPath = currentLocation.resolve("workflow.knime");
+        assertThat("Unexpected resolved URL", m_handler.openConnection(url).getURL().toURI(),
+            is(expectedPath.toUri()));
+        assertThat("Unexpected resolved URL on second resolution", m_handler.openConnection(url).getURL().toURI(),
+            is(expectedPath.toUri()));
+
+        Path movedLocation = KNIMEConstants.getKNIMETempPath().resolve("root").resolve("moved workflow");
+        fac = new WorkflowContext.Factory(movedLocation.toFile());
+        fac.setMountpointRoot(movedLocation.getParent().toFile());
+        ch.setWorkflowContext(fac.createContext());
+        wfm = WorkflowManager.ROOT.createAndAddProject("Test" + UUID.randomUUID(), ch);
+        NodeContext.pushContext(wfm);
+
+        expectedPath = movedLocation.resolve("workflow.knime");
+        assertThat("Unexpected resolved URL after move", m_handler.openConnection(url).getURL().toURI(),
+            is(expectedPath.toUri()));
+    }
+
     /**
      * Checks if workflow-relative knime-URLs are resolved correctly for old executors.
      *
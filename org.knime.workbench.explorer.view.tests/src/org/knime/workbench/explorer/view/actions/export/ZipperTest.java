@@ -51,23 +51,32 @@
 import static org.apache.commons.io.filefilter.FileFilterUtils.nameFileFilter;
 import static org.apache.commons.io.filefilter.FileFilterUtils.notFileFilter;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Platform;
@@ -172,6 +181,51 @@ public void testZipFilesWithAllFilesAndFolders() throws Exception {
         assertThat("File count in extracted zip", indexInExtracted.get(Boolean.FALSE).size(), is(4));
     }
 
+    /** Files spanning several compression chunks are restored exactly, compressed formats are stored as is. */
+    @Test
+    public void testLargeAndCompressedFiles() throws Exception {
+        File folder = m_tempParentFolder.newFolder("large");
+        Random random = new Random(13538);
+        byte[] text = new byte[2 * ParallelZipWriter.CHUNK_SIZE + 4711];
+        for (int i = 0; i < text.length; i++) {
+            text[i] = (byte)(i % 3 == 0 ? random.nextInt(256) : 'a' + (i % 26));
+        }
+        byte[] table = new byte[ParallelZipWriter.CHUNK_SIZE + 42];
+        random.nextBytes(table);
+        File textFile = new File(folder, "settings.xml");
+        File tableFile = new File(folder, "data.zip");
+        Files.write(textFile.toPath(), text);
+        Files.write(tableFile.toPath(), table);
+
+        File targetZipFile = m_tempParentFolder.newFile("ZipperTest.zip");
+        Zipper.zipFiles(Arrays.asList(textFile, tableFile), targetZipFile, folder.toPath().getNameCount() - 1, 1,
+            new NullProgressMonitor());
+        try (ZipFile zipFile = new ZipFile(targetZipFile)) {
+            ZipEntry textEntry = zipFile.getEntry("large/settings.xml");
+            assertThat("Compression method of text file", textEntry.getMethod(), is(ZipEntry.DEFLATED));
+            try (InputStream in = zipFile.getInputStream(textEntry)) {
+                assertTrue("Content of deflated file differs", Arrays.equals(IOUtils.toByteArray(in), text));
+            }
+            ZipEntry tableEntry = zipFile.getEntry("large/data.zip");
+            assertThat("Compression method of zip file", tableEntry.getMethod(), is(ZipEntry.STORED));
+            try (InputStream in = zipFile.getInputStream(tableEntry)) {
+                assertTrue("Content of stored file differs", Arrays.equals(IOUtils.toByteArray(in), table));
+            }
+        }
+    }
+
+    /** Archives without entries are invalid, creating one fails and leaves no file behind. */
+    @Test
+    public void testZipNoFiles() throws Exception {
+        File targetZipFile = m_tempParentFolder.newFile("ZipperTest.zip");
+        try {
+            Zipper.zipFiles(Collections.<File> emptyList(), targetZipFile, 0, new NullProgressMonitor());
+            fail("Zipping no files should fail");
+        } catch (IOException expected) { // NOSONAR
+        }
+        assertFalse("Archive without entries exists", targetZipFile.exists());
+    }
+
     /** A map with:
      * TRUE -> the list of folders within the argument path (excluding the arg path)
      * FALSE -> the list of files in that path
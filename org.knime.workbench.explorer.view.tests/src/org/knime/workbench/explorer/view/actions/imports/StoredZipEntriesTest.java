@@ -0,0 +1,287 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026: created
+ */
+package org.knime.workbench.explorer.view.actions.imports;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Testcases for {@link StoredZipEntries}, which reads the central directory of zip archives itself.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class StoredZipEntriesTest {
+
+    @Rule
+    public TemporaryFolder m_tempFolder = new TemporaryFolder();
+
+    private final Map<String, byte[]> m_contents = new LinkedHashMap<>();
+
+    private void createContents() {
+        final Random random = new Random(42);
+        final byte[] large = new byte[StoredZipEntries.CHUNK_SIZE * 2 + 17];
+        random.nextBytes(large);
+        m_contents.put("workflow/workflow.knime", "<config/>".getBytes(StandardCharsets.UTF_8));
+        m_contents.put("workflow/empty.txt", new byte[0]);
+        m_contents.put("workflow/data/\u00e4rger.bin", large);
+    }
+
+    /** Stored entries of an archive written by {@link ZipOutputStream}, compressed entries aren't available. */
+    @Test
+    public void testStoredEntries() throws IOException {
+        createContents();
+        final File archive = m_tempFolder.newFile("stored.zip");
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(archive))) {
+            for (Map.Entry<String, byte[]> e : m_contents.entrySet()) {
+                final ZipEntry entry = new ZipEntry(e.getKey());
+                entry.setMethod(ZipEntry.STORED);
+                entry.setSize(e.getValue().length);
+                entry.setCrc(crc(e.getValue()));
+                out.putNextEntry(entry);
+                out.write(e.getValue());
+                out.closeEntry();
+            }
+            out.putNextEntry(new ZipEntry("workflow/deflated.txt"));
+            out.write(new byte[1000]);
+            out.closeEntry();
+        }
+
+        assertAllTransferred(archive);
+        try (ZipFile zipFile = new ZipFile(archive); StoredZipEntries entries = StoredZipEntries.open(archive)) {
+            assertFalse("Deflated entry is available", entries.isAvailable(zipFile.getEntry("workflow/deflated.txt")));
+        }
+    }
+
+    /** Stored entries whose sizes and checksum follow their data in a data descriptor. */
+    @Test
+    public void testDataDescriptors() throws IOException {
+        createContents();
+        final File archive = m_tempFolder.newFile("descriptors.zip");
+        writeArchive(archive, false, true);
+        assertAllTransferred(archive);
+    }
+
+    /** Sizes and offsets are only given in the Zip64 extra fields and the Zip64 end of central directory. */
+    @Test
+    public void testZip64() throws IOException {
+        createContents();
+        final File archive = m_tempFolder.newFile("zip64.zip");
+        writeArchive(archive, true, false);
+        assertAllTransferred(archive);
+
+        final File archiveWithDescriptors = m_tempFolder.newFile("zip64-descriptors.zip");
+        writeArchive(archiveWithDescriptors, true, true);
+        assertAllTransferred(archiveWithDescriptors);
+    }
+
+    /** Files that aren't (complete) zip archives are rejected, so that the import falls back to the zip file. */
+    @Test
+    public void testInvalidArchives() throws IOException {
+        final File noArchive = m_tempFolder.newFile("no-archive.zip");
+        Files.write(noArchive.toPath(), "just some text".getBytes(StandardCharsets.UTF_8));
+        assertOpenFails(noArchive);
+        assertOpenFails(m_tempFolder.newFile("empty.zip"));
+
+        createContents();
+        final File archive = m_tempFolder.newFile("complete.zip");
+        writeArchive(archive, false, false);
+        final byte[] bytes = Files.readAllBytes(archive.toPath());
+
+        // the end of central directory is missing
+        final File truncated = m_tempFolder.newFile("truncated.zip");
+        Files.write(truncated.toPath(), Arrays.copyOf(bytes, bytes.length - 10));
+        assertOpenFails(truncated);
+
+        // the central directory is intact but the last entry's data is cut off
+        final File truncatedData = m_tempFolder.newFile("truncated-data.zip");
+        final int cenOffset = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).getInt(bytes.length - 6);
+        final ByteBuffer cut = ByteBuffer.allocate(bytes.length - 1000).order(ByteOrder.LITTLE_ENDIAN);
+        cut.put(bytes, 0, cenOffset - 1000).put(bytes, cenOffset, bytes.length - cenOffset);
+        cut.putInt(cut.capacity() - 6, cenOffset - 1000);
+        Files.write(truncatedData.toPath(), cut.array());
+        try (StoredZipEntries entries = StoredZipEntries.open(truncatedData)) {
+            final ZipEntry entry = new ZipEntry("workflow/data/\u00e4rger.bin");
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(m_contents.get(entry.getName()).length);
+            assertTrue("Entry not available", entries.isAvailable(entry));
+            entries.transferTo(entry, m_tempFolder.newFile(), () -> false);
+            fail("Transfer of truncated entry did not fail");
+        } catch (IOException e) { // NOSONAR expected
+        }
+    }
+
+    /** A cancellation is noticed between the chunks of an entry. */
+    @Test
+    public void testCancel() throws IOException {
+        createContents();
+        final File archive = m_tempFolder.newFile("cancel.zip");
+        writeArchive(archive, false, false);
+        final String name = "workflow/data/\u00e4rger.bin";
+        final File target = m_tempFolder.newFile();
+        final int[] checks = new int[1];
+        try (ZipFile zipFile = new ZipFile(archive); StoredZipEntries entries = StoredZipEntries.open(archive)) {
+            entries.transferTo(zipFile.getEntry(name), target, () -> ++checks[0] > 1);
+            fail("Transfer was not canceled");
+        } catch (IOException e) {
+            assertThat("Unexpected exception", e.getMessage(), is("Canceled."));
+        }
+        assertThat("Unexpected number of transferred bytes", target.length(), is((long)StoredZipEntries.CHUNK_SIZE));
+    }
+
+    private void assertAllTransferred(final File archive) throws IOException {
+        try (ZipFile zipFile = new ZipFile(archive); StoredZipEntries entries = StoredZipEntries.open(archive)) {
+            for (Map.Entry<String, byte[]> e : m_contents.entrySet()) {
+                final ZipEntry entry = zipFile.getEntry(e.getKey());
+                assertTrue("Entry \"" + e.getKey() + "\" not available", entries.isAvailable(entry));
+                final File target = m_tempFolder.newFile();
+                entries.transferTo(entry, target, () -> false);
+                assertTrue("Wrong content of entry \"" + e.getKey() + "\"",
+                    Arrays.equals(e.getValue(), Files.readAllBytes(target.toPath())));
+            }
+        }
+    }
+
+    private static void assertOpenFails(final File file) {
+        try (StoredZipEntries entries = StoredZipEntries.open(file)) {
+            fail("Invalid archive \"" + file.getName() + "\" was opened");
+        } catch (IOException e) { // NOSONAR expected
+        }
+    }
+
+    private static long crc(final byte[] content) {
+        final CRC32 crc = new CRC32();
+        crc.update(content);
+        return crc.getValue();
+    }
+
+    /**
+     * Writes the contents as stored entries, optionally with all sizes and offsets in Zip64 extra fields and with
+     * data descriptors instead of sizes and checksums in the local headers.
+     */
+    private void writeArchive(final File archive, final boolean zip64, final boolean dataDescriptor)
+        throws IOException {
+        final ByteBuffer out = ByteBuffer.allocate(StoredZipEntries.CHUNK_SIZE * 3).order(ByteOrder.LITTLE_ENDIAN);
+        final ByteBuffer cen = ByteBuffer.allocate(4096).order(ByteOrder.LITTLE_ENDIAN);
+        final int version = zip64 ? 45 : 20;
+        final int flags = 0x0800 | (dataDescriptor ? 0x0008 : 0);
+        for (Map.Entry<String, byte[]> e : m_contents.entrySet()) {
+            final byte[] name = e.getKey().getBytes(StandardCharsets.UTF_8);
+            final byte[] content = e.getValue();
+            final long crc = crc(content);
+            final int offset = out.position();
+
+            out.putInt(0x04034b50).putShort((short)version).putShort((short)flags).putShort((short)ZipEntry.STORED);
+            out.putShort((short)0).putShort((short)0x21);
+            out.putInt(dataDescriptor ? 0 : (int)crc);
+            if (zip64) {
+                out.putInt(-1).putInt(-1).putShort((short)name.length).putShort((short)20).put(name);
+                out.putShort((short)0x0001).putShort((short)16);
+                out.putLong(dataDescriptor ? 0 : content.length).putLong(dataDescriptor ? 0 : content.length);
+            } else {
+                out.putInt(dataDescriptor ? 0 : content.length).putInt(dataDescriptor ? 0 : content.length);
+                out.putShort((short)name.length).putShort((short)0).put(name);
+            }
+            out.put(content);
+            if (dataDescriptor) {
+                out.putInt(0x08074b50).putInt((int)crc);
+                if (zip64) {
+                    out.putLong(content.length).putLong(content.length);
+                } else {
+                    out.putInt(content.length).putInt(content.length);
+                }
+            }
+
+            cen.putInt(0x02014b50).putShort((short)version).putShort((short)version).putShort((short)flags);
+            cen.putShort((short)ZipEntry.STORED).putShort((short)0).putShort((short)0x21).putInt((int)crc);
+            cen.putInt(zip64 ? -1 : content.length).putInt(zip64 ? -1 : content.length);
+            cen.putShort((short)name.length).putShort((short)(zip64 ? 28 : 0)).putShort((short)0);
+            cen.putShort((short)0).putShort((short)0).putInt(0).putInt(zip64 ? -1 : offset).put(name);
+            if (zip64) {
+                cen.putShort((short)0x0001).putShort((short)24);
+                cen.putLong(content.length).putLong(content.length).putLong(offset);
+            }
+        }
+
+        final int cenOffset = out.position();
+        final int cenSize = cen.position();
+        out.put((ByteBuffer)cen.flip());
+        if (zip64) {
+            final int end64Offset = out.position();
+            out.putInt(0x06064b50).putLong(44).putShort((short)version).putShort((short)version).putInt(0).putInt(0);
+            out.putLong(m_contents.size()).putLong(m_contents.size()).putLong(cenSize).putLong(cenOffset);
+            out.putInt(0x07064b50).putInt(0).putLong(end64Offset).putInt(1);
+        }
+        out.putInt(0x06054b50).putShort((short)0).putShort((short)0);
+        out.putShort((short)(zip64 ? -1 : m_contents.size())).putShort((short)(zip64 ? -1 : m_contents.size()));
+        out.putInt(zip64 ? -1 : cenSize).putInt(zip64 ? -1 : cenOffset).putShort((short)0);
+        Files.write(archive.toPath(), Arrays.copyOf(out.array(), out.position()));
+    }
+}
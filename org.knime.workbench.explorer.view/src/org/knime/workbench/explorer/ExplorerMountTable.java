@@ -52,6 +52,7 @@
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -124,10 +125,13 @@ private ExplorerMountTable() {
 
     /**
      * Keeps all currently mounted content with the mountID (provided by the
-     * user).
+     * user). The map is never modified, changes replace it with a new map so
+     * that readers neither block nor see intermediate states.
      */
-    private static final HashMap<String, MountPoint> MOUNTED =
-            new LinkedHashMap<String, MountPoint>();
+    private static volatile Map<String, MountPoint> mounted = Collections.emptyMap();
+
+    /** Serializes all changes of the mount table, reading doesn't require it. */
+    private static final Object WRITE_LOCK = new Object();
 
     /**
      * Creates a new instance of the specified content provider. May open a user
@@ -194,46 +198,44 @@ public static void checkMountID(final String id)
      * @param mountIDs a list of mount ids
      */
     public static void setMountOrder(final List<String> mountIDs) {
-        if (!compareSortOrder(mountIDs)) {
-            synchronized (MOUNTED) {
-                for (String mountID : mountIDs) {
-                    MountPoint mountPoint = MOUNTED.get(mountID);
-                    if (mountPoint != null) {
-                        /*
-                         * Remove the mount point and insert it again immediately to
-                         * get the same order as in the mount id list.
-                         */
-                        MOUNTED.remove(mountID);
-                        notifyListeners(new PropertyChangeEvent(mountPoint, MOUNT_POINT_PROPERTY,
-                            mountID, null));
-                        MOUNTED.put(mountID, mountPoint);
-                        notifyListeners(new PropertyChangeEvent(mountPoint,
-                            MOUNT_POINT_PROPERTY, null, mountID));
-                    }
+        synchronized (WRITE_LOCK) {
+            final Map<String, MountPoint> table = mounted;
+            if (compareSortOrder(table, mountIDs)) {
+                return;
+            }
+            /*
+             * Mount points in the list are moved to the end in the order of the list, all others keep their
+             * position in front of them.
+             */
+            final Map<String, MountPoint> newTable = new LinkedHashMap<>(table);
+            for (String mountID : mountIDs) {
+                MountPoint mountPoint = newTable.remove(mountID);
+                if (mountPoint != null) {
+                    newTable.put(mountID, mountPoint);
                 }
             }
+            notifyListeners(table, publish(newTable));
         }
     }
 
     /**
+     * @param table the mount table
      * @param mountIDs a list of mount IDs in the expected order
      * @return if the sort order of the passed list of mount IDs is the same as in the mount table
      */
-    private static boolean compareSortOrder(final List<String> mountIDs) {
-        synchronized (MOUNTED) {
-            // sanity check
-            if (mountIDs.size() != MOUNTED.size()) {
+    private static boolean compareSortOrder(final Map<String, MountPoint> table, final List<String> mountIDs) {
+        // sanity check
+        if (mountIDs.size() != table.size()) {
+            return false;
+        }
+        // compare entry set with mount ID list
+        Iterator<Entry<String, MountPoint>> iterator = table.entrySet().iterator();
+        for (int i = 0; i < mountIDs.size(); i++) {
+            if (!mountIDs.get(i).equals(iterator.next().getKey())) {
                 return false;
             }
-            // compare entry set with mount ID list
-            Iterator<Entry<String, MountPoint>> iterator = MOUNTED.entrySet().iterator();
-            for (int i = 0; i < mountIDs.size(); i++) {
-                if (!mountIDs.get(i).equals(iterator.next().getKey())) {
-                    return false;
-                }
-            }
-            return true;
         }
+        return true;
     }
 
     /**
@@ -264,9 +266,10 @@ public static AbstractContentProvider mount(final String mountID,
     private static AbstractContentProvider mountOrRestore(final String mountID,
             final String providerID, final String storage) throws IOException {
         checkMountID(mountID);
-        synchronized (MOUNTED) {
+        synchronized (WRITE_LOCK) {
+            final Map<String, MountPoint> table = mounted;
             // can't mount different providers with the same ID
-            MountPoint existMp = MOUNTED.get(mountID);
+            MountPoint existMp = table.get(mountID);
             if (existMp != null) {
                 if (existMp.getProviderFactory().getID().equals(providerID)) {
                     // re-use the provider
@@ -294,7 +297,7 @@ private static AbstractContentProvider mountOrRestore(final String mountID,
                                 + "specified id (" + providerID
                                 + ") is not available.");
             }
-            if (!fac.multipleInstances() && isMounted(providerID)) {
+            if (!fac.multipleInstances() && !getMountIDs(table, providerID).isEmpty()) {
                 throw new IllegalStateException("Cannot mount "
                         + fac.toString() + " multiple times.");
             }
@@ -315,10 +318,9 @@ private static AbstractContentProvider mountOrRestore(final String mountID,
             }
 
             MountPoint mp = new MountPoint(mountID, newProvider, fac);
-            synchronized (MOUNTED) {
-                MOUNTED.put(mountID, mp);
-                notifyListeners(new PropertyChangeEvent(mp, MOUNT_POINT_PROPERTY, null, mp.getMountID()));
-            }
+            final Map<String, MountPoint> newTable = new LinkedHashMap<>(table);
+            newTable.put(mountID, mp);
+            notifyListeners(table, publish(newTable));
             return newProvider;
         }
     }
@@ -327,15 +329,18 @@ private static AbstractContentProvider mountOrRestore(final String mountID,
      * @param mountID the id to unmount
      * @return true if unmounting was successful, false otherwise
      */
-    public static synchronized boolean unmount(final String mountID) {
-        synchronized (MOUNTED) {
-            MountPoint mp = MOUNTED.remove(mountID);
+    public static boolean unmount(final String mountID) {
+        synchronized (WRITE_LOCK) {
+            final Map<String, MountPoint> table = mounted;
+            MountPoint mp = table.get(mountID);
             if (mp == null) {
                 return false;
             }
+            final Map<String, MountPoint> newTable = new LinkedHashMap<>(table);
+            newTable.remove(mountID);
+            final Map<String, MountPoint> published = publish(newTable);
             mp.dispose();
-            notifyListeners(new PropertyChangeEvent(mp, MOUNT_POINT_PROPERTY,
-                    mp.getMountID(), null));
+            notifyListeners(table, published);
             return true;
         }
     }
@@ -344,11 +349,13 @@ public static synchronized boolean unmount(final String mountID) {
      * Unmounts all MountPoints.
      */
     public static void unmountAll() {
-        synchronized (MOUNTED) {
-            List<String> ids = getAllMountedIDs();
-            for (String id : ids) {
-                unmount(id);
+        synchronized (WRITE_LOCK) {
+            final Map<String, MountPoint> table = mounted;
+            final Map<String, MountPoint> published = publish(new LinkedHashMap<>());
+            for (MountPoint mp : table.values()) {
+                mp.dispose();
             }
+            notifyListeners(table, published);
         }
     }
 
@@ -363,16 +370,15 @@ public static void unmountAll() {
             getAddableContentProviders() {
         LinkedList<AbstractContentProviderFactory> result =
                 new LinkedList<AbstractContentProviderFactory>();
-        // nobody should add a new provider while we are working
-        synchronized (MOUNTED) {
-            for (Map.Entry<String, AbstractContentProviderFactory> e
-                    : CONTENT_FACTORIES.entrySet()) {
-                String facID = e.getKey();
-                AbstractContentProviderFactory fac = e.getValue();
-                if (fac.multipleInstances()
-                        || !(isMounted(facID))) {
-                    result.add(fac);
-                }
+        // all checks work on the same state of the mount table
+        final Map<String, MountPoint> table = mounted;
+        for (Map.Entry<String, AbstractContentProviderFactory> e
+                : CONTENT_FACTORIES.entrySet()) {
+            String facID = e.getKey();
+            AbstractContentProviderFactory fac = e.getValue();
+            if (fac.multipleInstances()
+                    || getMountIDs(table, facID).isEmpty()) {
+                result.add(fac);
             }
         }
         return result;
@@ -420,11 +426,9 @@ public static AbstractContentProviderFactory getContentProviderFactory(
      */
     public static List<String> getAllVisibleMountIDs() {
         ArrayList<String> result = new ArrayList<String>();
-        synchronized (MOUNTED) {
-            for (Map.Entry<String, MountPoint> e : MOUNTED.entrySet()) {
-                if (!e.getValue().getProviderFactory().isTempSpace()) {
-                    result.add(e.getKey());
-                }
+        for (Map.Entry<String, MountPoint> e : mounted.entrySet()) {
+            if (!e.getValue().getProviderFactory().isTempSpace()) {
+                result.add(e.getKey());
             }
         }
         return result;
@@ -436,13 +440,11 @@ public static List<String> getAllVisibleMountIDs() {
      */
     public static List<String> getAllVisibleLocalMountIDs() {
         final ArrayList<String> result = new ArrayList<String>();
-        synchronized (MOUNTED) {
-            for (Map.Entry<String, MountPoint> e : MOUNTED.entrySet()) {
-                final MountPoint mountPoint = e.getValue();
-                if (!mountPoint.getProviderFactory().isTempSpace()
-                        && !mountPoint.getProvider().isRemote()) {
-                    result.add(e.getKey());
-                }
+        for (Map.Entry<String, MountPoint> e : mounted.entrySet()) {
+            final MountPoint mountPoint = e.getValue();
+            if (!mountPoint.getProviderFactory().isTempSpace()
+                    && !mountPoint.getProvider().isRemote()) {
+                result.add(e.getKey());
             }
         }
         return result;
@@ -453,9 +455,7 @@ public static List<String> getAllVisibleLocalMountIDs() {
      * @since 6.4
      */
     public static List<String> getAllMountedIDs() {
-        synchronized (MOUNTED) {
-            return new ArrayList<String>(MOUNTED.keySet());
-        }
+        return new ArrayList<String>(mounted.keySet());
     }
 
     /**
@@ -466,10 +466,8 @@ public static List<String> getAllMountedIDs() {
     public static Map<String, AbstractContentProvider> getMountedContentInclTempSpace() {
         HashMap<String, AbstractContentProvider> result =
                 new LinkedHashMap<String, AbstractContentProvider>();
-        synchronized (MOUNTED) {
-            for (Map.Entry<String, MountPoint> e : MOUNTED.entrySet()) {
-                result.put(e.getKey(), e.getValue().getProvider());
-            }
+        for (Map.Entry<String, MountPoint> e : mounted.entrySet()) {
+            result.put(e.getKey(), e.getValue().getProvider());
         }
         return result;
     }
@@ -480,11 +478,9 @@ public static Map<String, AbstractContentProvider> getMountedContentInclTempSpac
     public static Map<String, AbstractContentProvider> getMountedContent() {
         HashMap<String, AbstractContentProvider> result =
                 new LinkedHashMap<String, AbstractContentProvider>();
-        synchronized (MOUNTED) {
-            for (Map.Entry<String, MountPoint> e : MOUNTED.entrySet()) {
-                if (!e.getValue().getProviderFactory().isTempSpace()) {
-                    result.put(e.getKey(), e.getValue().getProvider());
-                }
+        for (Map.Entry<String, MountPoint> e : mounted.entrySet()) {
+            if (!e.getValue().getProviderFactory().isTempSpace()) {
+                result.put(e.getKey(), e.getValue().getProvider());
             }
         }
         return result;
@@ -498,9 +494,7 @@ public static Map<String, AbstractContentProvider> getMountedContent() {
      * @return null, if no content is mounted with the specified ID
      */
     public static MountPoint getMountPoint(final String mountID) {
-        synchronized (MOUNTED) {
-            return MOUNTED.get(mountID);
-        }
+        return mounted.get(mountID);
     }
 
     /**
@@ -530,14 +524,15 @@ public static List<String> getMountIDs(final String providerID) {
             throw new IllegalArgumentException(
                     "Internal error: provider ID can't be null");
         }
-        LinkedList<String> mountIDs = new LinkedList<String>();
+        return getMountIDs(mounted, providerID);
+    }
 
-        synchronized (MOUNTED) {
-            for (Map.Entry<String, MountPoint> e : MOUNTED.entrySet()) {
-                MountPoint mp = e.getValue();
-                if (providerID.equals(mp.getProviderFactory().getID())) {
-                    mountIDs.add(e.getKey());
-                }
+    private static List<String> getMountIDs(final Map<String, MountPoint> table, final String providerID) {
+        LinkedList<String> mountIDs = new LinkedList<String>();
+        for (Map.Entry<String, MountPoint> e : table.entrySet()) {
+            MountPoint mp = e.getValue();
+            if (providerID.equals(mp.getProviderFactory().getID())) {
+                mountIDs.add(e.getKey());
             }
         }
         return mountIDs;
@@ -687,9 +682,9 @@ private static void collectContentProviderFactories() {
      * plugin's preference store.
      */
     public static void init() {
-        unmountAll();
-        mountTempSpace();
-        synchronized (MOUNTED) {
+        synchronized (WRITE_LOCK) {
+            unmountAll();
+            mountTempSpace();
             for (MountSettings ms : getMountSettings()) {
                 // ignore inactive
                 if (!ms.isActive()) {
@@ -808,6 +803,49 @@ private static void notifyListeners(final PropertyChangeEvent event) {
         }
     }
 
+    /* Replaces the mount table, must be called while holding the write lock. */
+    private static Map<String, MountPoint> publish(final Map<String, MountPoint> newTable) {
+        final Map<String, MountPoint> table = Collections.unmodifiableMap(newTable);
+        mounted = table;
+        return table;
+    }
+
+    /**
+     * Notifies the listeners about the differences between two states of the mount table. Removed mount points are
+     * reported first. Mount points that changed their position are reported as removed and added again (like newly
+     * added mount points, in the order of the new table) so that listeners which append added mount points end up in
+     * the new order.
+     */
+    private static void notifyListeners(final Map<String, MountPoint> oldTable,
+        final Map<String, MountPoint> newTable) {
+        ResolvedURLCache.clear();
+        final List<String> kept = new ArrayList<>();
+        for (Map.Entry<String, MountPoint> e : oldTable.entrySet()) {
+            MountPoint mp = e.getValue();
+            if (newTable.get(e.getKey()) == mp) {
+                kept.add(e.getKey());
+            } else {
+                notifyListeners(new PropertyChangeEvent(mp, MOUNT_POINT_PROPERTY, e.getKey(), null));
+            }
+        }
+        // mount points kept in the same relative order up to the first change don't move
+        int index = 0;
+        boolean moved = false;
+        for (Map.Entry<String, MountPoint> e : newTable.entrySet()) {
+            String mountID = e.getKey();
+            MountPoint mp = e.getValue();
+            if (oldTable.get(mountID) != mp) {
+                notifyListeners(new PropertyChangeEvent(mp, MOUNT_POINT_PROPERTY, null, mountID));
+                continue;
+            }
+            moved |= !mountID.equals(kept.get(index++));
+            if (moved) {
+                notifyListeners(new PropertyChangeEvent(mp, MOUNT_POINT_PROPERTY, mountID, null));
+                notifyListeners(new PropertyChangeEvent(mp, MOUNT_POINT_PROPERTY, null, mountID));
+            }
+        }
+    }
+
     /**
      * Updates the settings of all providers in the preferences. Some providers may get additional attributes once they
      * are used (e.g. the REST address for server mount points) which should be persisted.
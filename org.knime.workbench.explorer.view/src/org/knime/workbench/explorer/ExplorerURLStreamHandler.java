@@ -61,6 +61,8 @@
 import java.net.URLConnection;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Optional;
 
 import javax.net.ssl.HttpsURLConnection;
@@ -78,6 +80,7 @@
 import org.knime.core.util.KNIMEServerHostnameVerifier;
 import org.knime.workbench.explorer.filesystem.AbstractExplorerFileStore;
 import org.knime.workbench.explorer.filesystem.ExplorerFileSystem;
+import org.knime.workbench.explorer.filesystem.LocalExplorerFileStore;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.FrameworkUtil;
@@ -203,17 +206,38 @@ public static URL resolveKNIMEURL(final URL url) throws IOException {
             }
         }
 
+        if (NODE_RELATIVE.equalsIgnoreCase(url.getHost())) {
+            // depends on the node's directory and not only on the workflow context, hence not cached
+            return UTF8_ENCODER
+                .encodePathSegments(resolveNodeRelativeUrl(url, NodeContext.getContext(), workflowContext));
+        }
+
+        final Object cacheContext = getCacheContext(workflowContext);
+        final Optional<URL> cachedUrl = ResolvedURLCache.getResolvedURL(cacheContext, url);
+        if (cachedUrl.isPresent()) {
+            return cachedUrl.get();
+        }
+
+        URL resolvedUrl;
         if (WORKFLOW_RELATIVE.equalsIgnoreCase(url.getHost())) {
-            return UTF8_ENCODER.encodePathSegments(resolveWorkflowRelativeUrl(url, workflowContext));
+            resolvedUrl = UTF8_ENCODER.encodePathSegments(resolveWorkflowRelativeUrl(url, workflowContext));
         } else if (MOUNTPOINT_RELATIVE.equalsIgnoreCase(url.getHost()) || ((workflowContext != null)
             && url.getHost().equalsIgnoreCase(getRemoteMountId(workflowContext).orElse(null)))) {
-            return UTF8_ENCODER.encodePathSegments(resolveMountpointRelativeUrl(url, workflowContext));
-        } else if (NODE_RELATIVE.equalsIgnoreCase(url.getHost())) {
-            return UTF8_ENCODER
-                .encodePathSegments(resolveNodeRelativeUrl(url, NodeContext.getContext(), workflowContext));
+            resolvedUrl = UTF8_ENCODER.encodePathSegments(resolveMountpointRelativeUrl(url, workflowContext));
         } else {
-            return UTF8_ENCODER.encodePathSegments(url);
+            resolvedUrl = UTF8_ENCODER.encodePathSegments(url);
+        }
+        ResolvedURLCache.putResolvedURL(cacheContext, url, resolvedUrl);
+        return resolvedUrl;
+    }
+
+    /* The wrapper of a local workflow context may be created anew on each call, the wrapped context is only replaced
+     * if the workflow's location changes. */
+    private static Object getCacheContext(final WorkflowContextUI workflowContext) {
+        if ((workflowContext != null) && wraps(workflowContext, WorkflowContext.class)) {
+            return unwrap(workflowContext, WorkflowContext.class);
         }
+        return workflowContext;
     }
 
     private static Optional<String> getRemoteMountId(final WorkflowContextUI workflowContext) {
@@ -416,9 +440,27 @@ private static boolean leavesWorkflow(final String decodedPath) {
     static class ExplorerURLConnection extends URLConnection {
         private final AbstractExplorerFileStore m_file;
 
+        /** The file behind a store of a local mount point, <code>null</code> for other stores. */
+        private final Path m_localFile;
+
+        /** The content length, determined once per connection; <code>null</code> if not determined yet. */
+        private Long m_contentLength;
+
         ExplorerURLConnection(final URL u, final AbstractExplorerFileStore file) {
             super(u);
             m_file = file;
+            m_localFile = toLocalPath(file);
+        }
+
+        private static Path toLocalPath(final AbstractExplorerFileStore file) {
+            if (file instanceof LocalExplorerFileStore) {
+                try {
+                    File localFile = file.toLocalFile();
+                    return (localFile == null) ? null : localFile.toPath();
+                } catch (CoreException e) { // NOSONAR falls back to reading through the file store
+                }
+            }
+            return null;
         }
 
         /**
@@ -437,6 +479,10 @@ public InputStream getInputStream() throws IOException {
             if (m_file == null) {
                 throw new IOException("Resource associated with \"" + getURL() + "\" does not exist");
             }
+            if (m_localFile != null && Files.isRegularFile(m_localFile)) {
+                // local fast path: a channel-backed stream directly on the file, without going through the store
+                return Files.newInputStream(m_localFile);
+            }
             try {
                 return m_file.openInputStream(EFS.NONE, null);
             } catch (CoreException e) {
@@ -467,11 +513,25 @@ public int getContentLength() {
             if (m_file == null) {
                 return -1;
             }
-            long length = m_file.fetchInfo().getLength();
+            if (m_contentLength == null) {
+                m_contentLength = fetchContentLength();
+            }
+            long length = m_contentLength;
             if (length > Integer.MAX_VALUE) {
                 return -1;
             }
             return EFS.NONE == length ? -1 : (int)length;
         }
+
+        private long fetchContentLength() {
+            if (m_localFile != null) {
+                try {
+                    return Files.size(m_localFile);
+                } catch (IOException e) { // NOSONAR does not exist, like an empty info
+                    return EFS.NONE;
+                }
+            }
+            return m_file.fetchInfo().getLength();
+        }
     }
 }
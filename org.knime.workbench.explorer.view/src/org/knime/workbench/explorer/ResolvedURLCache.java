@@ -0,0 +1,171 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026: created
+ */
+package org.knime.workbench.explorer;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caches the results of resolving <tt>knime</tt> URLs, so that nodes which read many files through such URLs don't
+ * repeat the resolution (including canonicalizing paths) for every connection. Entries are grouped by the workflow
+ * context the URLs were resolved in. The context is compared by identity, therefore a workflow that gets a new context
+ * (e.g. because it has been moved or saved to a different location) doesn't use stale entries. Contexts are only
+ * weakly referenced, the entries of a context are discarded once the context has been garbage collected (e.g. after
+ * its workflow has been closed). The cache is cleared whenever the mount table changes and if it grows too large.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ResolvedURLCache {
+    /** Upper bound for the number of cached URLs, the cache is cleared if it grows larger. */
+    private static final int MAX_SIZE = 10000;
+
+    /** Stands in for URLs resolved without workflow context. */
+    private static final Object NO_CONTEXT = new Object();
+
+    private static final Map<ContextReference, Map<String, URL>> RESOLVED_URLS = new ConcurrentHashMap<>();
+
+    private static final ReferenceQueue<Object> COLLECTED_CONTEXTS = new ReferenceQueue<>();
+
+    /** Number of cached URLs (approximate if modified concurrently). */
+    private static final AtomicInteger SIZE = new AtomicInteger();
+
+    private ResolvedURLCache() {
+    }
+
+    /** Weak reference to a workflow context that is compared by the identity of the context. */
+    private static final class ContextReference extends WeakReference<Object> {
+        private final int m_hash;
+
+        ContextReference(final Object context, final ReferenceQueue<Object> queue) {
+            super(context, queue);
+            m_hash = System.identityHashCode(context);
+        }
+
+        @Override
+        public int hashCode() {
+            return m_hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof ContextReference)) {
+                return false;
+            }
+            // cleared references are only equal to themselves, so that they can be removed
+            Object context = get();
+            return (context != null) && (context == ((ContextReference)obj).get());
+        }
+    }
+
+    /**
+     * Returns the cached result of resolving the given URL.
+     *
+     * @param context the workflow context the URL is resolved in, may be <code>null</code>
+     * @param url a <tt>knime</tt> URL
+     * @return the resolved URL or an empty optional if it isn't cached
+     */
+    static Optional<URL> getResolvedURL(final Object context, final URL url) {
+        expungeCollectedContexts();
+        Map<String, URL> urls = RESOLVED_URLS.get(new ContextReference(nonNullContext(context), null));
+        return Optional.ofNullable((urls == null) ? null : urls.get(url.toExternalForm()));
+    }
+
+    /**
+     * Remembers the result of resolving the given URL.
+     *
+     * @param context the workflow context the URL has been resolved in, may be <code>null</code>
+     * @param url a <tt>knime</tt> URL
+     * @param resolvedURL the resolved URL
+     */
+    static void putResolvedURL(final Object context, final URL url, final URL resolvedURL) {
+        expungeCollectedContexts();
+        if (SIZE.get() >= MAX_SIZE) {
+            clear();
+        }
+        Object key = nonNullContext(context);
+        Map<String, URL> urls = RESOLVED_URLS.get(new ContextReference(key, null));
+        if (urls == null) {
+            urls = RESOLVED_URLS.computeIfAbsent(new ContextReference(key, COLLECTED_CONTEXTS),
+                k -> new ConcurrentHashMap<>());
+        }
+        if (urls.put(url.toExternalForm(), resolvedURL) == null) {
+            SIZE.incrementAndGet();
+        }
+    }
+
+    /**
+     * Discards all cached entries. Called when the mount table changes.
+     */
+    static void clear() {
+        RESOLVED_URLS.clear();
+        SIZE.set(0);
+    }
+
+    private static Object nonNullContext(final Object context) {
+        return (context != null) ? context : NO_CONTEXT;
+    }
+
+    /** Removes the entries of contexts that have been garbage collected. */
+    private static void expungeCollectedContexts() {
+        Object ref;
+        while ((ref = COLLECTED_CONTEXTS.poll()) != null) {
+            Map<String, URL> urls = RESOLVED_URLS.remove(ref);
+            if (urls != null) {
+                SIZE.addAndGet(-urls.size());
+            }
+        }
+    }
+}
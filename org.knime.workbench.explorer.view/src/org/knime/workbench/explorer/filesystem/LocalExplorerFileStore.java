@@ -51,12 +51,12 @@
 import java.io.IOException;
 import java.util.Arrays;
 
-import org.apache.commons.io.FileUtils;
 import org.eclipse.core.filesystem.EFS;
 import org.eclipse.core.filesystem.IFileStore;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.swt.widgets.Display;
@@ -163,11 +163,12 @@ public void copy(final IFileStore destination, final int options, final IProgres
 
                 super.cleanupDestination(destination, options, monitor);
                 try {
-                    if (srcFile.isDirectory()) {
-                        FileUtils.copyDirectory(srcFile, dstFile);
-                    } else if (srcFile.isFile()) {
-                        FileUtils.copyFile(srcFile, dstFile);
+                    if (srcFile.isDirectory() || srcFile.isFile()) {
+                        LocalFileCopier.copy(srcFile.toPath(), dstFile.toPath(), monitor);
                     }
+                } catch (OperationCanceledException e) {
+                    throw new CoreException(new Status(IStatus.CANCEL, ExplorerActivator.PLUGIN_ID,
+                        "Copying \"" + srcFile.getAbsolutePath() + "\" was canceled.", e));
                 } catch (IOException e) {
                     String message =
                             "Could not copy \"" + srcFile.getAbsolutePath()
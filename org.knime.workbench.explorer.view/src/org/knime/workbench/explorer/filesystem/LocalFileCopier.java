@@ -0,0 +1,301 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026: created
+ */
+package org.knime.workbench.explorer.filesystem;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.knime.core.node.FileNodePersistor;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Copies files and directory trees between local file stores. File content is transferred with
+ * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}, which lets the operating system
+ * copy the data without passing it through the heap. The files of a directory tree are copied on a shared pool of
+ * {@value #POOL_SIZE} threads at most, the directories are created by the calling thread while walking the tree.
+ *
+ * <p>
+ * Tables in the port and internal table folders of nodes are never modified once written (a node that is reset or
+ * saved again replaces its folders), so they can be hard-linked instead of copied if source and destination are on
+ * the same volume. This is opt-in by setting the system property <code>{@value #ENABLE_HARD_LINKS_PROPERTY}</code> to
+ * <code>true</code>: linked files are shared between the copies, e.g. on Windows a table opened by one workflow can't
+ * be deleted by resetting the node in the other one, and tools writing files in place would change both workflows.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class LocalFileCopier {
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(LocalFileCopier.class);
+
+    /** System property to enable hard links to node data tables instead of copying them. */
+    static final String ENABLE_HARD_LINKS_PROPERTY = "knime.explorer.copy.hardlinks.enabled";
+
+    /** Maximum number of files copied concurrently (across all copy operations). */
+    static final int POOL_SIZE = 8;
+
+    /** Maximum number of files submitted to the pool per copy operation but not yet copied. */
+    private static final int MAX_PENDING = 4 * POOL_SIZE;
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private static final ThreadPoolExecutor POOL = createPool();
+
+    private final IProgressMonitor m_monitor;
+
+    private final boolean m_useHardLinks = Boolean.getBoolean(ENABLE_HARD_LINKS_PROPERTY);
+
+    /** Set once a hard link failed, e.g. because the destination is on another volume. */
+    private final AtomicBoolean m_hardLinksFailed = new AtomicBoolean();
+
+    private final Semaphore m_pending = new Semaphore(MAX_PENDING);
+
+    private final AtomicReference<IOException> m_error = new AtomicReference<>();
+
+    private LocalFileCopier(final IProgressMonitor monitor) {
+        m_monitor = monitor;
+    }
+
+    private static ThreadPoolExecutor createPool() {
+        final int nrThreads = Math.max(1, Math.min(POOL_SIZE, Runtime.getRuntime().availableProcessors()));
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(nrThreads, nrThreads, 30, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), r -> {
+                final Thread t = new Thread(r, "KNIME-File-Copy-" + THREAD_COUNTER.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Copies a file or a directory with its entire content. Existing files in the target are overwritten.
+     * Modification times are preserved.
+     *
+     * @param source the file or directory to copy
+     * @param target the location of the copy
+     * @param monitor checked for cancellation, may be <code>null</code>
+     * @throws IOException if reading or writing fails
+     * @throws OperationCanceledException if the user canceled; files copied so far are not removed
+     */
+    static void copy(final Path source, final Path target, final IProgressMonitor monitor) throws IOException {
+        final LocalFileCopier copier = new LocalFileCopier(monitor);
+        if (Files.isDirectory(source)) {
+            copier.copyTree(source, target);
+        } else {
+            copier.copyFile(source, target, false);
+        }
+    }
+
+    private void copyTree(final Path source, final Path target) throws IOException {
+        final List<Path[]> directories = new ArrayList<>();
+        try {
+            Files.walkFileTree(source, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE,
+                new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs)
+                        throws IOException {
+                        final Path targetDir = target.resolve(source.relativize(dir).toString());
+                        Files.createDirectories(targetDir);
+                        directories.add(new Path[]{dir, targetDir});
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs)
+                        throws IOException {
+                        final Path relative = source.relativize(file);
+                        submit(file, target.resolve(relative.toString()), isImmutableData(relative));
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+        } finally {
+            awaitPending();
+        }
+        final IOException error = m_error.get();
+        if (error != null) {
+            throw error;
+        }
+        // workers skip their files once the user cancels
+        checkCanceled();
+        // the children's creation changed the modification times, restore them bottom up
+        for (int i = directories.size() - 1; i >= 0; i--) {
+            final Path[] dir = directories.get(i);
+            Files.setLastModifiedTime(dir[1], Files.getLastModifiedTime(dir[0]));
+        }
+    }
+
+    private void submit(final Path source, final Path target, final boolean immutable) throws IOException {
+        // bounds the number of queued files and lets a failure stop the walk early
+        try {
+            while (!m_pending.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+                checkCanceled();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while copying \"" + source + "\"", e);
+        }
+        final IOException error = m_error.get();
+        if (error != null || isCanceled()) {
+            m_pending.release();
+            if (error != null) {
+                throw error;
+            }
+            throw new OperationCanceledException();
+        }
+        POOL.execute(() -> {
+            try {
+                if (m_error.get() == null && !isCanceled()) {
+                    copyFile(source, target, immutable);
+                }
+            } catch (IOException e) {
+                m_error.compareAndSet(null, e);
+            } catch (RuntimeException e) {
+                m_error.compareAndSet(null, new IOException(e.getMessage(), e));
+            } finally {
+                m_pending.release();
+            }
+        });
+    }
+
+    /** Waits until all submitted files are copied. */
+    private void awaitPending() {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                m_pending.acquire(MAX_PENDING);
+                m_pending.release(MAX_PENDING);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean isCanceled() {
+        return m_monitor != null && m_monitor.isCanceled();
+    }
+
+    private void checkCanceled() {
+        if (isCanceled()) {
+            throw new OperationCanceledException();
+        }
+    }
+
+    private void copyFile(final Path source, final Path target, final boolean immutable) throws IOException {
+        if (immutable && m_useHardLinks && !m_hardLinksFailed.get()) {
+            try {
+                Files.deleteIfExists(target);
+                Files.createLink(target, source);
+                return;
+            } catch (IOException | UnsupportedOperationException e) {
+                // different volumes or file system without hard links, copy this and all further files
+                if (!m_hardLinksFailed.getAndSet(true)) {
+                    LOGGER.debug("Unable to hard-link \"" + source + "\", copying data files instead: "
+                        + e.getMessage(), e);
+                }
+            }
+        }
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+                FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+            final long size = in.size();
+            long pos = 0;
+            while (pos < size) {
+                final long n = in.transferTo(pos, size - pos, out);
+                if (n <= 0) {
+                    // file was truncated while copying
+                    break;
+                }
+                pos += n;
+            }
+        }
+        final FileTime lastModified = Files.getLastModifiedTime(source);
+        Files.setLastModifiedTime(target, lastModified);
+    }
+
+    /**
+     * @param relative path of a file relative to the copied directory
+     * @return true if the file is a table in a port or internal table folder of a node
+     */
+    private static boolean isImmutableData(final Path relative) {
+        final String name = relative.getFileName().toString();
+        if (!name.endsWith(".zip") && !name.endsWith(".table")) {
+            return false;
+        }
+        for (int i = 0; i < relative.getNameCount() - 1; i++) {
+            final String folder = relative.getName(i).toString();
+            if (folder.startsWith(FileNodePersistor.PORT_FOLDER_PREFIX)
+                || folder.startsWith(FileNodePersistor.INTERNAL_TABLE_FOLDER_PREFIX)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -45,6 +45,9 @@
 package org.knime.workbench.explorer.localworkspace;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -102,6 +105,21 @@ public class LocalWorkspaceContentProvider extends AbstractContentProvider {
         super(factory, id);
     }
 
+    // refreshes directories changed outside of KNIME, started when the content is shown for the first time
+    private LocalWorkspaceWatcher m_watcher;
+
+    private boolean m_watcherStarted;
+
+    private synchronized void startWatcher() {
+        if (!m_watcherStarted) {
+            m_watcherStarted = true;
+            IPath rootPath = ResourcesPlugin.getWorkspace().getRoot().getLocation();
+            if (rootPath != null) {
+                m_watcher = LocalWorkspaceWatcher.start(this, rootPath.toFile().toPath());
+            }
+        }
+    }
+
     private static boolean isChildOfOrSame(
             final IResource candidate, final IResource parent) {
         if (candidate.equals(parent)) {
@@ -142,6 +160,7 @@ public AbstractExplorerFileStore[] getChildren(final Object parentElement) {
         if (!(parentElement instanceof LocalWorkspaceFileStore)) {
             return NO_CHILD;
         }
+        startWatcher();
         LocalExplorerFileStore parent = (LocalExplorerFileStore)parentElement;
 
         if (AbstractExplorerFileStore.isNode(parent)) {
@@ -229,6 +248,26 @@ public AbstractExplorerFileStore getParent(final Object element) {
      */
     @Override
     public boolean hasChildren(final Object element) {
+        if ((element instanceof LocalWorkspaceFileStore)
+            && AbstractExplorerFileStore.isWorkflowGroup((LocalExplorerFileStore)element)) {
+            // every visible entry of a workflow group is shown (as group, workflow, template or data file), hence it's
+            // sufficient to find one instead of listing and classifying all children
+            try {
+                File dir = ((LocalExplorerFileStore)element).toLocalFile();
+                if (dir != null) {
+                    try (DirectoryStream<java.nio.file.Path> entries = Files.newDirectoryStream(dir.toPath())) {
+                        for (java.nio.file.Path entry : entries) {
+                            if (!isHiddenFile(entry.getFileName().toString())) {
+                                return true;
+                            }
+                        }
+                    }
+                    return false;
+                }
+            } catch (CoreException | IOException ex) {
+                LOGGER.debug("Could not probe content of " + element + ": " + ex.getMessage(), ex);
+            }
+        }
         return getChildren(element).length > 0;
     }
 
@@ -309,12 +348,35 @@ public String toString() {
         return "Local Workspace";
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void invalidateCaches(final AbstractExplorerFileStore changedChild) {
+        if (changedChild instanceof LocalExplorerFileStore) {
+            try {
+                File file = ((LocalExplorerFileStore)changedChild).toLocalFile();
+                if (file != null) {
+                    LocalWorkspaceItemCache.invalidate(file.toPath());
+                }
+            } catch (CoreException ex) {
+                LOGGER.debug("Could not invalidate cached item types of " + changedChild + ": " + ex.getMessage(), ex);
+            }
+        }
+    }
+
     /**
      *
      * {@inheritDoc}
      */
     @Override
-    public void dispose() {
+    public synchronized void dispose() {
+        if (m_watcher != null) {
+            m_watcher.stop();
+            m_watcher = null;
+        }
+        // the watcher is started again if the provider is used after being disposed
+        m_watcherStarted = false;
     }
 
     /**
@@ -45,8 +45,6 @@
 package org.knime.workbench.explorer.localworkspace;
 
 import java.io.File;
-import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.eclipse.core.filesystem.EFS;
@@ -54,10 +52,7 @@
 import org.eclipse.core.filesystem.IFileStore;
 import org.eclipse.core.runtime.CoreException;
 import org.knime.core.node.NodeLogger;
-import org.knime.core.node.workflow.FileSingleNodeContainerPersistor;
-import org.knime.core.node.workflow.MetaNodeTemplateInformation;
 import org.knime.core.node.workflow.WorkflowPersistor;
-import org.knime.core.util.workflowalizer.MetadataConfig;
 import org.knime.workbench.explorer.filesystem.AbstractExplorerFileInfo;
 
 
@@ -69,6 +64,16 @@ public class LocalWorkspaceFileInfo extends AbstractExplorerFileInfo {
     //caches the isComponent flag
     private Boolean m_isComponent = null;
 
+    //attributes of the file, fetched once
+    private IFileInfo m_info;
+
+    //markers of the file, its parent and its grandparent (see LocalWorkspaceItemCache), -1 if not determined yet
+    private int m_markers = -1;
+
+    private int m_parentMarkers = -1;
+
+    private int m_grandParentMarkers = -1;
+
     /**
      * @param file The file store this file info belongs to
      */
@@ -77,12 +82,19 @@ public class LocalWorkspaceFileInfo extends AbstractExplorerFileInfo {
         m_file = file;
     }
 
+    private IFileInfo info() {
+        if (m_info == null) {
+            m_info = m_file.fetchInfo();
+        }
+        return m_info;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean exists() {
-        return m_file.fetchInfo().exists();
+        return info().exists();
     }
 
     /**
@@ -90,7 +102,7 @@ public boolean exists() {
      */
     @Override
     public boolean isDirectory() {
-        return m_file.fetchInfo().isDirectory();
+        return info().isDirectory();
     }
 
     /**
@@ -98,7 +110,7 @@ public boolean isDirectory() {
      */
     @Override
     public long getLastModified() {
-        return m_file.fetchInfo().getLastModified();
+        return info().getLastModified();
     }
 
     /**
@@ -106,7 +118,7 @@ public long getLastModified() {
      */
     @Override
     public long getLength() {
-       return m_file.fetchInfo().getLength();
+       return info().getLength();
     }
 
     /**
@@ -114,7 +126,7 @@ public long getLength() {
      */
     @Override
     public boolean getAttribute(final int attribute) {
-        return m_file.fetchInfo().getAttribute(attribute);
+        return info().getAttribute(attribute);
     }
 
     /**
@@ -130,7 +142,7 @@ public final void setAttribute(final int attribute, final boolean value) {
      */
     @Override
     public boolean isWorkflow() {
-        return exists() && isWorkflow(m_file);
+        return exists() && isWorkflowItem();
     }
 
     /**
@@ -138,7 +150,7 @@ public boolean isWorkflow() {
      */
     @Override
     public boolean isWorkflowGroup() {
-        return exists() && isWorkflowGroup(m_file);
+        return exists() && isWorkflowGroupItem();
     }
 
     /**
@@ -146,7 +158,7 @@ public boolean isWorkflowGroup() {
      */
     @Override
     public boolean isWorkflowTemplate() {
-        return exists() && isWorkflowTemplate(m_file);
+        return exists() && isWorkflowTemplateItem();
     }
 
     /**
@@ -170,7 +182,7 @@ public boolean isMetaNodeTemplate() {
      */
     @Override
     public boolean isNode() {
-        return exists() && isNode(m_file);
+        return exists() && isNodeItem();
     }
 
     /**
@@ -178,7 +190,7 @@ public boolean isNode() {
      */
     @Override
     public boolean isFile() {
-        return exists() && isDataFile(m_file);
+        return exists() && !isDirectory();
     }
 
     /**
@@ -194,47 +206,20 @@ public boolean isReservedSystemItem() {
      */
     @Override
     public boolean isMetaNode() {
-        return exists() && isMetaNode(m_file);
+        return exists() && isMetaNodeItem();
     }
 
-    private static boolean isWorkflow(final IFileStore file) {
-        if (file == null || !file.fetchInfo().exists()) {
-            return false;
-        }
-        IFileStore tmplateFile = file.getChild(WorkflowPersistor.TEMPLATE_FILE); // metanode, no workflow
-        if (tmplateFile.fetchInfo().exists()) {
-            return false;
-        }
-
-        IFileStore wfFile = file.getChild(WorkflowPersistor.WORKFLOW_FILE); // no workflow at all
-        if (!wfFile.fetchInfo().exists()) {
-            return false;
-        }
-
-        IFileStore parentFile = file.getParent();
-        if (parentFile == null) {
-            return false;
-        }
-        IFileStore parentWfFile = parentFile.getChild(WorkflowPersistor.WORKFLOW_FILE); // metanode inside a workflow
-        return !parentWfFile.fetchInfo().exists();
+    private boolean isWorkflowItem() {
+        // not a metanode (template), not inside a workflow
+        return isWorkflow(markers(), parentMarkers());
     }
 
-    private static boolean isWorkflowGroup(final IFileStore file) {
-        if (file == null || !file.fetchInfo().exists()) {
-            return false;
-        }
-        return file.fetchInfo().isDirectory() && !isWorkflow(file)
-                && !isMetaNode(file) && !isNode(file)
-                && !isWorkflowTemplate(file);
+    private boolean isWorkflowGroupItem() {
+        return isDirectory() && !isWorkflowItem() && !isMetaNodeItem() && !isNodeItem() && !isWorkflowTemplateItem();
     }
 
-    private static boolean isWorkflowTemplate(final IFileStore file) {
-        if (file == null || !file.fetchInfo().exists()) {
-            return false;
-        }
-        IFileStore templateFile = file.getChild(
-                WorkflowPersistor.TEMPLATE_FILE);
-        return templateFile.fetchInfo().exists();
+    private boolean isWorkflowTemplateItem() {
+        return has(markers(), LocalWorkspaceItemCache.TEMPLATE_FILE);
     }
 
     private boolean isComponentTemplate(final IFileStore file) {
@@ -242,12 +227,7 @@ private boolean isComponentTemplate(final IFileStore file) {
             IFileStore templateFile = file.getChild(WorkflowPersistor.TEMPLATE_FILE);
             try {
                 Path p = templateFile.toLocalFile(EFS.NONE, null).toPath();
-                try (final InputStream s = Files.newInputStream(p)) {
-                    final MetadataConfig c = new MetadataConfig("ignored");
-                    c.load(s);
-                    m_isComponent = c.getConfigBase("workflow_template_information").getString("templateType")
-                        .equals(MetaNodeTemplateInformation.TemplateType.SubNode.toString());
-                }
+                m_isComponent = LocalWorkspaceItemCache.isComponentTemplate(p);
             } catch (Exception e) {
                 LOGGER.error("Problem reading template type", e);
                 throw new IllegalStateException("Problem reading template type", e);
@@ -256,36 +236,65 @@ private boolean isComponentTemplate(final IFileStore file) {
         return m_isComponent;
     }
 
-    private static boolean isMetaNode(final IFileStore file) {
-        if (file == null || !file.fetchInfo().exists()) {
-            return false;
+    private boolean isMetaNodeItem() {
+        return has(markers(), LocalWorkspaceItemCache.WORKFLOW_FILE)
+            && has(parentMarkers(), LocalWorkspaceItemCache.WORKFLOW_FILE);
+    }
+
+    private boolean isNodeItem() {
+        return !isMetaNodeItem() && has(markers(), LocalWorkspaceItemCache.SETTINGS_FILE)
+            && isWorkflow(parentMarkers(), grandParentMarkers());
+    }
+
+    private static boolean isWorkflow(final int markers, final int parentMarkers) {
+        return !has(markers, LocalWorkspaceItemCache.TEMPLATE_FILE)
+            && has(markers, LocalWorkspaceItemCache.WORKFLOW_FILE) && (parentMarkers != 0)
+            && !has(parentMarkers, LocalWorkspaceItemCache.WORKFLOW_FILE);
+    }
+
+    private static boolean has(final int markers, final int marker) {
+        return (markers & marker) != 0;
+    }
+
+    /**
+     * The markers of the file itself are determined from the already fetched attributes, the ones of the parent and
+     * grandparent require one file system access each (if they are cached).
+     */
+    private int markers() {
+        if (m_markers < 0) {
+            Path path = toPath(m_file);
+            m_markers = (path != null) && isDirectory()
+                ? LocalWorkspaceItemCache.getMarkers(path, getLastModified()) : 0;
         }
-        IFileStore wfFile = file.getChild(WorkflowPersistor.WORKFLOW_FILE);
-        IFileStore parentFile = file.getParent();
-        if (parentFile == null) {
-            return false;
+        return m_markers;
+    }
+
+    private int parentMarkers() {
+        if (m_parentMarkers < 0) {
+            m_parentMarkers = LocalWorkspaceItemCache.getMarkers(toPath(m_file.getParent()));
         }
-        IFileStore parentWfFile = parentFile.getChild(
-                WorkflowPersistor.WORKFLOW_FILE);
-        return wfFile.fetchInfo().exists() && parentWfFile.fetchInfo().exists();
+        return m_parentMarkers;
     }
 
-    private static boolean isNode(final IFileStore file) {
-        if (file == null || !file.fetchInfo().exists() || isMetaNode(file)) {
-            return false;
+    private int grandParentMarkers() {
+        if (m_grandParentMarkers < 0) {
+            IFileStore parent = m_file.getParent();
+            m_grandParentMarkers =
+                LocalWorkspaceItemCache.getMarkers((parent == null) ? null : toPath(parent.getParent()));
         }
-        IFileStore containerFile = file.getChild(
-                FileSingleNodeContainerPersistor.SETTINGS_FILE_NAME);
-        return containerFile.fetchInfo().exists()
-                && isWorkflow(file.getParent());
+        return m_grandParentMarkers;
     }
 
-    private static boolean isDataFile(final IFileStore file) {
+    private static Path toPath(final IFileStore file) {
         if (file == null) {
-            return false;
+            return null;
+        }
+        try {
+            File f = file.toLocalFile(EFS.NONE, null);
+            return (f == null) ? null : f.toPath();
+        } catch (CoreException ex) { // NOSONAR not a local file
+            return null;
         }
-        final IFileInfo fileInfo = file.fetchInfo();
-        return fileInfo.exists() && !fileInfo.isDirectory();
     }
 
     /**
@@ -0,0 +1,244 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026: created
+ */
+package org.knime.workbench.explorer.localworkspace;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.workflow.FileSingleNodeContainerPersistor;
+import org.knime.core.node.workflow.MetaNodeTemplateInformation;
+import org.knime.core.node.workflow.WorkflowPersistor;
+import org.knime.core.util.workflowalizer.MetadataConfig;
+
+/**
+ * Caches which of the files that determine the type of an item in the local workspace (<code>workflow.knime</code>,
+ * <code>template.knime</code> and <code>settings.xml</code>) a directory contains. The markers of a directory are
+ * determined by a single listing of the directory instead of probing each file separately. Cached entries are only
+ * used as long as the directory's modification time is unchanged (adding or removing a marker file changes it) and
+ * are discarded when the explorer refreshes the directory or one of its ancestors. As file systems may store
+ * modification times with a granularity of up to two seconds, an entry that was read within that time after the
+ * last modification is not trusted and read again on the next access. The type of a template (component or
+ * metanode) is cached the same way, keyed by the <code>template.knime</code> file and its modification time, so the
+ * template's metadata is only parsed once. The cache holds at most {@value #MAX_SIZE} entries and evicts the least
+ * recently used ones.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class LocalWorkspaceItemCache {
+    /** Marker for a directory that contains a <code>workflow.knime</code> file. */
+    static final int WORKFLOW_FILE = 1;
+
+    /** Marker for a directory that contains a <code>template.knime</code> file. */
+    static final int TEMPLATE_FILE = 2;
+
+    /** Marker for a directory that contains a <code>settings.xml</code> file. */
+    static final int SETTINGS_FILE = 4;
+
+    /** Marker for an existing directory. */
+    static final int DIRECTORY = 8;
+
+    /** Marker for a <code>template.knime</code> file that describes a component. */
+    private static final int COMPONENT = 16;
+
+    /** Upper bound for the number of cached entries, the least recently used ones are evicted beyond it. */
+    private static final int MAX_SIZE = 100000;
+
+    /** The coarsest granularity of modification times, i.e. the one of FAT file systems, in milliseconds. */
+    private static final long TIMESTAMP_GRANULARITY = 2000;
+
+    /** Access-ordered, all accesses are synchronized on the map itself. */
+    private static final Map<Path, Entry> CACHE = new LinkedHashMap<Path, Entry>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Path, Entry> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    private static final class Entry {
+        private final long m_lastModified;
+
+        private final long m_readTime;
+
+        private final int m_markers;
+
+        Entry(final long lastModified, final long readTime, final int markers) {
+            m_lastModified = lastModified;
+            m_readTime = readTime;
+            m_markers = markers;
+        }
+
+        /**
+         * An entry is only valid for an unchanged modification time, and only if it was read late enough after that
+         * time that a later change would have resulted in a different one.
+         */
+        boolean isValid(final long lastModified) {
+            return (m_lastModified == lastModified) && (m_readTime - lastModified >= TIMESTAMP_GRANULARITY);
+        }
+    }
+
+    private LocalWorkspaceItemCache() {
+    }
+
+    /**
+     * Returns the markers of the given directory whose modification time is already known.
+     *
+     * @param dir the directory
+     * @param lastModified the directory's modification time in milliseconds
+     * @return a combination of the marker flags including {@link #DIRECTORY}
+     */
+    static int getMarkers(final Path dir, final long lastModified) {
+        Entry entry = get(dir);
+        if ((entry == null) || !entry.isValid(lastModified)) {
+            final long readTime = System.currentTimeMillis();
+            entry = new Entry(lastModified, readTime, DIRECTORY | listMarkers(dir));
+            put(dir, entry);
+        }
+        return entry.m_markers;
+    }
+
+    /**
+     * Returns the markers of the given path.
+     *
+     * @param path any path, may be <code>null</code>
+     * @return a combination of the marker flags; 0 if the path does not exist or is not a directory
+     */
+    static int getMarkers(final Path path) {
+        if (path == null) {
+            return 0;
+        }
+        BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException ex) { // NOSONAR does not exist (any more)
+            synchronized (CACHE) {
+                CACHE.remove(path);
+            }
+            return 0;
+        }
+        return attrs.isDirectory() ? getMarkers(path, attrs.lastModifiedTime().toMillis()) : 0;
+    }
+
+    /**
+     * Returns whether the given <code>template.knime</code> file describes a component rather than a metanode.
+     *
+     * @param templateFile the template file
+     * @return <code>true</code> for a component template, <code>false</code> for a metanode template
+     * @throws IOException if the template file cannot be read
+     */
+    static boolean isComponentTemplate(final Path templateFile) throws IOException {
+        final long lastModified = Files.getLastModifiedTime(templateFile).toMillis();
+        Entry entry = get(templateFile);
+        if ((entry == null) || !entry.isValid(lastModified)) {
+            final long readTime = System.currentTimeMillis();
+            entry = new Entry(lastModified, readTime, readTemplateType(templateFile));
+            put(templateFile, entry);
+        }
+        return entry.m_markers == COMPONENT;
+    }
+
+    /**
+     * Discards the cached entries of the given path and all paths below it.
+     *
+     * @param path a path
+     */
+    static void invalidate(final Path path) {
+        synchronized (CACHE) {
+            CACHE.keySet().removeIf(p -> p.startsWith(path));
+        }
+    }
+
+    private static Entry get(final Path path) {
+        synchronized (CACHE) {
+            return CACHE.get(path);
+        }
+    }
+
+    private static void put(final Path path, final Entry entry) {
+        synchronized (CACHE) {
+            CACHE.put(path, entry);
+        }
+    }
+
+    private static int readTemplateType(final Path templateFile) throws IOException {
+        try (InputStream s = Files.newInputStream(templateFile)) {
+            final MetadataConfig c = new MetadataConfig("ignored");
+            c.load(s);
+            return c.getConfigBase("workflow_template_information").getString("templateType")
+                .equals(MetaNodeTemplateInformation.TemplateType.SubNode.toString()) ? COMPONENT : 0;
+        } catch (InvalidSettingsException ex) {
+            throw new IOException(ex.getMessage(), ex);
+        }
+    }
+
+    private static int listMarkers(final Path dir) {
+        int markers = 0;
+        try (DirectoryStream<Path> children = Files.newDirectoryStream(dir)) {
+            for (Path child : children) {
+                String name = child.getFileName().toString();
+                if (WorkflowPersistor.WORKFLOW_FILE.equals(name)) {
+                    markers |= WORKFLOW_FILE;
+                } else if (WorkflowPersistor.TEMPLATE_FILE.equals(name)) {
+                    markers |= TEMPLATE_FILE;
+                } else if (FileSingleNodeContainerPersistor.SETTINGS_FILE_NAME.equals(name)) {
+                    markers |= SETTINGS_FILE;
+                }
+            }
+        } catch (IOException ex) { // NOSONAR treated like an empty directory, as before
+        }
+        return markers;
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026: created
+ */
+package org.knime.workbench.explorer.localworkspace;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.Platform;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.workflow.WorkflowPersistor;
+import org.knime.workbench.explorer.filesystem.LocalExplorerFileStore;
+import org.knime.workbench.explorer.view.AbstractContentProvider;
+
+/**
+ * Watches the directories of a local workspace mount point whose content is shown in the explorer (the root and all
+ * workflow groups, but not workflows and templates) and refreshes the changed directories, e.g. after a git pull or
+ * workflows written by a batch executor. Events are collected for a short time and each changed directory is
+ * refreshed once; directories below another changed directory are covered by the refresh of the latter. If events
+ * have been lost (overflow) the affected directory is refreshed and its subtree is registered again.
+ *
+ * <p>
+ * On Windows a handle on a watched directory prevents renaming or deleting its parent directories, therefore only the
+ * root is watched there, including its whole tree (if the JVM supports the non-standard <code>FILE_TREE</code>
+ * modifier, which is looked up reflectively). Otherwise each workflow group is watched separately and the number of
+ * watched directories is limited, directories beyond the limit are not refreshed automatically. A workflow or
+ * template that turns into a workflow group (by deleting its workflow file) is only shown as such after a manual
+ * refresh.
+ * </p>
+ *
+ * <p>
+ * Watching can be disabled by setting the system property <code>{@value #DISABLE_PROPERTY}</code> to
+ * <code>true</code>.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class LocalWorkspaceWatcher implements Runnable {
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(LocalWorkspaceWatcher.class);
+
+    /** System property to disable watching of local workspaces. */
+    static final String DISABLE_PROPERTY = "knime.explorer.workspacewatcher.disabled";
+
+    /** Time events are collected before the changed directories are refreshed. */
+    private static final long DEBOUNCE_MS = 300;
+
+    /** Maximum number of watched directories, OS limits (e.g. for inotify) are typically not much higher. */
+    private static final int MAX_WATCHED_DIRS = 4096;
+
+    /** The modifier for watching a whole tree with one key, <code>null</code> if not supported by the JVM. */
+    private static final WatchEvent.Modifier FILE_TREE_MODIFIER = lookUpFileTreeModifier();
+
+    private final AbstractContentProvider m_provider;
+
+    private final Path m_root;
+
+    private final WatchService m_watchService;
+
+    /** Whether the whole tree is watched with a single key on the root (Windows). */
+    private boolean m_watchFileTree;
+
+    private final Map<WatchKey, Path> m_watchedDirs = new HashMap<>();
+
+    private final Set<Path> m_changedDirs = new LinkedHashSet<>();
+
+    private boolean m_limitReported;
+
+    private LocalWorkspaceWatcher(final AbstractContentProvider provider, final Path root,
+        final WatchService watchService) {
+        m_provider = provider;
+        m_root = root;
+        m_watchService = watchService;
+        m_watchFileTree = (FILE_TREE_MODIFIER != null) && Platform.OS_WIN32.equals(Platform.getOS());
+    }
+
+    /**
+     * Starts watching the given workspace.
+     *
+     * @param provider the content provider for the workspace
+     * @param root the workspace's root directory
+     * @return the running watcher or <code>null</code> if watching is disabled or not possible
+     */
+    static LocalWorkspaceWatcher start(final AbstractContentProvider provider, final Path root) {
+        if (Boolean.getBoolean(DISABLE_PROPERTY)) {
+            return null;
+        }
+        try {
+            LocalWorkspaceWatcher watcher =
+                new LocalWorkspaceWatcher(provider, root, root.getFileSystem().newWatchService());
+            Thread thread = new Thread(watcher, "KNIME Explorer Watcher (" + provider.getMountID() + ")");
+            thread.setDaemon(true);
+            thread.start();
+            return watcher;
+        } catch (IOException | UnsupportedOperationException ex) {
+            LOGGER.debug("Could not watch workspace " + root + ", changes must be refreshed manually: "
+                + ex.getMessage(), ex);
+            return null;
+        }
+    }
+
+    /**
+     * Stops watching, the watcher thread terminates afterwards.
+     */
+    void stop() {
+        try {
+            m_watchService.close();
+        } catch (IOException ex) {
+            LOGGER.debug("Could not close watch service: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void run() {
+        if (m_watchFileTree && !registerFileTree()) {
+            // fall back to watching the workflow groups separately
+            m_watchFileTree = false;
+        }
+        if (!m_watchFileTree) {
+            registerTree(m_root);
+        }
+        try {
+            long deadline = 0;
+            while (true) {
+                WatchKey key;
+                if (m_changedDirs.isEmpty()) {
+                    key = m_watchService.take();
+                    deadline = System.currentTimeMillis() + DEBOUNCE_MS;
+                } else {
+                    key = m_watchService.poll(Math.max(0, deadline - System.currentTimeMillis()),
+                        TimeUnit.MILLISECONDS);
+                }
+                if (key != null) {
+                    if (m_watchFileTree) {
+                        processFileTreeEvents(key);
+                    } else {
+                        processEvents(key);
+                    }
+                }
+                if (!m_changedDirs.isEmpty() && (System.currentTimeMillis() >= deadline)) {
+                    refreshChangedDirs();
+                }
+            }
+        } catch (ClosedWatchServiceException ex) { // NOSONAR regular termination
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void processEvents(final WatchKey key) {
+        Path dir = m_watchedDirs.get(key);
+        if (dir != null) {
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == OVERFLOW) {
+                    // events have been lost, rescan the directory
+                    registerTree(dir);
+                    m_changedDirs.add(dir);
+                    continue;
+                }
+                String name = event.context().toString();
+                if (WorkflowPersistor.WORKFLOW_FILE.equals(name) || WorkflowPersistor.TEMPLATE_FILE.equals(name)) {
+                    if (!dir.equals(m_root) && isLeaf(dir)) {
+                        // a former workflow group is now a workflow or template, its content is not shown
+                        key.cancel();
+                        m_watchedDirs.remove(key);
+                        m_changedDirs.add(dir.getParent());
+                        return;
+                    }
+                    m_changedDirs.add(dir);
+                } else if (event.kind() != ENTRY_MODIFY) {
+                    // modifications don't change the tree
+                    Path child = dir.resolve(name);
+                    if ((event.kind() == ENTRY_CREATE) && Files.isDirectory(child)) {
+                        registerTree(child);
+                    }
+                    m_changedDirs.add(dir);
+                }
+            }
+        }
+        if (!key.reset()) {
+            // directory has been deleted
+            m_watchedDirs.remove(key);
+        }
+    }
+
+    /**
+     * Processes the events of the key watching the whole tree. The event contexts are paths relative to the root.
+     */
+    private void processFileTreeEvents(final WatchKey key) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                // events have been lost, refresh everything
+                m_changedDirs.add(m_root);
+                continue;
+            }
+            Path path = m_root.resolve((Path)event.context());
+            Path dir = path.getParent();
+            String name = path.getFileName().toString();
+            boolean typeChanged =
+                WorkflowPersistor.WORKFLOW_FILE.equals(name) || WorkflowPersistor.TEMPLATE_FILE.equals(name);
+            if ((dir == null) || ((event.kind() == ENTRY_MODIFY) && !typeChanged)) {
+                // modifications don't change the tree
+                continue;
+            }
+            if (isInsideLeaf(dir)) {
+                // the content of workflows and templates is not shown (and contains workflow files of metanodes)
+                continue;
+            }
+            if (typeChanged) {
+                // the type of the directory may have changed, which is shown by its parent
+                m_changedDirs.add((dir.equals(m_root) || (dir.getParent() == null)) ? dir : dir.getParent());
+            } else {
+                m_changedDirs.add(dir);
+            }
+        }
+        if (!key.reset()) {
+            // the root has been deleted, nothing left to watch
+            stop();
+        }
+    }
+
+    /** Whether one of the directories between the root (exclusive) and the given directory (exclusive) is a leaf. */
+    private boolean isInsideLeaf(final Path dir) {
+        if (!dir.startsWith(m_root)) {
+            return false;
+        }
+        Path current = m_root;
+        for (Path segment : m_root.relativize(dir)) {
+            if (!current.equals(m_root) && isLeaf(current)) {
+                return true;
+            }
+            current = current.resolve(segment);
+        }
+        return false;
+    }
+
+    private static boolean isLeaf(final Path dir) {
+        return Files.exists(dir.resolve(WorkflowPersistor.WORKFLOW_FILE))
+            || Files.exists(dir.resolve(WorkflowPersistor.TEMPLATE_FILE));
+    }
+
+    private void refreshChangedDirs() {
+        List<Path> dirs = new ArrayList<>(m_changedDirs);
+        m_changedDirs.clear();
+        for (Path dir : dirs) {
+            if (dirs.stream().anyMatch(d -> (d != dir) && dir.startsWith(d))) {
+                // refreshed together with the ancestor
+                continue;
+            }
+            LocalExplorerFileStore fileStore = m_provider.fromLocalFile(dir.toFile());
+            if (fileStore != null) {
+                m_provider.refresh(fileStore);
+            }
+        }
+    }
+
+    /**
+     * Registers the given directory and all workflow groups below it. Workflows and templates are not registered, a
+     * new workflow directory is registered until its workflow file has been written.
+     */
+    private void registerTree(final Path start) {
+        Deque<Path> queue = new ArrayDeque<>();
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            Path dir = queue.poll();
+            if (!dir.equals(m_root) && isLeaf(dir)) {
+                continue;
+            }
+            if (!register(dir)) {
+                return;
+            }
+            try (DirectoryStream<Path> children = Files.newDirectoryStream(dir, Files::isDirectory)) {
+                for (Path child : children) {
+                    if (!AbstractContentProvider.isHiddenFile(child.getFileName().toString())) {
+                        queue.add(child);
+                    }
+                }
+            } catch (IOException ex) {
+                LOGGER.debug("Could not list directory " + dir + " for watching: " + ex.getMessage(), ex);
+            }
+        }
+    }
+
+    /**
+     * @return whether the root is watched including its whole tree
+     */
+    private boolean registerFileTree() {
+        try {
+            m_watchedDirs.put(m_root.register(m_watchService, new WatchEvent.Kind<?>[]{ENTRY_CREATE, ENTRY_DELETE,
+                ENTRY_MODIFY}, FILE_TREE_MODIFIER), m_root);
+            return true;
+        } catch (IOException | UnsupportedOperationException ex) {
+            LOGGER.debug("Could not watch the tree of workspace " + m_root + ", watching its directories instead: "
+                + ex.getMessage(), ex);
+            return false;
+        }
+    }
+
+    /**
+     * Looks up <code>com.sun.nio.file.ExtendedWatchEventModifier.FILE_TREE</code>, which is not part of the Java API
+     * and may not be visible to the bundle.
+     */
+    private static WatchEvent.Modifier lookUpFileTreeModifier() {
+        try {
+            Class<?> modifierClass = Class.forName("com.sun.nio.file.ExtendedWatchEventModifier");
+            for (Object constant : modifierClass.getEnumConstants()) {
+                if ((constant instanceof WatchEvent.Modifier) && "FILE_TREE".equals(((Enum<?>)constant).name())) {
+                    return (WatchEvent.Modifier)constant;
+                }
+            }
+        } catch (ClassNotFoundException | LinkageError ex) {
+            LOGGER.debug("Watching whole directory trees is not supported: " + ex.getMessage(), ex);
+        }
+        return null;
+    }
+
+    private boolean register(final Path dir) {
+        if (m_watchedDirs.size() >= MAX_WATCHED_DIRS) {
+            if (!m_limitReported) {
+                m_limitReported = true;
+                LOGGER.info("Not watching more than " + MAX_WATCHED_DIRS + " directories in " + m_root
+                    + ", further changes must be refreshed manually");
+            }
+            return false;
+        }
+        try {
+            // registering a directory again returns the same key
+            m_watchedDirs.put(dir.register(m_watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY), dir);
+        } catch (IOException ex) {
+            LOGGER.debug("Could not watch directory " + dir + ": " + ex.getMessage(), ex);
+        }
+        return true;
+    }
+}
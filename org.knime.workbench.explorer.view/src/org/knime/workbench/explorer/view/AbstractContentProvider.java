@@ -178,6 +178,8 @@ public enum LinkType {
 
     private final String m_id;
 
+    private final ExplorerItemCache m_itemCache = new ExplorerItemCache();
+
     /**
      * @param myCreator the factory creating this instance.
      * @param id mount id of this content provider
@@ -233,10 +235,24 @@ public final void refresh() {
     }
 
     public final void refresh(final AbstractExplorerFileStore changedChild) {
+        m_itemCache.invalidate(changedChild);
+        invalidateCaches(changedChild);
         fireLabelProviderChanged(new LabelProviderChangedEvent(this,
                 changedChild));
     }
 
+    /**
+     * Called when the given item is refreshed, before the view is notified. Content providers that cache information
+     * about their items must discard the cached information about the item and all items below it. The default
+     * implementation does nothing.
+     *
+     * @param changedChild the refreshed item, may be <code>null</code>
+     * @since 8.6
+     */
+    protected void invalidateCaches(final AbstractExplorerFileStore changedChild) {
+        // nothing cached by default
+    }
+
     /**
      * Save state and parameters.
      *
@@ -1267,42 +1283,36 @@ public static AbstractExplorerFileStore[] getMetaNodeChildren(
      * @return the icon/image for the passed file store
      */
     public static Image getWorkspaceImage(final AbstractExplorerFileStore efs) {
-
-        if (AbstractExplorerFileStore.isNode(efs)) {
-            return ImageRepository.getIconImage(SharedImages.Node);
-        }
-        if (AbstractExplorerFileStore.isMetaNode(efs)) {
-            return ImageRepository.getIconImage(SharedImages.Node);
-        }
-        if (AbstractExplorerFileStore.isWorkflowGroup(efs)) {
-            return ImageRepository.getIconImage(SharedImages.WorkflowGroup);
-        }
-        if (AbstractExplorerFileStore.isWorkflowTemplate(efs)) {
-            return ImageRepository.getIconImage(SharedImages.MetaNodeTemplate);
-        }
-        if (AbstractExplorerFileStore.isDataFile(efs)) {
-            Image img = ConfigurableNodeFactoryMapper.getImage(efs.getName());
-            if (img != null) {
-                return img;
-            }
-            return ImageRepository.getIconImage(SharedImages.File);
-        }
-        if (!AbstractExplorerFileStore.isWorkflow(efs)) {
-            return null;
+        // the item types are cached per mount point, stores without a mount point are examined on each call
+        final AbstractContentProvider provider = efs.getContentProvider();
+        final ExplorerItemCache.Item item =
+            (provider != null) ? provider.m_itemCache.get(efs) : ExplorerItemCache.fetch(efs);
+
+        switch (item.getType()) {
+            case NODE:
+            case METANODE:
+                return ImageRepository.getIconImage(SharedImages.Node);
+            case WORKFLOW_GROUP:
+                return ImageRepository.getIconImage(SharedImages.WorkflowGroup);
+            case WORKFLOW_TEMPLATE:
+                return ImageRepository.getIconImage(SharedImages.MetaNodeTemplate);
+            case DATA_FILE:
+                Image img = ConfigurableNodeFactoryMapper.getImage(efs.getName());
+                if (img != null) {
+                    return img;
+                }
+                return ImageRepository.getIconImage(SharedImages.File);
+            case WORKFLOW:
+                break;
+            default:
+                return null;
         }
 
         // if it is a local workflow return the correct icon for open flows
-        File f;
-        try {
-            f = efs.toLocalFile(EFS.NONE, null);
-        } catch (CoreException ce) {
-            return ImageRepository.getIconImage(SharedImages.WorkflowClosed);
-        }
-
-        if (f == null) {
+        URI wfURI = item.getLocalWorkflowURI();
+        if (wfURI == null) {
             return ImageRepository.getIconImage(SharedImages.WorkflowClosed);
         }
-        URI wfURI = f.toURI();
         NodeContainer nc = ProjectWorkflowMap.getWorkflow(wfURI);
         if (nc == null) {
             return ImageRepository.getIconImage(SharedImages.WorkflowClosed);
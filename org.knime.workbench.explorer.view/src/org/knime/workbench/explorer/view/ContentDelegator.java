@@ -50,23 +50,33 @@
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.jface.util.PropertyChangeEvent;
+import org.eclipse.jface.viewers.AbstractTreeViewer;
 import org.eclipse.jface.viewers.IColorProvider;
 import org.eclipse.jface.viewers.ILabelProviderListener;
 import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.jface.viewers.ITreeViewerListener;
 import org.eclipse.jface.viewers.LabelProvider;
 import org.eclipse.jface.viewers.LabelProviderChangedEvent;
+import org.eclipse.jface.viewers.TreeExpansionEvent;
 import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
@@ -125,6 +135,45 @@ public class ContentDelegator extends LabelProvider
 
     private final boolean m_updateProvSettings;
 
+    /**
+     * Number of children added to the tree at once if the children of an item arrive in the background.
+     */
+    private static final int PAGE_SIZE = 500;
+
+    private boolean m_loadChildrenInBackground;
+
+    /** Incremented whenever a content provider reports changed content, loaders started before are outdated. */
+    private volatile int m_contentVersion;
+
+    /** The content version at which the last children of collapsed items have been evicted. */
+    private int m_evictedContentVersion;
+
+    private AbstractTreeViewer m_viewer;
+
+    /** Evicts the last children of collapsed items, they are listed again when the item is expanded. */
+    private final ITreeViewerListener m_collapseListener = new ITreeViewerListener() {
+        @Override
+        public void treeExpanded(final TreeExpansionEvent event) {
+            // children are listed by getChildren
+        }
+
+        @Override
+        public void treeCollapsed(final TreeExpansionEvent event) {
+            evictLastChildren(event.getElement());
+        }
+    };
+
+    // the following maps are only accessed in the UI thread
+
+    /** Loaders that are currently listing children, by parent tree object. */
+    private final Map<Object, ChildrenLoader> m_loaders = new HashMap<>();
+
+    /** Children listed in the background that are handed to the viewer by the next call to getChildren. */
+    private final Map<Object, Object[]> m_loadedChildren = new HashMap<>();
+
+    /** The most recent children of items whose children were listed in the background, shown while reloading. */
+    private final Map<Object, Object[]> m_lastChildren = new HashMap<>();
+
     /**
      * Creates a new content delegator and registers it for property changes of
      * the explorer mount table. None of the mounted content is visible through
@@ -149,6 +198,20 @@ public ContentDelegator(final boolean updateProvSettings) {
         ExplorerMountTable.addPropertyChangeListener(this);
     }
 
+    /**
+     * Enables or disables listing of children in the background. If enabled, children are listed in a background job
+     * when the tree viewer asks for them. Meanwhile a placeholder is shown (or the previously listed children when an
+     * expanded item is refreshed) and the children are added to the tree in pages once they are available. Must be
+     * called before the delegator is set as the viewer's input.
+     *
+     * @param loadInBackground <code>true</code> if children should be listed in the background, <code>false</code> if
+     *            they are listed synchronously (the default)
+     * @since 8.6
+     */
+    public void setLoadChildrenInBackground(final boolean loadInBackground) {
+        m_loadChildrenInBackground = loadInBackground;
+    }
+
     /**
      * Adds the specified content provider to the explorer.
      *
@@ -197,6 +260,14 @@ public void dispose() {
         }
         removeAllMountPoints();
         ExplorerMountTable.removePropertyChangeListener(this);
+        m_loaders.values().forEach(l -> l.cancel());
+        m_loaders.clear();
+        m_loadedChildren.clear();
+        m_lastChildren.clear();
+        if (m_viewer != null) {
+            m_viewer.removeTreeListener(m_collapseListener);
+        }
+        m_viewer = null;
         super.dispose();
     }
 
@@ -237,6 +308,57 @@ private ContentObject[] wrapObjects(final AbstractContentProvider provider,
      */
     @Override
     public Object[] getChildren(final Object parentElement) {
+        if ((parentElement instanceof PendingChildren) || !isLoadedInBackground(parentElement)) {
+            return computeChildren(parentElement);
+        }
+
+        Object[] loaded = m_loadedChildren.remove(parentElement);
+        if (loaded != null) {
+            return loaded;
+        }
+        if (m_evictedContentVersion != m_contentVersion) {
+            // the last children of collapsed items are outdated and won't be shown during a refresh
+            m_evictedContentVersion = m_contentVersion;
+            m_lastChildren.keySet().removeIf(e -> !e.equals(parentElement) && !m_viewer.getExpandedState(e));
+        }
+        ChildrenLoader loader = m_loaders.get(parentElement);
+        if ((loader != null) && (loader.m_contentVersion != m_contentVersion)) {
+            // the content has changed since the loader has been started
+            loader.cancel();
+            loader = null;
+        }
+        if (loader == null) {
+            loader = new ChildrenLoader(parentElement);
+            m_loaders.put(parentElement, loader);
+            loader.schedule();
+        }
+        // never wait for the loader in the UI thread, it delivers the children via childrenLoaded
+        Object[] last = m_lastChildren.get(parentElement);
+        return (last != null) ? last : new Object[]{loader.m_placeholder};
+    }
+
+    /**
+     * Removes the last children of the given item and of all items below it.
+     */
+    private void evictLastChildren(final Object element) {
+        m_lastChildren.keySet().removeIf(e -> isSelfOrDescendant(e, element));
+    }
+
+    private boolean isSelfOrDescendant(final Object element, final Object ancestor) {
+        for (Object e = element; e != null; e = getParent(e)) {
+            if (e.equals(ancestor)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isLoadedInBackground(final Object parentElement) {
+        return m_loadChildrenInBackground && (m_viewer != null) && (parentElement != this)
+            && (Display.getCurrent() != null) && (m_viewer.getControl().getDisplay() == Display.getCurrent());
+    }
+
+    private Object[] computeChildren(final Object parentElement) {
         // we are the root element - providers are the first level children
         if (parentElement == this) {
             return getVisibleContentProvider().toArray();
@@ -248,6 +370,9 @@ public Object[] getChildren(final Object parentElement) {
             return wrapObjects(prov, prov.getChildren(prov.getRootStore()));
 
         }
+        if (parentElement instanceof PendingChildren) {
+            return NO_CHILDREN;
+        }
         if (!(parentElement instanceof ContentObject)) {
             // all children should be of that type!
             LOGGER.coding("Unexpected object in tree view! (" + parentElement
@@ -259,6 +384,49 @@ public Object[] getChildren(final Object parentElement) {
         return wrapObjects(prov, prov.getChildren(c.getObject()));
     }
 
+    /**
+     * Called in the UI thread when a loader has finished, a placeholder (or the previous children) has been shown
+     * meanwhile. Small results and reloads are shown by refreshing the parent, large results replace the placeholder
+     * page by page so that the UI stays responsive.
+     */
+    private void childrenLoaded(final ChildrenLoader loader, final Object[] children) {
+        if ((m_viewer == null) || m_viewer.getControl().isDisposed()
+            || (m_loaders.get(loader.m_parent) != loader)) {
+            return;
+        }
+        m_loaders.remove(loader.m_parent);
+        boolean reload = m_lastChildren.containsKey(loader.m_parent);
+        m_lastChildren.put(loader.m_parent, children);
+        m_loadedChildren.put(loader.m_parent, children);
+        if (reload || (children.length <= PAGE_SIZE)) {
+            m_viewer.refresh(loader.m_parent);
+        } else {
+            m_viewer.getControl().getDisplay().asyncExec(new Runnable() {
+                private int m_offset;
+
+                @Override
+                public void run() {
+                    // stop if the children have been handed to the viewer by a refresh in the meantime
+                    if ((m_viewer == null) || m_viewer.getControl().isDisposed()
+                        || (m_loadedChildren.get(loader.m_parent) != children)) {
+                        return;
+                    }
+                    if (m_offset == 0) {
+                        m_viewer.remove(loader.m_placeholder);
+                    }
+                    int end = Math.min(m_offset + PAGE_SIZE, children.length);
+                    m_viewer.add(loader.m_parent, Arrays.copyOfRange(children, m_offset, end));
+                    m_offset = end;
+                    if (m_offset < children.length) {
+                        m_viewer.getControl().getDisplay().asyncExec(this);
+                    } else {
+                        m_loadedChildren.remove(loader.m_parent);
+                    }
+                }
+            });
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -281,7 +449,14 @@ public String toString() {
     @Override
     public void inputChanged(final Viewer viewer, final Object oldInput,
             final Object newInput) {
-        // thanks for letting me know.
+        // only needed for adding children that are listed in the background
+        if (m_viewer != null) {
+            m_viewer.removeTreeListener(m_collapseListener);
+        }
+        m_viewer = (viewer instanceof AbstractTreeViewer) ? (AbstractTreeViewer)viewer : null;
+        if (m_viewer != null) {
+            m_viewer.addTreeListener(m_collapseListener);
+        }
     }
 
     /**
@@ -297,6 +472,9 @@ public Object getParent(final Object element) {
             // content providers are the first level children
             return this;
         }
+        if (element instanceof PendingChildren) {
+            return ((PendingChildren)element).m_parent;
+        }
         if (!(element instanceof ContentObject)) {
             // all children should be of that type!
             LOGGER.coding("Unexpected object in tree view! (" + element
@@ -330,6 +508,9 @@ public boolean hasChildren(final Object element) {
             AbstractContentProvider prov = (AbstractContentProvider)element;
             return prov.hasChildren(prov.getRootStore());
         }
+        if (element instanceof PendingChildren) {
+            return false;
+        }
         if (!(element instanceof ContentObject)) {
             // all children should be of that type!
             LOGGER.coding("Unexpected object in tree view! (" + element
@@ -457,6 +638,9 @@ public Image getImage(final Object obj) {
         if (obj instanceof AbstractContentProvider) {
             return ((AbstractContentProvider)obj).getImage();
         }
+        if (obj instanceof PendingChildren) {
+            return null;
+        }
         if (!(obj instanceof ContentObject)) {
             // all children should be of that type!
             LOGGER.coding("Unexpected object in tree view! (" + obj
@@ -479,6 +663,9 @@ public String getText(final Object element) {
             AbstractContentProvider acp = (AbstractContentProvider)element;
             return getMountID(acp) + " (" + acp.toString() + ")";
         }
+        if (element instanceof PendingChildren) {
+            return element.toString();
+        }
         if (!(element instanceof ContentObject)) {
             // all children should be of that type!
             LOGGER.coding("Unexpected object in tree view! (" + element
@@ -670,6 +857,7 @@ public void propertyChange(final PropertyChangeEvent event) {
     public void labelProviderChanged(final LabelProviderChangedEvent event) {
         if (event != null
                 && (event.getSource() instanceof AbstractContentProvider)) {
+            m_contentVersion++; // NOSONAR only used to detect changes, lost updates are irrelevant
             AbstractContentProvider source =
                     (AbstractContentProvider)event.getSource();
             Object refresh = event.getElement();
@@ -722,6 +910,8 @@ public Color getForeground(final Object element) {
         } else if (element instanceof ContentObject) {
             ContentObject co = (ContentObject) element;
             return co.getProvider().getForeground(co.getObject());
+        } else if (element instanceof PendingChildren) {
+            return Display.getDefault().getSystemColor(SWT.COLOR_DARK_GRAY);
         } else {
             return Display.getDefault().getSystemColor(SWT.COLOR_LIST_FOREGROUND);
         }
@@ -742,4 +932,65 @@ public Color getBackground(final Object element) {
             return Display.getDefault().getSystemColor(SWT.COLOR_LIST_BACKGROUND);
         }
     }
+
+    /**
+     * Placeholder shown in the tree while the children of an item are listed in the background.
+     */
+    private static final class PendingChildren {
+        private final Object m_parent;
+
+        PendingChildren(final Object parent) {
+            m_parent = parent;
+        }
+
+        @Override
+        public String toString() {
+            return "Loading...";
+        }
+    }
+
+    /**
+     * Lists the children of a tree object in the background and delivers the result asynchronously to the UI thread.
+     */
+    private final class ChildrenLoader extends Job {
+        private final Object m_parent;
+
+        private final PendingChildren m_placeholder;
+
+        private final int m_contentVersion = ContentDelegator.this.m_contentVersion;
+
+        ChildrenLoader(final Object parent) {
+            super("Listing content of " + parent);
+            m_parent = parent;
+            m_placeholder = new PendingChildren(parent);
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(final IProgressMonitor monitor) {
+            Object[] children;
+            try {
+                children = computeChildren(m_parent);
+                for (Object child : children) {
+                    if (monitor.isCanceled()) {
+                        return Status.CANCEL_STATUS;
+                    }
+                    if (child instanceof ContentObject) {
+                        // determined here so that sorting doesn't need file system accesses in the UI thread
+                        ((ContentObject)child).getSortRank();
+                    }
+                }
+            } catch (RuntimeException ex) {
+                LOGGER.error("Could not list the content of " + m_parent + ": " + ex.getMessage(), ex);
+                children = NO_CHILDREN;
+            }
+
+            AbstractTreeViewer viewer = m_viewer;
+            if ((viewer != null) && !viewer.getControl().isDisposed()) {
+                final Object[] result = children;
+                viewer.getControl().getDisplay().asyncExec(() -> childrenLoaded(this, result));
+            }
+            return Status.OK_STATUS;
+        }
+    }
 }
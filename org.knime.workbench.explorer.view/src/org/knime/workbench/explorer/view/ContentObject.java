@@ -63,6 +63,9 @@ public final class ContentObject implements IFileStoreProvider{
 
     private final AbstractContentProvider m_creator;
 
+    // the rank used by the ExplorerViewComparator, determined once because it requires file system accesses
+    private volatile int m_sortRank = -1;
+
     /**
      * @param creator
      * @param o
@@ -91,6 +94,17 @@ public AbstractContentProvider getProvider() {
         return m_creator;
     }
 
+    /**
+     * @return the rank used to sort this object in the explorer view
+     * @see ExplorerViewComparator#rank(AbstractExplorerFileStore)
+     */
+    int getSortRank() {
+        if (m_sortRank < 0) {
+            m_sortRank = ExplorerViewComparator.rank(m_obj);
+        }
+        return m_sortRank;
+    }
+
     /**
      * {@inheritDoc}
      */
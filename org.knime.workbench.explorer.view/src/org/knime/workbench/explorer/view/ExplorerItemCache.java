@@ -0,0 +1,196 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026: created
+ */
+package org.knime.workbench.explorer.view;
+
+import java.io.File;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.filesystem.EFS;
+import org.eclipse.core.runtime.CoreException;
+import org.knime.workbench.explorer.filesystem.AbstractExplorerFileInfo;
+import org.knime.workbench.explorer.filesystem.AbstractExplorerFileStore;
+
+/**
+ * Caches the metadata of the items of one mount point that is needed to render their icons: the item type and, for
+ * workflows, the location of the local workflow directory. An item's metadata is determined from a single
+ * {@link AbstractExplorerFileStore#fetchInfo()} when it is first requested and kept until the item or one of its
+ * ancestors is refreshed by the content provider, so repainting the tree doesn't access the file system. The state
+ * of open workflows isn't cached; it's read from the (in-memory) workflow whenever the icon is requested, hence state
+ * changes of open workflows are always reflected once the view refreshes the item.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ExplorerItemCache {
+    /** Upper bound for the number of cached items, the cache is cleared if it grows larger. */
+    private static final int MAX_SIZE = 100000;
+
+    /** The type of an item as it's used for choosing its icon. */
+    enum ItemType {
+        /** A node inside a workflow. */
+        NODE,
+        /** A metanode inside a workflow. */
+        METANODE,
+        /** A workflow group. */
+        WORKFLOW_GROUP,
+        /** A component or metanode template. */
+        WORKFLOW_TEMPLATE,
+        /** A data file. */
+        DATA_FILE,
+        /** A workflow. */
+        WORKFLOW,
+        /** Anything else, including items that don't exist. */
+        OTHER;
+    }
+
+    /** The cached metadata of a single item. */
+    static final class Item {
+        private final ItemType m_type;
+
+        private final URI m_localURI;
+
+        private Item(final ItemType type, final URI localURI) {
+            m_type = type;
+            m_localURI = localURI;
+        }
+
+        /**
+         * @return the item's type
+         */
+        ItemType getType() {
+            return m_type;
+        }
+
+        /**
+         * @return the URI of the local workflow directory, <code>null</code> if the item isn't a workflow or isn't
+         *         available locally
+         */
+        URI getLocalWorkflowURI() {
+            return m_localURI;
+        }
+    }
+
+    private final Map<String, Item> m_items = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the metadata of the given item, fetching it if it isn't cached yet.
+     *
+     * @param store an item of the cache's mount point
+     * @return the item's metadata, never <code>null</code>
+     */
+    Item get(final AbstractExplorerFileStore store) {
+        final String key = store.getFullName();
+        Item item = m_items.get(key);
+        if (item == null) {
+            item = fetch(store);
+            if (m_items.size() >= MAX_SIZE) {
+                m_items.clear();
+            }
+            m_items.put(key, item);
+        }
+        return item;
+    }
+
+    /**
+     * Discards the cached metadata of the given item and all items below it.
+     *
+     * @param store the refreshed item, <code>null</code> to discard everything
+     */
+    void invalidate(final AbstractExplorerFileStore store) {
+        if (store == null || store.getParent() == null) {
+            m_items.clear();
+            return;
+        }
+        final String path = store.getFullName();
+        final String prefix = path + "/";
+        m_items.keySet().removeIf(k -> k.equals(path) || k.startsWith(prefix));
+    }
+
+    /**
+     * Returns the metadata of the given item without caching it.
+     *
+     * @param store any item
+     * @return the item's metadata
+     */
+    static Item fetch(final AbstractExplorerFileStore store) {
+        final AbstractExplorerFileInfo info = store.fetchInfo();
+        final ItemType type = getType(info);
+        return new Item(type, (type == ItemType.WORKFLOW) ? toLocalURI(store) : null);
+    }
+
+    /* The order of the checks is the one used when the item types were queried separately. */
+    private static ItemType getType(final AbstractExplorerFileInfo info) {
+        if (!info.exists()) {
+            return ItemType.OTHER;
+        } else if (info.isNode()) {
+            return ItemType.NODE;
+        } else if (info.isMetaNode()) {
+            return ItemType.METANODE;
+        } else if (info.isWorkflowGroup()) {
+            return ItemType.WORKFLOW_GROUP;
+        } else if (info.isWorkflowTemplate()) {
+            return ItemType.WORKFLOW_TEMPLATE;
+        } else if (info.isFile()) {
+            return ItemType.DATA_FILE;
+        } else if (info.isWorkflow()) {
+            return ItemType.WORKFLOW;
+        } else {
+            return ItemType.OTHER;
+        }
+    }
+
+    private static URI toLocalURI(final AbstractExplorerFileStore store) {
+        try {
+            final File f = store.toLocalFile(EFS.NONE, null);
+            return (f == null) ? null : f.toURI();
+        } catch (CoreException ex) { // NOSONAR shown as closed workflow, as before
+            return null;
+        }
+    }
+}
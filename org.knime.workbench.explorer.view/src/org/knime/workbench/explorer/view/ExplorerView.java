@@ -51,6 +51,7 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -230,6 +231,12 @@ public void focusGained(final FocusEvent e) {
     private final AtomicReference<Collection<AbstractExplorerFileStore>> m_nextSelection =
             new AtomicReference<Collection<AbstractExplorerFileStore>>();
 
+    /** Marks a pending refresh of the entire tree. */
+    private static final Object FULL_REFRESH = new Object();
+
+    // tree elements to refresh with the next pending refresh (guarded by itself)
+    private final Set<Object> m_pendingRefreshes = new LinkedHashSet<>();
+
     /**
      * {@inheritDoc}
      */
@@ -454,6 +461,7 @@ private void createTreeViewer(final Composite parent,
         m_viewer = new TreeViewer(parent, SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL);
         m_viewer.getTree().setLayoutData(new GridData(GridData.FILL_BOTH));
         m_viewer.setComparator(new ExplorerViewComparator());
+        provider.setLoadChildrenInBackground(true);
         m_viewer.setContentProvider(provider);
         m_viewer.setLabelProvider(provider);
         m_viewer.setInput(provider); // the provider is also the root!
@@ -585,14 +593,30 @@ private void refreshAsync() {
     }
 
     private void refreshAsync(final Object refreshRoot) {
+        synchronized (m_pendingRefreshes) {
+            // while a refresh is pending further requests are merged into it, so that a burst of changes (e.g. a
+            // bulk copy) refreshes every affected element once
+            final boolean scheduled = !m_pendingRefreshes.isEmpty();
+            m_pendingRefreshes.add(refreshRoot == null ? FULL_REFRESH : refreshRoot);
+            if (scheduled) {
+                return;
+            }
+        }
         Display.getDefault().asyncExec(new Runnable() {
             @Override
             public void run() {
+                final List<Object> refreshRoots;
+                synchronized (m_pendingRefreshes) {
+                    refreshRoots = new ArrayList<>(m_pendingRefreshes);
+                    m_pendingRefreshes.clear();
+                }
                 if (m_viewer != null && !m_viewer.getControl().isDisposed()) {
-                    if (refreshRoot != null) {
-                        m_viewer.refresh(refreshRoot);
-                    } else {
+                    if (refreshRoots.contains(FULL_REFRESH)) {
                         m_viewer.refresh();
+                    } else {
+                        for (Object root : refreshRoots) {
+                            m_viewer.refresh(root);
+                        }
                     }
                     Collection<AbstractExplorerFileStore> fs =
                             m_nextSelection.getAndSet(null);
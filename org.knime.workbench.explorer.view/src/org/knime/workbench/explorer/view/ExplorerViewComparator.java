@@ -65,7 +65,7 @@ public int compare(final Viewer viewer, final Object e1, final Object e2) {
                 && (e2 instanceof ContentObject)) {
             AbstractExplorerFileStore efs1 = ((ContentObject)e1).getObject();
             AbstractExplorerFileStore efs2 = ((ContentObject)e2).getObject();
-            int cmp = rank(efs2) - rank(efs1);
+            int cmp = ((ContentObject)e2).getSortRank() - ((ContentObject)e1).getSortRank();
             if (cmp == 0) {
                 return efs1.getName().toLowerCase().compareTo(
                         efs2.getName().toLowerCase());
@@ -76,7 +76,13 @@ public int compare(final Viewer viewer, final Object e1, final Object e2) {
         return 0;
     }
 
-    private int rank(final AbstractExplorerFileStore f) {
+    /**
+     * Determines the rank of the given file, higher ranks are shown further up.
+     *
+     * @param f a file
+     * @return the rank, always positive
+     */
+    static int rank(final AbstractExplorerFileStore f) {
         // we want to see message at the top
         if (AbstractExplorerFileStore.isMessage(f)) {
             return 6;
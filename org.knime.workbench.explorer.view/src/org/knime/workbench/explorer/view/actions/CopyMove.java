@@ -54,11 +54,22 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.filesystem.EFS;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.util.CheckUtils;
@@ -84,6 +95,11 @@ public final class CopyMove {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(CopyMove.class);
 
+    /** Maximum number of local copy/move operations of one bulk job that run concurrently. */
+    private static final int MAX_PARALLEL_TRANSFERS = 4;
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
     private final ExplorerView m_view;
 
     private final AbstractExplorerFileStore m_target;
@@ -149,7 +165,7 @@ public CopyMoveResult run(final IProgressMonitor monitor) {
         int numFiles = processedTargets.size();
         monitor.beginTask(cmd + " " + numFiles + " files to " + m_target.getFullName(), numFiles);
         int iterationCount = processedTargets.size();
-        List<ExplorerJob> moveJobs = new ArrayList<>();
+        List<LocalTransfer> localTransfers = new ArrayList<>();
         boolean uploadWarningShown = false;
         for (final Map.Entry<AbstractExplorerFileStore, AbstractExplorerFileStore> entry : destCheckerMappings
             .entrySet()) {
@@ -234,12 +250,8 @@ public CopyMoveResult run(final IProgressMonitor monitor) {
                     CheckUtils.checkState(!m_excludeDataInWorkflows, "Copy/Move 'without data' not implement");
                     final boolean keepHistory = m_destChecker.getOverwriteAndMergeInfos().get(destFS) != null
                         ? m_destChecker.getOverwriteAndMergeInfos().get(destFS).keepHistory() : false;
-                    if (m_performMove) {
-                        moveJobs
-                            .add(scheduleLocalCopyOrMove(srcFS, destFS, callback, m_performMove, options, keepHistory));
-                    } else {
-                        scheduleLocalCopyOrMove(srcFS, destFS, callback, m_performMove, options, keepHistory);
-                    }
+                    // collected and run as one job after all items have been checked
+                    localTransfers.add(new LocalTransfer(srcFS, destFS, callback, options, keepHistory));
                 }
             } catch (CoreException e) {
                 LOGGER.debug(cmd + " failed: " + e.getStatus().getMessage(), e);
@@ -260,24 +272,28 @@ public CopyMoveResult run(final IProgressMonitor monitor) {
             }
             monitor.worked(1);
         }
+        ExplorerJob transferJob = null;
+        if (!localTransfers.isEmpty()) {
+            transferJob = scheduleLocalCopyOrMove(localTransfers, m_performMove);
+        }
         if (m_performMove && !m_srcFileStores.isEmpty()) {
-            scheduleDeletionOfRemainingWorkflowGroups(destCheckerMappings, moveJobs);
+            scheduleDeletionOfRemainingWorkflowGroups(destCheckerMappings, transferJob);
         }
         return new CopyMoveResult(statusList, success);
     }
 
     private void scheduleDeletionOfRemainingWorkflowGroups(
         final Map<AbstractExplorerFileStore, AbstractExplorerFileStore> destCheckerMappings,
-        final List<ExplorerJob> moveJobs) {
+        final ExplorerJob moveJob) {
         ExplorerJob job = new ExplorerJob("Delete remaining workflow groups") {
 
             @Override
             protected IStatus run(final IProgressMonitor monitor) {
-                // wait for the move jobs to move all the files
-                for (ExplorerJob moveJob : moveJobs) {
+                // wait for the move job to move all the files
+                if (moveJob != null) {
                     try {
-                        moveJob.join(60000, monitor);
-                    } catch (InterruptedException e) {
+                        moveJob.join(0, monitor);
+                    } catch (InterruptedException | OperationCanceledException e) {
                         return Status.CANCEL_STATUS;
                     }
                 }
@@ -338,32 +354,116 @@ private String cmdAsTextual() {
         return m_performMove ? "Move" : "Copy";
     }
 
-    private ExplorerJob scheduleLocalCopyOrMove(final AbstractExplorerFileStore source,
-        final AbstractExplorerFileStore destination, final AfterRunCallback callback, final boolean move,
-        final int options, final boolean keepHistory) {
-        ExplorerJob job = new ExplorerJob(
-            cmdAsTextual() + " of " + source.getMountIDWithFullPath() + " to " + destination.getMountIDWithFullPath()) {
+    /**
+     * Schedules one job that copies or moves all local items. Up to {@value #MAX_PARALLEL_TRANSFERS} items are
+     * transferred concurrently, the job's monitor reports the number of completed items. The callbacks are called
+     * once all items are done, with the first failure if any.
+     */
+    private ExplorerJob scheduleLocalCopyOrMove(final List<LocalTransfer> transfers, final boolean move) {
+        final String name = transfers.size() == 1
+            ? cmdAsTextual() + " of " + transfers.get(0).m_source.getMountIDWithFullPath() + " to "
+                + transfers.get(0).m_destination.getMountIDWithFullPath()
+            : cmdAsTextual() + " of " + transfers.size() + " items to " + m_target.getMountIDWithFullPath();
+        ExplorerJob job = new ExplorerJob(name) {
 
             @Override
             protected IStatus run(final IProgressMonitor monitor) {
-                try {
-                    if (move) {
-                        source.move(destination, options, monitor, keepHistory);
-                    } else {
-                        source.copy(destination, options, monitor, keepHistory);
+                monitor.beginTask(name, transfers.size());
+                // the items' operations see the cancellation of this job
+                final IProgressMonitor itemMonitor = new NullProgressMonitor() {
+                    @Override
+                    public boolean isCanceled() {
+                        return monitor.isCanceled();
+                    }
+                };
+                final int nrThreads = Math.min(MAX_PARALLEL_TRANSFERS, transfers.size());
+                final ExecutorService pool = Executors.newFixedThreadPool(nrThreads, r -> {
+                    final Thread t = new Thread(r, "KNIME-Explorer-Transfer-" + THREAD_COUNTER.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+                final List<Future<?>> futures = new ArrayList<>(transfers.size());
+                for (LocalTransfer transfer : transfers) {
+                    futures.add(pool.submit(() -> {
+                        if (monitor.isCanceled()) {
+                            throw new CoreException(Status.CANCEL_STATUS);
+                        }
+                        if (move) {
+                            transfer.m_source.move(transfer.m_destination, transfer.m_options, itemMonitor,
+                                transfer.m_keepHistory);
+                        } else {
+                            transfer.m_source.copy(transfer.m_destination, transfer.m_options, itemMonitor,
+                                transfer.m_keepHistory);
+                        }
+                        return null;
+                    }));
+                }
+                pool.shutdown();
+
+                final MultiStatus result = new MultiStatus(ExplorerActivator.PLUGIN_ID, IStatus.OK,
+                    cmdAsTextual() + " of " + transfers.size() + " item(s) failed", null);
+                CoreException firstFailure = null;
+                for (int i = 0; i < futures.size(); i++) {
+                    final LocalTransfer transfer = transfers.get(i);
+                    monitor.subTask(transfer.m_source.getMountIDWithFullPath());
+                    try {
+                        awaitTransfer(futures.get(i), monitor);
+                    } catch (CoreException ce) {
+                        if (ce.getStatus().getSeverity() != IStatus.CANCEL) {
+                            LOGGER.debug(cmdAsTextual() + " of " + transfer.m_source.getMountIDWithFullPath()
+                                + " failed: " + ce.getStatus().getMessage(), ce);
+                        }
+                        result.add(ce.getStatus());
+                        if (firstFailure == null) {
+                            firstFailure = ce;
+                        }
+                    }
+                    monitor.worked(1);
+                }
+                for (LocalTransfer transfer : transfers) {
+                    if (transfer.m_callback != null) {
+                        AfterRunCallback.callCallbackInDisplayThread(transfer.m_callback, firstFailure);
                     }
-                    AfterRunCallback.callCallbackInDisplayThread(callback, null);
-                    return Status.OK_STATUS;
-                } catch (CoreException ce) {
-                    AfterRunCallback.callCallbackInDisplayThread(callback, ce);
-                    return ce.getStatus();
                 }
+                monitor.done();
+                if (monitor.isCanceled()) {
+                    return Status.CANCEL_STATUS;
+                }
+                return result.isOK() ? Status.OK_STATUS : result;
             }
         };
         job.schedule();
         return job;
     }
 
+    /** Waits for a transfer while checking the job's monitor, the transfer sees the cancellation itself. */
+    private static void awaitTransfer(final Future<?> future, final IProgressMonitor monitor) throws CoreException {
+        try {
+            while (true) {
+                try {
+                    future.get(100, TimeUnit.MILLISECONDS);
+                    return;
+                } catch (TimeoutException e) {
+                    if (monitor.isCanceled()) {
+                        future.cancel(false);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreException(Status.CANCEL_STATUS);
+        } catch (CancellationException e) {
+            throw new CoreException(Status.CANCEL_STATUS);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof CoreException) {
+                throw (CoreException)cause;
+            }
+            throw new CoreException(
+                new Status(IStatus.ERROR, ExplorerActivator.PLUGIN_ID, String.valueOf(cause.getMessage()), cause));
+        }
+    }
+
     /**
      * Sets the source file stores that are going to be moved/copied.
      *
@@ -374,6 +474,28 @@ public void setSrcFileStores(final List<AbstractExplorerFileStore> srcFileStores
         m_srcFileStores = new ArrayList<>(srcFileStores);
     }
 
+    /** A local copy or move of one item, run by the bulk job. */
+    private static final class LocalTransfer {
+        private final AbstractExplorerFileStore m_source;
+
+        private final AbstractExplorerFileStore m_destination;
+
+        private final AfterRunCallback m_callback;
+
+        private final int m_options;
+
+        private final boolean m_keepHistory;
+
+        LocalTransfer(final AbstractExplorerFileStore source, final AbstractExplorerFileStore destination,
+            final AfterRunCallback callback, final int options, final boolean keepHistory) {
+            m_source = source;
+            m_destination = destination;
+            m_callback = callback;
+            m_options = options;
+            m_keepHistory = keepHistory;
+        }
+    }
+
     /** Return value of the run method. */
     public static final class CopyMoveResult {
         private final List<IStatus> m_result;
@@ -0,0 +1,673 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026: created
+ */
+package org.knime.workbench.explorer.view.actions.export;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipException;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+/**
+ * Writes a zip archive whose entries are compressed in parallel. Files are split into chunks of
+ * {@value #CHUNK_SIZE} bytes that are deflated on a thread pool, each chunk primed with the tail of its predecessor
+ * as preset dictionary and terminated with a sync flush so that the chunks of an entry concatenate to one valid
+ * deflate stream. The caller's thread reads the files and writes the finished chunks in submission order, hence the
+ * archive layout is the same as if it had been written sequentially. The number of chunks in flight is bounded, so
+ * memory consumption does not depend on the size of the archived files.
+ *
+ * <p>
+ * Deflated entries use a data descriptor, stored entries carry their checksum in the local header (it is computed
+ * on the pool ahead of writing). Zip64 extensions are written only where sizes, offsets or the entry count require
+ * them, following the conventions of {@link java.util.zip.ZipOutputStream}.
+ *
+ * <p>
+ * Instances are not thread-safe, all methods must be called from the same thread.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ParallelZipWriter implements Closeable {
+
+    /** Size of the chunks files are split into for parallel compression. */
+    static final int CHUNK_SIZE = 1 << 20;
+
+    /** Maximum size of a deflate preset dictionary (the deflate window). */
+    private static final int DICTIONARY_SIZE = 1 << 15;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+
+    private static final int LOCAL_HEADER_SIG = 0x04034b50;
+
+    private static final int DATA_DESCRIPTOR_SIG = 0x08074b50;
+
+    private static final int CENTRAL_HEADER_SIG = 0x02014b50;
+
+    private static final int ZIP64_END_SIG = 0x06064b50;
+
+    private static final int ZIP64_LOCATOR_SIG = 0x07064b50;
+
+    private static final int END_SIG = 0x06054b50;
+
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+
+    /** General purpose flag: sizes and checksum follow the data in a descriptor. */
+    private static final int FLAG_DATA_DESCRIPTOR = 0x0008;
+
+    /** General purpose flag: entry names are UTF-8 encoded. */
+    private static final int FLAG_UTF8 = 0x0800;
+
+    private static final int METHOD_STORED = 0;
+
+    private static final int METHOD_DEFLATED = 8;
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final FileOutputStream m_fileOut;
+
+    private final OutputStream m_out;
+
+    private final int m_level;
+
+    private final ExecutorService m_pool;
+
+    private final int m_maxPendingChunks;
+
+    private final IProgressMonitor m_monitor;
+
+    /** Write operations in archive order, waiting for the pool to complete their data. */
+    private final Deque<PendingWrite> m_pending = new ArrayDeque<>();
+
+    private int m_pendingChunks;
+
+    private final List<Entry> m_entries = new ArrayList<>();
+
+    private final Set<String> m_names = new HashSet<>();
+
+    private long m_written;
+
+    private boolean m_closed;
+
+    /**
+     * Creates the output file (or truncates it) and the compression pool.
+     *
+     * @param outputFile the archive to write
+     * @param level deflate compression level (0-9)
+     * @param threads number of compression threads
+     * @param monitor checked for cancellation, receives one unit of work per written chunk or stored megabyte and
+     *            one per entry (not <code>null</code>)
+     * @throws IOException if the output file can't be created
+     */
+    ParallelZipWriter(final File outputFile, final int level, final int threads, final IProgressMonitor monitor)
+        throws IOException {
+        if (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid compression level: " + level);
+        }
+        m_level = level;
+        m_monitor = monitor;
+        m_fileOut = new FileOutputStream(outputFile);
+        m_out = new BufferedOutputStream(m_fileOut, BUFFER_SIZE);
+        final int nrThreads = Math.max(1, threads);
+        m_maxPendingChunks = 2 * nrThreads;
+        m_pool = Executors.newFixedThreadPool(nrThreads, new ThreadFactory() {
+            @Override
+            public Thread newThread(final Runnable r) {
+                final Thread t = new Thread(r, "KNIME-Archive-Compressor-" + THREAD_COUNTER.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+    }
+
+    /**
+     * Adds a directory entry.
+     *
+     * @param name the entry name, ending with a slash
+     * @param lastModified modification time of the directory
+     * @throws IOException if writing fails or the name is a duplicate
+     */
+    void putDirectory(final String name, final long lastModified) throws IOException {
+        putEmpty(name, lastModified);
+    }
+
+    /**
+     * Adds an entry without content. Files with length zero should be added here without opening them (the
+     * <code>.knimeLock</code> file of open workflows is locked and can't be read on Windows).
+     *
+     * @param name the entry name
+     * @param lastModified modification time of the file
+     * @throws IOException if writing fails or the name is a duplicate
+     */
+    void putEmpty(final String name, final long lastModified) throws IOException {
+        final Entry entry = newEntry(name, lastModified, METHOD_STORED);
+        enqueue(() -> {
+            writeLocalHeader(entry);
+            m_entries.add(entry);
+            m_monitor.worked(1);
+        });
+    }
+
+    /**
+     * Adds a file stored without compression, for content that is compressed already. The checksum is computed on
+     * the pool, the data is transferred to the archive when the entry is written.
+     *
+     * @param name the entry name
+     * @param file the file to add
+     * @param lastModified modification time of the file
+     * @throws IOException if reading or writing fails or the name is a duplicate
+     */
+    void putStored(final String name, final File file, final long lastModified) throws IOException {
+        checkCanceled();
+        final Entry entry = newEntry(name, lastModified, METHOD_STORED);
+        final Future<long[]> checksum = m_pool.submit(() -> checksum(file, m_monitor));
+        m_pendingChunks++;
+        enqueue(() -> {
+            m_pendingChunks--;
+            final long[] crcAndSize = await(checksum);
+            entry.m_crc = crcAndSize[0];
+            entry.m_size = crcAndSize[1];
+            entry.m_compressedSize = crcAndSize[1];
+            writeLocalHeader(entry);
+            m_out.flush();
+            try (FileInputStream in = new FileInputStream(file); FileChannel channel = in.getChannel()) {
+                long pos = 0;
+                final FileChannel target = m_fileOut.getChannel();
+                while (pos < entry.m_size) {
+                    // transferred chunk-wise so that large files can be canceled
+                    checkCanceled();
+                    final long n = channel.transferTo(pos, Math.min(CHUNK_SIZE, entry.m_size - pos), target);
+                    if (n <= 0) {
+                        throw new IOException("File \"" + file.getAbsolutePath() + "\" changed while archiving it");
+                    }
+                    pos += n;
+                }
+            }
+            m_written += entry.m_size;
+            m_entries.add(entry);
+            m_monitor.worked((int)(entry.m_size >>> 20) + 1);
+        });
+        drain(m_maxPendingChunks);
+    }
+
+    /**
+     * Adds a file deflated at the configured level. The file is read chunk-wise by the calling thread and the chunks
+     * are compressed on the pool; this method returns as soon as the last chunk is submitted.
+     *
+     * @param name the entry name
+     * @param file the file to add
+     * @param lastModified modification time of the file
+     * @throws IOException if reading or writing fails, the user canceled or the name is a duplicate
+     */
+    void putDeflated(final String name, final File file, final long lastModified) throws IOException {
+        checkCanceled();
+        final Entry entry = newEntry(name, lastModified, METHOD_DEFLATED);
+        enqueue(() -> writeLocalHeader(entry));
+        final CRC32 crc = new CRC32();
+        try (InputStream in = open(file)) {
+            byte[] previous = null;
+            int previousLength = 0;
+            boolean last = false;
+            while (!last) {
+                checkCanceled();
+                final byte[] raw = new byte[CHUNK_SIZE];
+                final int length = readFully(file, in, raw);
+                last = length < CHUNK_SIZE;
+                final Future<Chunk> chunk = submitDeflate(raw, length, previous, previousLength, last);
+                m_pendingChunks++;
+                enqueue(() -> {
+                    m_pendingChunks--;
+                    final Chunk c = await(chunk);
+                    crc.update(raw, 0, length);
+                    m_out.write(c.m_data, 0, c.m_length);
+                    m_written += c.m_length;
+                    entry.m_size += length;
+                    entry.m_compressedSize += c.m_length;
+                    m_monitor.worked(1);
+                });
+                drain(m_maxPendingChunks);
+                previous = raw;
+                previousLength = length;
+            }
+        }
+        enqueue(() -> {
+            entry.m_crc = crc.getValue();
+            writeDataDescriptor(entry);
+            m_entries.add(entry);
+        });
+    }
+
+    /**
+     * Writes all pending data and the central directory and closes the file.
+     *
+     * @throws IOException if writing fails or the archive has no entries (like {@link java.util.zip.ZipOutputStream})
+     */
+    void finish() throws IOException {
+        if (m_closed) {
+            return;
+        }
+        try {
+            drainAll();
+            if (m_entries.isEmpty()) {
+                throw new ZipException("ZIP file must have at least one entry");
+            }
+            writeCentralDirectory();
+            m_out.flush();
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Closes the output file and stops the pool without finishing the archive. Pending data is discarded.
+     */
+    @Override
+    public void close() throws IOException {
+        if (m_closed) {
+            return;
+        }
+        m_closed = true;
+        m_pending.clear();
+        m_pool.shutdownNow();
+        m_out.close();
+    }
+
+    private Entry newEntry(final String name, final long lastModified, final int method) throws IOException {
+        if (m_closed) {
+            throw new IOException("Archive is closed");
+        }
+        if (!m_names.add(name)) {
+            throw new ZipException("duplicate entry: " + name);
+        }
+        final byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        if (nameBytes.length > 0xFFFF) {
+            throw new ZipException("Entry name too long: " + name);
+        }
+        return new Entry(nameBytes, method, toDosTime(lastModified));
+    }
+
+    private void checkCanceled() throws IOException {
+        if (m_monitor.isCanceled()) {
+            throw new IOException("Canceled.");
+        }
+    }
+
+    private void enqueue(final PendingWrite write) throws IOException {
+        m_pending.addLast(write);
+        if (m_pendingChunks == 0) {
+            // nothing to wait for, keeps headers of small files from piling up
+            drainAll();
+        }
+    }
+
+    /** Writes queued operations in order until no more than the given number of chunks is in flight. */
+    private void drain(final int maxPendingChunks) throws IOException {
+        while (!m_pending.isEmpty() && m_pendingChunks > maxPendingChunks) {
+            m_pending.removeFirst().write();
+        }
+    }
+
+    private void drainAll() throws IOException {
+        while (!m_pending.isEmpty()) {
+            m_pending.removeFirst().write();
+        }
+    }
+
+    private Future<Chunk> submitDeflate(final byte[] raw, final int length, final byte[] previous,
+        final int previousLength, final boolean last) {
+        return m_pool.submit(() -> {
+            final Deflater deflater = new Deflater(m_level, true);
+            try {
+                if (previous != null) {
+                    final int dictLength = Math.min(previousLength, DICTIONARY_SIZE);
+                    deflater.setDictionary(previous, previousLength - dictLength, dictLength);
+                }
+                deflater.setInput(raw, 0, length);
+                byte[] out = new byte[length + (length >>> 8) + 64];
+                int n = 0;
+                if (last) {
+                    deflater.finish();
+                    while (!deflater.finished()) {
+                        if (n == out.length) {
+                            out = Arrays.copyOf(out, 2 * out.length);
+                        }
+                        n += deflater.deflate(out, n, out.length - n);
+                    }
+                } else {
+                    // a sync flush ends on a byte boundary without closing the stream
+                    int space;
+                    do {
+                        if (n == out.length) {
+                            out = Arrays.copyOf(out, 2 * out.length);
+                        }
+                        space = out.length - n;
+                        n += deflater.deflate(out, n, space, Deflater.SYNC_FLUSH);
+                    } while (n == out.length);
+                }
+                return new Chunk(out, n);
+            } finally {
+                deflater.end();
+            }
+        });
+    }
+
+    private static long[] checksum(final File file, final IProgressMonitor monitor) throws IOException {
+        final CRC32 crc = new CRC32();
+        final byte[] buf = new byte[BUFFER_SIZE];
+        long size = 0;
+        try (InputStream in = new FileInputStream(file)) {
+            int read;
+            while (!monitor.isCanceled() && ((read = in.read(buf)) >= 0)) {
+                crc.update(buf, 0, read);
+                size += read;
+            }
+        } catch (IOException ioe) {
+            throw unreadable(file, ioe);
+        }
+        if (monitor.isCanceled()) {
+            throw new IOException("Canceled.");
+        }
+        return new long[]{crc.getValue(), size};
+    }
+
+    private static InputStream open(final File file) throws IOException {
+        try {
+            return new FileInputStream(file);
+        } catch (IOException ioe) {
+            throw unreadable(file, ioe);
+        }
+    }
+
+    private static int readFully(final File file, final InputStream in, final byte[] buf) throws IOException {
+        int n = 0;
+        try {
+            while (n < buf.length) {
+                final int read = in.read(buf, n, buf.length - n);
+                if (read < 0) {
+                    break;
+                }
+                n += read;
+            }
+        } catch (IOException ioe) {
+            throw unreadable(file, ioe);
+        }
+        return n;
+    }
+
+    private static IOException unreadable(final File file, final IOException cause) {
+        return new IOException(
+            String.format("Unable to add file \"%s\" to archive: %s", file.getAbsolutePath(), cause.getMessage()),
+            cause);
+    }
+
+    private static <T> T await(final Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while compressing", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            throw new IOException("Compression failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    private void writeLocalHeader(final Entry entry) throws IOException {
+        entry.m_offset = m_written;
+        final boolean deflated = entry.m_method == METHOD_DEFLATED;
+        final boolean zip64 = !deflated && entry.m_size >= ZIP64_MAGIC;
+        writeInt(LOCAL_HEADER_SIG);
+        writeShort(zip64 ? 45 : (deflated ? 20 : 10));
+        writeShort(deflated ? (FLAG_UTF8 | FLAG_DATA_DESCRIPTOR) : FLAG_UTF8);
+        writeShort(entry.m_method);
+        writeInt(entry.m_dosTime);
+        if (deflated) {
+            // checksum and sizes follow in the data descriptor
+            writeInt(0);
+            writeInt(0);
+            writeInt(0);
+        } else {
+            writeInt(entry.m_crc);
+            writeInt(zip64 ? ZIP64_MAGIC : entry.m_compressedSize);
+            writeInt(zip64 ? ZIP64_MAGIC : entry.m_size);
+        }
+        writeShort(entry.m_name.length);
+        writeShort(zip64 ? 20 : 0);
+        writeBytes(entry.m_name);
+        if (zip64) {
+            writeShort(ZIP64_EXTRA_ID);
+            writeShort(16);
+            writeLong(entry.m_size);
+            writeLong(entry.m_compressedSize);
+        }
+    }
+
+    private void writeDataDescriptor(final Entry entry) throws IOException {
+        writeInt(DATA_DESCRIPTOR_SIG);
+        writeInt(entry.m_crc);
+        if (entry.m_size >= ZIP64_MAGIC || entry.m_compressedSize >= ZIP64_MAGIC) {
+            writeLong(entry.m_compressedSize);
+            writeLong(entry.m_size);
+        } else {
+            writeInt(entry.m_compressedSize);
+            writeInt(entry.m_size);
+        }
+    }
+
+    private void writeCentralDirectory() throws IOException {
+        final long offset = m_written;
+        for (Entry e : m_entries) {
+            final boolean size64 = e.m_size >= ZIP64_MAGIC;
+            final boolean compressedSize64 = e.m_compressedSize >= ZIP64_MAGIC;
+            final boolean offset64 = e.m_offset >= ZIP64_MAGIC;
+            final int extraLength = (size64 ? 8 : 0) + (compressedSize64 ? 8 : 0) + (offset64 ? 8 : 0);
+            final boolean deflated = e.m_method == METHOD_DEFLATED;
+            final int version = extraLength > 0 ? 45 : (deflated ? 20 : 10);
+            writeInt(CENTRAL_HEADER_SIG);
+            writeShort(version); // made by
+            writeShort(version); // needed to extract
+            writeShort(deflated ? (FLAG_UTF8 | FLAG_DATA_DESCRIPTOR) : FLAG_UTF8);
+            writeShort(e.m_method);
+            writeInt(e.m_dosTime);
+            writeInt(e.m_crc);
+            writeInt(compressedSize64 ? ZIP64_MAGIC : e.m_compressedSize);
+            writeInt(size64 ? ZIP64_MAGIC : e.m_size);
+            writeShort(e.m_name.length);
+            writeShort(extraLength > 0 ? extraLength + 4 : 0);
+            writeShort(0); // comment length
+            writeShort(0); // disk number
+            writeShort(0); // internal attributes
+            writeInt(0); // external attributes
+            writeInt(offset64 ? ZIP64_MAGIC : e.m_offset);
+            writeBytes(e.m_name);
+            if (extraLength > 0) {
+                writeShort(ZIP64_EXTRA_ID);
+                writeShort(extraLength);
+                if (size64) {
+                    writeLong(e.m_size);
+                }
+                if (compressedSize64) {
+                    writeLong(e.m_compressedSize);
+                }
+                if (offset64) {
+                    writeLong(e.m_offset);
+                }
+            }
+        }
+        final long length = m_written - offset;
+        final int count = m_entries.size();
+        final boolean zip64 = length >= ZIP64_MAGIC || offset >= ZIP64_MAGIC || count >= ZIP64_MAGIC_COUNT;
+        if (zip64) {
+            final long endOffset = m_written;
+            writeInt(ZIP64_END_SIG);
+            writeLong(44); // size of the remaining record
+            writeShort(45);
+            writeShort(45);
+            writeInt(0);
+            writeInt(0);
+            writeLong(count);
+            writeLong(count);
+            writeLong(length);
+            writeLong(offset);
+            writeInt(ZIP64_LOCATOR_SIG);
+            writeInt(0);
+            writeLong(endOffset);
+            writeInt(1);
+        }
+        writeInt(END_SIG);
+        writeShort(0);
+        writeShort(0);
+        writeShort(Math.min(count, ZIP64_MAGIC_COUNT));
+        writeShort(Math.min(count, ZIP64_MAGIC_COUNT));
+        writeInt(Math.min(length, ZIP64_MAGIC));
+        writeInt(Math.min(offset, ZIP64_MAGIC));
+        writeShort(0); // comment length
+    }
+
+    private static long toDosTime(final long time) {
+        final LocalDateTime d = LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+        if (d.getYear() < 1980) {
+            return (1 << 21) | (1 << 16);
+        }
+        return (d.getYear() - 1980) << 25 | d.getMonthValue() << 21 | d.getDayOfMonth() << 16 | d.getHour() << 11
+            | d.getMinute() << 5 | d.getSecond() >> 1;
+    }
+
+    private void writeShort(final int v) throws IOException {
+        m_out.write(v & 0xFF);
+        m_out.write((v >>> 8) & 0xFF);
+        m_written += 2;
+    }
+
+    private void writeInt(final long v) throws IOException {
+        writeShort((int)(v & 0xFFFF));
+        writeShort((int)((v >>> 16) & 0xFFFF));
+    }
+
+    private void writeLong(final long v) throws IOException {
+        writeInt(v & 0xFFFFFFFFL);
+        writeInt(v >>> 32);
+    }
+
+    private void writeBytes(final byte[] b) throws IOException {
+        m_out.write(b);
+        m_written += b.length;
+    }
+
+    /** A write operation that may have to wait for the pool. */
+    @FunctionalInterface
+    private interface PendingWrite {
+        void write() throws IOException;
+    }
+
+    /** Deflated data of one chunk. */
+    private static final class Chunk {
+        private final byte[] m_data;
+
+        private final int m_length;
+
+        Chunk(final byte[] data, final int length) {
+            m_data = data;
+            m_length = length;
+        }
+    }
+
+    /** Central directory record of a written entry. */
+    private static final class Entry {
+        private final byte[] m_name;
+
+        private final int m_method;
+
+        private final long m_dosTime;
+
+        private long m_crc;
+
+        private long m_size;
+
+        private long m_compressedSize;
+
+        private long m_offset;
+
+        Entry(final byte[] name, final int method, final long dosTime) {
+            m_name = name;
+            m_method = method;
+            m_dosTime = dosTime;
+        }
+    }
+}
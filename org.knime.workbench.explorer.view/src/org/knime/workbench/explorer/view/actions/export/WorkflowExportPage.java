@@ -69,6 +69,7 @@
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Combo;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.FileDialog;
 import org.eclipse.swt.widgets.Group;
@@ -99,6 +100,8 @@ public class WorkflowExportPage extends WizardPage {
 
     private Button m_excludeData;
 
+    private Combo m_compressionLevel;
+
     private AbstractExplorerFileStore m_selection;
 
     private ExplorerFileStoreProvider m_provider;
@@ -201,7 +204,7 @@ public void widgetSelected(final SelectionEvent e) {
         });
 
         final Group group = new Group(container, SWT.NONE);
-        final GridLayout gridLayout1 = new GridLayout();
+        final GridLayout gridLayout1 = new GridLayout(2, false);
         group.setLayout(gridLayout1);
         group.setText("Options");
         final GridData gridData = new GridData(GridData.FILL_HORIZONTAL);
@@ -211,6 +214,14 @@ public void widgetSelected(final SelectionEvent e) {
         m_excludeData = new Button(group, SWT.CHECK);
         m_excludeData.setSelection(true);
         m_excludeData.setText("Reset Workflow(s) before export");
+        m_excludeData.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false, 2, 1));
+
+        Label compressionLabel = new Label(group, SWT.NULL);
+        compressionLabel.setText("Compression:");
+        m_compressionLevel = new Combo(group, SWT.DROP_DOWN | SWT.READ_ONLY);
+        m_compressionLevel.setItems(COMPRESSION_NAMES);
+        m_compressionLevel.setToolTipText("Higher compression creates smaller archives but takes longer; "
+            + "data files that are compressed already are never compressed again.");
 
         createTreeViewer(container);
 
@@ -283,12 +294,21 @@ private void initialize() {
         AbstractExplorerFileStore sel = m_selection;
         // load last selected dir from dialog settings
         IDialogSettings settings = getDialogSettings();
+        int compressionLevel = Zipper.DEFAULT_COMPRESSION_LEVEL;
         if (settings != null) {
             String lastSelected = settings.get(KEY_LOC);
             if (lastSelected != null && !lastSelected.isEmpty()) {
                 lastSelectedTargetLocation = lastSelected;
             }
+            if (settings.get(KEY_COMPRESSION) != null) {
+                try {
+                    compressionLevel = settings.getInt(KEY_COMPRESSION);
+                } catch (NumberFormatException e) {
+                    // keep the default
+                }
+            }
         }
+        selectCompressionLevel(compressionLevel);
         if (sel != null) {
             m_containerText.setText(sel.getMountIDWithFullPath());
         }
@@ -391,6 +411,25 @@ boolean excludeData() {
         return m_excludeData.getSelection();
     }
 
+    /**
+     * @return the selected deflate compression level of the archive, 0 (store only) to 9 (best compression)
+     */
+    int getCompressionLevel() {
+        int index = m_compressionLevel.getSelectionIndex();
+        return index < 0 ? Zipper.DEFAULT_COMPRESSION_LEVEL : COMPRESSION_LEVELS[index];
+    }
+
+    private void selectCompressionLevel(final int level) {
+        // pick the strongest offered level not above the requested one
+        int index = 0;
+        for (int i = 0; i < COMPRESSION_LEVELS.length; i++) {
+            if (COMPRESSION_LEVELS[i] <= level) {
+                index = i;
+            }
+        }
+        m_compressionLevel.select(index);
+    }
+
     /**
      * Uses the standard file selection dialog to choose the export file name.
      */
@@ -553,8 +592,16 @@ public String getFileName() {
 
     private static final String KEY_LOC = "destination-location";
 
+    private static final String KEY_COMPRESSION = "compression-level";
+
+    /** Compression levels offered in the options, in the order of {@link #COMPRESSION_NAMES}. */
+    private static final int[] COMPRESSION_LEVELS = {0, 1, 6, 9};
+
+    private static final String[] COMPRESSION_NAMES =
+        {"None (fastest)", "Fast", "Normal", "Maximum (smallest archive)"};
+
     /**
-     * Saves the last selected location (the parent of the last export file).
+     * Saves the last selected location (the parent of the last export file) and compression level.
      *
      * @see WorkflowExportWizard#performFinish()
      */
@@ -563,6 +610,7 @@ public void saveDialogSettings() {
         IDialogSettings settings = getDialogSettings();
         if (settings != null) {
             settings.put(KEY_LOC, lastSelectedTargetLocation);
+            settings.put(KEY_COMPRESSION, getCompressionLevel());
         }
     }
 
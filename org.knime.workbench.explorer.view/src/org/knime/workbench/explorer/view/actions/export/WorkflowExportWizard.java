@@ -164,7 +164,7 @@ public boolean performFinish() {
         final String filePath = m_page.getFileName().trim();
         final File exportFile = new File(filePath);
         final WorkflowExporter workflowExporter = new WorkflowExporter(exportFile,
-            m_page.getSelectedStore(), elementsToExport, m_page.excludeData());
+            m_page.getSelectedStore(), elementsToExport, m_page.excludeData(), m_page.getCompressionLevel());
 
         // if the specified export file already exist ask the user
         // for confirmation
@@ -50,8 +50,15 @@
 
 import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumSet;
 import java.util.List;
 
 import org.eclipse.core.runtime.CoreException;
@@ -88,6 +95,8 @@ public final class WorkflowExporter {
 
     private final File m_exportFile;
 
+    private final int m_compressionLevel;
+
     /**
      * @param exportFile
      * @param commonParent
@@ -96,10 +105,27 @@ public final class WorkflowExporter {
      */
     public WorkflowExporter(final File exportFile, final AbstractExplorerFileStore commonParent,
         final Collection<AbstractExplorerFileStore> elementsToExport, final boolean excludeData) {
+        this(exportFile, commonParent, elementsToExport, excludeData, Zipper.DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    /**
+     * @param exportFile
+     * @param commonParent
+     * @param elementsToExport
+     * @param excludeData
+     * @param compressionLevel the deflate compression level of the archive, 0 (store only) to 9 (best compression)
+     * @since 8.6
+     */
+    public WorkflowExporter(final File exportFile, final AbstractExplorerFileStore commonParent,
+        final Collection<AbstractExplorerFileStore> elementsToExport, final boolean excludeData,
+        final int compressionLevel) {
         m_commonParent = CheckUtils.checkArgumentNotNull(commonParent);
         m_exportFile = CheckUtils.checkArgumentNotNull(exportFile);
         m_excludeData = CheckUtils.checkArgumentNotNull(excludeData);
         m_elementsToExport = CheckUtils.checkArgumentNotNull(elementsToExport);
+        CheckUtils.checkArgument(compressionLevel >= 0 && compressionLevel <= 9, "Invalid compression level: %d",
+            compressionLevel);
+        m_compressionLevel = compressionLevel;
     }
 
     /**
@@ -109,39 +135,70 @@ public void doFinish(final IProgressMonitor monitor) throws CoreException {
 
         // start zipping
         monitor.beginTask("Archiving selected workflows... ", 10);
-        // if the data should be excluded from the export
-        // iterate over the resources and add only the wanted stuff
-        // i.e. the "intern" folder and "*.zip" files are excluded
-        final List<File> resourceList = new ArrayList<File>();
-        for (AbstractExplorerFileStore fs : m_elementsToExport) {
-            // add all files within the workflow or group
-            addResourcesFor(resourceList, fs, m_excludeData);
+        File parentLoc = m_commonParent.toLocalFile();
+        if (parentLoc == null) {
+            throw new CoreException(new Status(IStatus.ERROR, ExplorerActivator.PLUGIN_ID,
+                "Only local files can be exported (" + m_commonParent.getFullName() + " has no local file)", null));
         }
 
-        monitor.worked(1); // 10% for collecting the files...
-        try {
-            SubProgressMonitor sub = new SubProgressMonitor(monitor, 9);
+        int stripOff = new Path(parentLoc.getAbsolutePath()).segmentCount();
+        if (!m_commonParent.getFullName().equals("/")) {
+            // keep the common workflow group (if exists) in the archive
+            stripOff = stripOff - 1;
+        }
 
-            File parentLoc = m_commonParent.toLocalFile();
-            if (parentLoc == null) {
-                throw new CoreException(new Status(IStatus.ERROR, ExplorerActivator.PLUGIN_ID,
-                    "Only local files can be exported (" + m_commonParent.getFullName() + " has no local file)", null));
+        // if the data should be excluded only the wanted stuff is added, i.e. the "intern" folder and "*.zip" files
+        // are excluded; a first walk only counts the files and sums up the total work without keeping them
+        final long[] count = new long[2];
+        try {
+            for (AbstractExplorerFileStore fs : m_elementsToExport) {
+                addResourcesFor((f, attrs) -> {
+                    count[0]++;
+                    count[1] += getWork(f, attrs);
+                }, fs, m_excludeData);
             }
+        } catch (final IOException t) {
+            LOGGER.debug("Export of KNIME workflow(s) failed: " + t.getMessage(), t);
+            throw new CoreException(new Status(IStatus.ERROR, ExplorerActivator.PLUGIN_ID, t.getMessage(), t));
+        }
+        monitor.worked(1); // 10% for counting the files...
 
-            int stripOff = new Path(parentLoc.getAbsolutePath()).segmentCount();
-            if (!m_commonParent.getFullName().equals("/")) {
-                // keep the common workflow group (if exists) in the archive
-                stripOff = stripOff - 1;
+        // the files are compressed while the directories are walked a second time
+        SubProgressMonitor sub = new SubProgressMonitor(monitor, 9);
+        sub.beginTask("Compressing " + count[0] + " files...", (int)Math.min(count[1], Integer.MAX_VALUE));
+        try {
+            Zipper zipper = new Zipper(m_exportFile, stripOff, m_compressionLevel, sub);
+            try {
+                for (AbstractExplorerFileStore fs : m_elementsToExport) {
+                    // add all files within the workflow or group
+                    addResourcesFor(zipper::add, fs, m_excludeData);
+                }
+                zipper.finish();
+            } finally {
+                zipper.abort();
             }
-            Zipper.zipFiles(resourceList, m_exportFile, stripOff, sub);
-
         } catch (final IOException t) {
             LOGGER.debug("Export of KNIME workflow(s) failed: " + t.getMessage(), t);
             throw new CoreException(new Status(IStatus.ERROR, ExplorerActivator.PLUGIN_ID, t.getMessage(), t));
+        } finally {
+            sub.done();
         }
         monitor.done();
     }
 
+    /**
+     * @return the units of work the archive reports for the file: one per entry and started megabyte of content
+     */
+    private static long getWork(final File file, final BasicFileAttributes attributes) {
+        final long size;
+        if (attributes != null) {
+            size = attributes.isDirectory() ? 0 : attributes.size();
+        } else {
+            size = file.isDirectory() ? 0 : file.length();
+        }
+        return (size >>> 20) + 1;
+    }
+
     /**
      * Implements the exclude policy. Called only if "exclude data" is checked.
      *
@@ -197,11 +254,14 @@ protected static boolean excludeResource(final AbstractExplorerFileStore store)
      * @since 8.6
      */
     public static boolean excludeResource(final File store) {
-        String name = store.getName();
+        return excludeResource(store.getName(), store.isDirectory());
+    }
+
+    private static boolean excludeResource(final String name, final boolean isDirectory) {
         if (name.equals("internal")) {
             return true;
         }
-        if (store.isDirectory()) {
+        if (isDirectory) {
             // directories to exclude:
             if (name.startsWith(FileNodePersistor.PORT_FOLDER_PREFIX)) {
                 return true;
@@ -234,7 +294,6 @@ public static boolean excludeResource(final File store) {
         return false;
     }
 
-
     /**
      * Collects the files (files only) that are contained in the passed workflow or workflow group and are that are not
      * excluded. For workflows it does include all files contained in sub dirs (unless excluded).
@@ -249,12 +308,33 @@ public static void addResourcesFor(final List<File> resourceList, final Abstract
         if (resourceList == null) {
             throw new NullPointerException("Result list can't be null");
         }
+        try {
+            addResourcesFor((f, attrs) -> resourceList.add(f), element, excludeData);
+        } catch (IOException e) {
+            throw new CoreException(new Status(IStatus.ERROR, ExplorerActivator.PLUGIN_ID, e.getMessage(), e));
+        }
+    }
+
+    /**
+     * Receives the files to export one at a time while the directories are walked.
+     */
+    @FunctionalInterface
+    private interface ResourceSink {
+        /**
+         * @param file the file (or empty directory) to export
+         * @param attributes its attributes if read during the walk, otherwise <code>null</code>
+         */
+        void add(File file, BasicFileAttributes attributes) throws IOException;
+    }
+
+    private static void addResourcesFor(final ResourceSink sink, final AbstractExplorerFileStore element,
+        final boolean excludeData) throws CoreException, IOException {
         if (AbstractExplorerFileStore.isWorkflow(element) || AbstractExplorerFileStore.isWorkflowTemplate(element)) {
-            addWorkflowContent(resourceList, element, excludeData);
+            addWorkflowContent(sink, element, excludeData);
         } else if (AbstractExplorerFileStore.isDataFile(element)) {
-            addFile(resourceList, element);
+            addFile(sink, element);
         } else if (AbstractExplorerFileStore.isWorkflowGroup(element)) {
-            addWorkflowGroupContent(resourceList, element);
+            addWorkflowGroupContent(sink, element);
         } else {
             throw new IllegalArgumentException("Only resources of flows, templates or data files can be added (item \""
                     + element.getMountIDWithFullPath() + "\")");
@@ -264,69 +344,102 @@ public static void addResourcesFor(final List<File> resourceList, final Abstract
     /*
      * Adds files contained in workflow groups. Doesn't recurse. Adds the meta info file.
      */
-    private static void addWorkflowGroupContent(final List<File> resourceList, final AbstractExplorerFileStore group) throws CoreException {
+    private static void addWorkflowGroupContent(final ResourceSink sink, final AbstractExplorerFileStore group)
+        throws CoreException, IOException {
         assert group.fetchInfo().isDirectory();
         File loc = group.toLocalFile();
         if (loc == null) {
             throw new CoreException(new Status(IStatus.ERROR, ExplorerActivator.PLUGIN_ID,
                 "Only local files can be exported (" + group.getFullName() + " has no local file).", null));
         }
-        resourceList.add(new File(loc, WorkflowPersistor.METAINFO_FILE));
+        sink.add(new File(loc, WorkflowPersistor.METAINFO_FILE), null);
     }
 
     /**
      * Adds a file of the passed resourcelist.
      *
-     * @param resourceList
+     * @param sink
      * @param dataFile a file!
      * @throws CoreException
      */
-    private static void addFile(final List<File> resourceList, final AbstractExplorerFileStore dataFile)
-        throws CoreException {
+    private static void addFile(final ResourceSink sink, final AbstractExplorerFileStore dataFile)
+        throws CoreException, IOException {
         assert dataFile.fetchInfo().isFile();
         File loc = dataFile.toLocalFile();
         if (loc == null) {
             throw new CoreException(new Status(IStatus.ERROR, ExplorerActivator.PLUGIN_ID,
                 "Only local files can be exported (" + dataFile.getFullName() + " has no local file).", null));
         }
-        resourceList.add(loc);
+        sink.add(loc, null);
     }
 
     /*
      * Call this on workflows or templates only. Includes everything except data tables, if excluded
      */
 
-    private static void addWorkflowContent(final List<File> resources, final AbstractExplorerFileStore flow,
-        final boolean excludeData) throws CoreException {
+    private static void addWorkflowContent(final ResourceSink sink, final AbstractExplorerFileStore flow,
+        final boolean excludeData) throws CoreException, IOException {
         assert flow.fetchInfo().isDirectory();
         File loc = flow.toLocalFile();
         if (loc == null) {
             throw new CoreException(new Status(IStatus.ERROR, ExplorerActivator.PLUGIN_ID,
                 "Only local files can be exported (" + flow.getFullName() + " has no local file).", null));
         }
-        addEntireDirContent(resources, loc, excludeData);
+        addEntireDirContent(sink, loc, excludeData);
     }
 
-    private static void addEntireDirContent(final List<File> resources, final File dir, final boolean excludeData)
-        throws CoreException {
-        File[] content = dir.listFiles();
-        if (content == null) {
-            throw new CoreException(new Status(IStatus.ERROR, ExplorerActivator.PLUGIN_ID,
-                "Unable to read folder content from " + dir.getAbsolutePath() + ". Can't export it.", null));
-        }
-        if (content.length == 0) { // see AP-13538 (empty dirs are ignored -- so we add them)
-            resources.add(dir);
-        }
-        for (File child : content) {
-            if (!KnimeFileUtil.isMetaNode(child) && excludeData && excludeResource(child)) {
-                continue;
-            }
-            if (!child.isDirectory()) {
-                resources.add(child);
-            } else {
-                addEntireDirContent(resources, child, excludeData);
-            }
-        }
+    /*
+     * Walks the directory once, handing each file to the sink as soon as it is found. The attributes of the walk are
+     * passed on so that neither the exclude policy nor the archive needs to stat the file again.
+     */
+    private static void addEntireDirContent(final ResourceSink sink, final File dir, final boolean excludeData)
+        throws IOException {
+        final java.nio.file.Path root = dir.toPath();
+        // number of children seen per directory on the current path, empty dirs are added (AP-13538)
+        final Deque<int[]> childCounts = new ArrayDeque<>();
+        Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE,
+            new SimpleFileVisitor<java.nio.file.Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(final java.nio.file.Path d, final BasicFileAttributes attrs) {
+                    if (!d.equals(root)) {
+                        childCounts.peek()[0]++;
+                        if (isExcluded(d, true, excludeData)) {
+                            return FileVisitResult.SKIP_SUBTREE;
+                        }
+                    }
+                    childCounts.push(new int[1]);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(final java.nio.file.Path file, final BasicFileAttributes attrs)
+                    throws IOException {
+                    childCounts.peek()[0]++;
+                    if (!isExcluded(file, attrs.isDirectory(), excludeData)) {
+                        sink.add(file.toFile(), attrs);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(final java.nio.file.Path d, final IOException exc)
+                    throws IOException {
+                    if (exc != null) {
+                        throw new IOException("Unable to read folder content from " + d.toAbsolutePath()
+                            + ". Can't export it.", exc);
+                    }
+                    if (childCounts.pop()[0] == 0) {
+                        sink.add(d.toFile(), null);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+    }
+
+    private static boolean isExcluded(final java.nio.file.Path path, final boolean isDirectory,
+        final boolean excludeData) {
+        return excludeData && excludeResource(path.getFileName().toString(), isDirectory)
+            && !KnimeFileUtil.isMetaNode(path.toFile());
     }
 
 }
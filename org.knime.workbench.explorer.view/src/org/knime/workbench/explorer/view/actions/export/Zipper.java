@@ -47,16 +47,15 @@
  */
 package org.knime.workbench.explorer.view.actions.export;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.core.runtime.IPath;
@@ -65,17 +64,139 @@
 import org.eclipse.core.runtime.Path;
 
 /**
+ * Creates zip archives from local files. Entries are compressed in parallel by a {@link ParallelZipWriter}; files
+ * that are compressed already (see {@link #isCompressed(String)}) are stored as they are.
+ *
+ * <p>
+ * Files can either be passed as a collection ({@link #zipFiles(Collection, File, int, IProgressMonitor)}) or be
+ * streamed into an instance while the caller is still walking the directories to archive:
+ *
+ * <pre>
+ * Zipper zipper = new Zipper(outputFile, stripOff, level, monitor);
+ * try {
+ *     zipper.add(file, attributes); // ...
+ *     zipper.finish();
+ * } finally {
+ *     zipper.abort(); // no-op if finished
+ * }
+ * </pre>
  *
  * @author ohl, University of Konstanz
  */
 final class Zipper {
 
-    private static final int BUFFSIZE = 1024 * 2048;
+    /** The compression level used if none is specified, the maximum level. */
+    static final int DEFAULT_COMPRESSION_LEVEL = 9;
+
+    /** Extensions of files whose content is compressed already, they are stored without recompression. */
+    private static final Set<String> COMPRESSED_EXTENSIONS = new HashSet<>(
+        Arrays.asList("zip", "table", "gz", "knwf", "knar", "jar", "png", "jpg", "jpeg"));
+
+    private final File m_outputFile;
+
+    private final int m_stripOff;
 
-    private static final int COMPR_LEVEL = 9;
+    private final int m_level;
+
+    private final ParallelZipWriter m_writer;
+
+    private boolean m_finished;
 
     /**
-     * Compresses multiple files into one archive. Allows for removing leading path segments of each file's path.
+     * Creates the output archive, files are added with {@link #add(File, BasicFileAttributes)}. Call
+     * {@link #finish()} to complete the archive or {@link #abort()} to discard it.
+     *
+     * @param outputFile the compressed output archive
+     * @param stripOff number of segments in the path of each file that are stripped off before storing (if zero or
+     *            negative nothing is stripped off). The device is always removed.
+     * @param level the deflate compression level, 0 (store only) to 9 (best compression)
+     * @param mon to report progress and check for cancellation (can be null). The caller is responsible for
+     *            calling <code>beginTask</code>; one unit of work is reported per entry and compressed megabyte.
+     * @throws IOException if the output file can't be created
+     */
+    Zipper(final File outputFile, final int stripOff, final int level, final IProgressMonitor mon)
+        throws IOException {
+        m_outputFile = outputFile;
+        m_stripOff = stripOff;
+        m_level = level;
+        m_writer = new ParallelZipWriter(outputFile, level, Runtime.getRuntime().availableProcessors(),
+            mon == null ? new NullProgressMonitor() : mon);
+    }
+
+    /**
+     * Adds a file or directory to the archive. Directories are added as (empty) entries only, their content needs to
+     * be added separately.
+     *
+     * @param f the file to add
+     * @param attributes the attributes of the file if known to the caller, otherwise <code>null</code>
+     * @throws IOException if the file can't be read, the archive can't be written or the user canceled
+     */
+    void add(final File f, final BasicFileAttributes attributes) throws IOException {
+        if (f == null) {
+            throw new IOException("Illegal file in archive list: <null>!");
+        }
+        final BasicFileAttributes attrs =
+            attributes != null ? attributes : Files.readAttributes(f.toPath(), BasicFileAttributes.class);
+        IPath path = new Path(f.getAbsolutePath()).setDevice(null);
+        if (m_stripOff > 0 && path.segmentCount() > m_stripOff) {
+            path = path.removeFirstSegments(m_stripOff);
+        }
+        final String entryName = path.makeRelative().toString();
+        final long lastModified = attrs.lastModifiedTime().toMillis();
+        if (attrs.isDirectory()) {
+            // mostly for empty directories (but non-empty dirs are accepted also)
+            m_writer.putDirectory(StringUtils.appendIfMissing(entryName, "/"), lastModified);
+        } else if (attrs.size() == 0) {
+            // this is mainly for the .knimeLock file of open workflows; the file is locked and windows forbids
+            // mmap-ing locked files but FileInputStream seems to mmap files which leads to exceptions while
+            // reading the (non-existing) contents of the file
+            m_writer.putEmpty(entryName, lastModified);
+        } else if (m_level == 0 || isCompressed(f.getName())) {
+            m_writer.putStored(entryName, f, lastModified);
+        } else {
+            m_writer.putDeflated(entryName, f, lastModified);
+        }
+    }
+
+    /**
+     * Waits for all pending entries and completes the archive.
+     *
+     * @throws IOException if writing fails
+     */
+    void finish() throws IOException {
+        m_writer.finish();
+        m_finished = true;
+    }
+
+    /**
+     * Discards the archive unless it has been finished successfully: stops the compression and deletes the output
+     * file.
+     */
+    void abort() {
+        if (m_finished) {
+            return;
+        }
+        try {
+            m_writer.close();
+        } catch (IOException ioe) {
+            // deleted below anyway
+        }
+        m_outputFile.delete();
+    }
+
+    /**
+     * @param fileName the name of a file
+     * @return true if the file name has an extension of a format that is compressed already (e.g. zip or KNIME
+     *         tables), such files are stored without recompressing them
+     */
+    static boolean isCompressed(final String fileName) {
+        final String ext = StringUtils.substringAfterLast(fileName, ".");
+        return COMPRESSED_EXTENSIONS.contains(ext.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Compresses multiple files into one archive with the {@link #DEFAULT_COMPRESSION_LEVEL default compression
+     * level}. Allows for removing leading path segments of each file's path.
      *
      * @param files files to add to the archive. Directories containing the files don't need to be part of this list
      *            unless the directories are empty and empty dirs shoul be part of the archive.
@@ -88,29 +209,38 @@ final class Zipper {
      */
     public static void zipFiles(final Collection<File> files, final File outputFile, final int stripOff,
         final IProgressMonitor mon) throws IOException {
+        zipFiles(files, outputFile, stripOff, DEFAULT_COMPRESSION_LEVEL, mon);
+    }
+
+    /**
+     * Compresses multiple files into one archive. Allows for removing leading path segments of each file's path.
+     *
+     * @param files files to add to the archive. Directories containing the files don't need to be part of this list
+     *            unless the directories are empty and empty dirs shoul be part of the archive.
+     * @param outputFile the compressed output archive
+     * @param stripOff number of segments in the path of each file that are stripped off before storing (if zero or
+     *            negative nothing is stripped off). The device is always removed.
+     * @param level the deflate compression level, 0 (store only) to 9 (best compression)
+     * @param mon to report progress and check for cancellation (can be null)
+     * @throws IOException if an an I/O error occurred, the user canceled, one of the specified didn't exist or anything
+     *             else went wrong. It tries to delete the partially created output file before then.
+     */
+    public static void zipFiles(final Collection<File> files, final File outputFile, final int stripOff,
+        final int level, final IProgressMonitor mon) throws IOException {
 
         IProgressMonitor monitor = mon;
         if (monitor == null) {
             monitor = new NullProgressMonitor();
         }
 
-        byte[] buf = new byte[BUFFSIZE];
-        IOException ioException = null;
-
-        try (FileOutputStream outStream = new FileOutputStream(outputFile);
-                ZipOutputStream zout = new ZipOutputStream(new BufferedOutputStream(outStream, BUFFSIZE))) {
-            if (files.size() == 0) {
-                // cleanup done in the finally block
-                return;
-            }
-
-            zout.setLevel(COMPR_LEVEL);
+        final Zipper zipper = new Zipper(outputFile, stripOff, level, monitor);
+        try {
             if (mon != null) {
                 // set the overall progress to the overall megabyte
                 int wrk = 0;
                 int nrFiles = 0;
                 for (File f : files) {
-                    if (!f.isDirectory()) {
+                    if (f != null && !f.isDirectory()) {
                         int megaBytes = (int)(f.length() >>> 20);
                         wrk += megaBytes + 1;
                         nrFiles += 1;
@@ -119,64 +249,12 @@ public static void zipFiles(final Collection<File> files, final File outputFile,
                 monitor.beginTask("Compressing " + nrFiles + " files...", wrk);
             }
             for (File f : files) {
-                if (f == null) {
-                    ioException = new IOException("Illegal file in archive list: <null>!");
-                    // cleanup done in the finally block
-                    return;
-                }
-                if (monitor.isCanceled()) {
-                    ioException = new IOException("Canceled.");
-                    // cleanup done in the finally block
-                    return;
-                }
-
-                IPath path = new Path(f.getAbsolutePath()).setDevice(null);
-                if (stripOff > 0 && path.segmentCount() > stripOff) {
-                    path = path.removeFirstSegments(stripOff);
-                }
-                String entryName = path.makeRelative().toString();
-                if (f.isDirectory()) {
-                    // mostly for empty directories (but non-empty dirs are accepted also)
-                    zout.putNextEntry(new ZipEntry(StringUtils.appendIfMissing(entryName, "/")));
-                    zout.closeEntry();
-                } else if (f.length() == 0) {
-                    // this is mainly for the .knimeLock file of open workflows; the file is locked and windows forbids
-                    // mmap-ing locked files but FileInputStream seems to mmap files which leads to exceptions while
-                    // reading the (non-existing) contents of the file
-                    zout.putNextEntry(new ZipEntry(entryName));
-                    zout.closeEntry();
-                } else {
-                    try (InputStream in = new BufferedInputStream(new FileInputStream(f), BUFFSIZE)) {
-                        zout.putNextEntry(new ZipEntry(entryName));
-                        int read;
-                        while ((read = in.read(buf)) >= 0) {
-                            if (monitor.isCanceled()) {
-                                ioException = new IOException("Canceled.");
-                                // cleanup done in the finally block
-                                return;
-                            }
-                            zout.write(buf, 0, read);
-                        }
-                    } catch (IOException ioe) {
-                        ioException = new IOException(String.format("Unable to add file \"%s\" to archive \"%s\": %s",
-                            f.getAbsolutePath(), outputFile.getAbsoluteFile(), ioe.getMessage()), ioe);
-
-                    } finally {
-                        zout.closeEntry();
-                    }
-                }
-                int megaBytes = (int)(f.length() >>> 20);
-                monitor.worked(megaBytes + 1);
+                zipper.add(f, null);
             }
-        } catch (IOException ioe) {
-            ioException = ioe; // catch it to have variable assigned for finally block
+            zipper.finish();
         } finally {
             monitor.done();
-            if (ioException != null) {
-                outputFile.delete();
-                throw ioException;
-            }
+            zipper.abort();
         }
-
     }
 }
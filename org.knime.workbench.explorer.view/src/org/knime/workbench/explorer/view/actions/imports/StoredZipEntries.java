@@ -0,0 +1,281 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026: created
+ */
+package org.knime.workbench.explorer.view.actions.imports;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.zip.ZipEntry;
+
+/**
+ * Positional access to the uncompressed (stored) entries of a zip archive, so that their content can be transferred
+ * from the archive into the target file with <code>FileChannel.transferTo</code> instead of being copied through the
+ * heap. The offsets of the entries are read once from the central directory (including the Zip64 extensions).
+ * Transfers use absolute positions and can run concurrently. They are done in chunks of {@value #CHUNK_SIZE} bytes so
+ * that a cancellation is noticed while transferring large entries.
+ *
+ * <p>
+ * Entries that can't be located (e.g. because of an unusual name encoding) are reported as unavailable and need to
+ * be read through {@link java.util.zip.ZipFile} instead.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class StoredZipEntries implements Closeable {
+
+    private static final int END_SIG = 0x06054b50;
+
+    private static final int END_SIZE = 22;
+
+    private static final int ZIP64_LOCATOR_SIG = 0x07064b50;
+
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+
+    private static final int ZIP64_END_SIG = 0x06064b50;
+
+    private static final int CENTRAL_HEADER_SIG = 0x02014b50;
+
+    private static final int CENTRAL_HEADER_SIZE = 46;
+
+    private static final int LOCAL_HEADER_SIG = 0x04034b50;
+
+    private static final int LOCAL_HEADER_SIZE = 30;
+
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    /** Number of bytes transferred between two checks for cancellation. */
+    static final int CHUNK_SIZE = 1 << 20;
+
+    private final FileChannel m_channel;
+
+    /** Local header offsets of the stored entries by entry name. */
+    private final Map<String, Long> m_localHeaderOffsets;
+
+    private StoredZipEntries(final FileChannel channel, final Map<String, Long> localHeaderOffsets) {
+        m_channel = channel;
+        m_localHeaderOffsets = localHeaderOffsets;
+    }
+
+    /**
+     * Opens the archive and reads the offsets of its stored entries.
+     *
+     * @param archive the zip file
+     * @return the stored entries of the archive
+     * @throws IOException if the archive can't be read or its central directory is malformed
+     */
+    static StoredZipEntries open(final File archive) throws IOException {
+        final FileChannel channel = FileChannel.open(archive.toPath(), StandardOpenOption.READ);
+        try {
+            return new StoredZipEntries(channel, readLocalHeaderOffsets(channel));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @param entry an entry of the archive
+     * @return true if the entry is stored without compression and can be transferred with
+     *         {@link #transferTo(ZipEntry, File, BooleanSupplier)}
+     */
+    boolean isAvailable(final ZipEntry entry) {
+        return entry.getMethod() == ZipEntry.STORED && entry.getSize() >= 0
+            && m_localHeaderOffsets.containsKey(entry.getName());
+    }
+
+    /**
+     * Writes the content of a stored entry to a file, replacing its content.
+     *
+     * @param entry the entry, must be {@link #isAvailable(ZipEntry) available}
+     * @param target the file to write
+     * @param isCanceled checked before each chunk, the transfer is aborted if it returns <code>true</code>
+     * @throws IOException if reading or writing fails or the transfer has been canceled
+     */
+    void transferTo(final ZipEntry entry, final File target, final BooleanSupplier isCanceled) throws IOException {
+        final long dataOffset = getDataOffset(entry);
+        final long size = entry.getSize();
+        try (FileChannel out = FileChannel.open(target.toPath(), StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+            long pos = 0;
+            while (pos < size) {
+                if (isCanceled.getAsBoolean()) {
+                    throw new IOException("Canceled.");
+                }
+                final long n = m_channel.transferTo(dataOffset + pos, Math.min(CHUNK_SIZE, size - pos), out);
+                if (n <= 0) {
+                    throw new IOException("Unexpected end of archive in entry \"" + entry.getName() + "\"");
+                }
+                pos += n;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        m_channel.close();
+    }
+
+    private long getDataOffset(final ZipEntry entry) throws IOException {
+        final long headerOffset = m_localHeaderOffsets.get(entry.getName());
+        final ByteBuffer header = read(m_channel, headerOffset, LOCAL_HEADER_SIZE);
+        if (header.getInt(0) != LOCAL_HEADER_SIG) {
+            throw new IOException("Invalid local header of archive entry \"" + entry.getName() + "\"");
+        }
+        final long dataOffset =
+            headerOffset + LOCAL_HEADER_SIZE + (header.getShort(26) & 0xFFFF) + (header.getShort(28) & 0xFFFF);
+        if (dataOffset + entry.getSize() > m_channel.size()) {
+            throw new IOException("Archive entry \"" + entry.getName() + "\" exceeds the archive");
+        }
+        return dataOffset;
+    }
+
+    private static Map<String, Long> readLocalHeaderOffsets(final FileChannel channel) throws IOException {
+        final long fileSize = channel.size();
+        final int tailLength = (int)Math.min(fileSize, END_SIZE + 0xFFFF);
+        final ByteBuffer tail = read(channel, fileSize - tailLength, tailLength);
+        int endPos = -1;
+        for (int i = tailLength - END_SIZE; i >= 0; i--) {
+            if (tail.getInt(i) == END_SIG) {
+                endPos = i;
+                break;
+            }
+        }
+        if (endPos < 0) {
+            throw new IOException("End of central directory not found");
+        }
+        long entries = tail.getShort(endPos + 10) & 0xFFFF;
+        long cenSize = tail.getInt(endPos + 12) & ZIP64_MAGIC;
+        long cenOffset = tail.getInt(endPos + 16) & ZIP64_MAGIC;
+        if (entries == 0xFFFF || cenSize == ZIP64_MAGIC || cenOffset == ZIP64_MAGIC) {
+            final long locatorPos = fileSize - tailLength + endPos - ZIP64_LOCATOR_SIZE;
+            final ByteBuffer locator = read(channel, locatorPos, ZIP64_LOCATOR_SIZE);
+            if (locator.getInt(0) == ZIP64_LOCATOR_SIG) {
+                final ByteBuffer end64 = read(channel, locator.getLong(8), 56);
+                if (end64.getInt(0) != ZIP64_END_SIG) {
+                    throw new IOException("Invalid Zip64 end of central directory");
+                }
+                entries = end64.getLong(32);
+                cenSize = end64.getLong(40);
+                cenOffset = end64.getLong(48);
+            }
+        }
+        if (cenSize > Integer.MAX_VALUE || cenOffset + cenSize > fileSize) {
+            throw new IOException("Invalid central directory");
+        }
+        final ByteBuffer cen = read(channel, cenOffset, (int)cenSize);
+        final Map<String, Long> offsets = new HashMap<>();
+        int pos = 0;
+        for (long i = 0; i < entries && pos + CENTRAL_HEADER_SIZE <= cen.limit(); i++) {
+            if (cen.getInt(pos) != CENTRAL_HEADER_SIG) {
+                throw new IOException("Invalid central directory header");
+            }
+            final int method = cen.getShort(pos + 10) & 0xFFFF;
+            final long compressedSize = cen.getInt(pos + 20) & ZIP64_MAGIC;
+            final long size = cen.getInt(pos + 24) & ZIP64_MAGIC;
+            final int nameLength = cen.getShort(pos + 28) & 0xFFFF;
+            final int extraLength = cen.getShort(pos + 30) & 0xFFFF;
+            final int commentLength = cen.getShort(pos + 32) & 0xFFFF;
+            long offset = cen.getInt(pos + 42) & ZIP64_MAGIC;
+            if (method == ZipEntry.STORED) {
+                final byte[] name = new byte[nameLength];
+                ((ByteBuffer)cen.duplicate().position(pos + CENTRAL_HEADER_SIZE)).get(name);
+                if (offset == ZIP64_MAGIC) {
+                    offset = readZip64Offset(cen, pos + CENTRAL_HEADER_SIZE + nameLength, extraLength,
+                        size == ZIP64_MAGIC, compressedSize == ZIP64_MAGIC);
+                }
+                offsets.put(new String(name, StandardCharsets.UTF_8), offset);
+            }
+            pos += CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+        }
+        return offsets;
+    }
+
+    /** Reads the local header offset from the Zip64 extra field that follows the (optional) sizes. */
+    private static long readZip64Offset(final ByteBuffer cen, final int extraStart, final int extraLength,
+        final boolean hasSize, final boolean hasCompressedSize) throws IOException {
+        int pos = extraStart;
+        final int end = extraStart + extraLength;
+        while (pos + 4 <= end) {
+            final int id = cen.getShort(pos) & 0xFFFF;
+            final int length = cen.getShort(pos + 2) & 0xFFFF;
+            if (id == ZIP64_EXTRA_ID) {
+                final int offsetPos = pos + 4 + (hasSize ? 8 : 0) + (hasCompressedSize ? 8 : 0);
+                if (offsetPos + 8 <= pos + 4 + length) {
+                    return cen.getLong(offsetPos);
+                }
+                break;
+            }
+            pos += 4 + length;
+        }
+        throw new IOException("Missing Zip64 offset in central directory");
+    }
+
+    private static ByteBuffer read(final FileChannel channel, final long position, final int length)
+        throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of archive");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
@@ -58,11 +58,22 @@
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.zip.ZipEntry;
 
 import org.eclipse.core.filesystem.EFS;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.SubMonitor;
@@ -71,6 +82,8 @@
 import org.eclipse.ui.actions.WorkspaceModifyOperation;
 import org.eclipse.ui.internal.wizards.datatransfer.ArchiveFileManipulations;
 import org.eclipse.ui.internal.wizards.datatransfer.ILeveledImportStructureProvider;
+import org.eclipse.ui.internal.wizards.datatransfer.ZipLeveledStructureProvider;
+import org.knime.core.node.NodeLogger;
 import org.knime.core.node.workflow.WorkflowPersistor;
 import org.knime.core.util.FileUtil;
 import org.knime.workbench.explorer.ExplorerMountTable;
@@ -83,13 +96,23 @@
  * Imports workflows from an archive (Zip, tar.gz) file or directory into the workspace.
  */
 public class WorkflowImportOperation extends WorkspaceModifyOperation {
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(WorkflowImportOperation.class);
+
     private static final int BUFFSIZE = 1024 * 2048;
 
+    /** Copy buffers of the extraction threads. */
+    private static final ThreadLocal<byte[]> COPY_BUFFER = ThreadLocal.withInitial(() -> new byte[BUFFSIZE]);
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
     private final Collection<IWorkflowImportElement> m_workflows;
 
     /** Collection containing all unchecked workflows and workflows group. */
     private final Collection<IWorkflowImportElement> m_uncheckedWorkflows = new HashSet<>();
 
+    /** The archive entries of the unchecked elements, looked up for every extracted entry. */
+    private final Set<Object> m_uncheckedEntries = new HashSet<>();
+
     private final AbstractExplorerFileStore m_targetPath;
 
     private final Shell m_shell;
@@ -118,6 +141,11 @@ public WorkflowImportOperation(final Collection<IWorkflowImportElement> workflow
         m_targetPath = targetPath;
         m_shell = shell;
         m_uncheckedWorkflows.addAll(unchecked);
+        for (IWorkflowImportElement e : unchecked) {
+            if (e instanceof WorkflowImportElementFromArchive) {
+                m_uncheckedEntries.add(((WorkflowImportElementFromArchive)e).getEntry());
+            }
+        }
     }
 
     /**
@@ -269,13 +297,30 @@ protected void importWorkflowFromArchive(final WorkflowImportElementFromArchive
     }
 
     /**
-     * Import the entire subtree.
+     * Import the entire subtree. All directories are created first, the files are extracted afterwards, in parallel
+     * for zip archives.
      */
     private void importArchiveEntry(final ILeveledImportStructureProvider importProvider, final Object entry,
         final AbstractExplorerFileStore destination, final IProgressMonitor monitor) throws IOException {
 
         //assert !destination.fetchInfo().exists();
 
+        final List<ArchiveFile> files = new ArrayList<>();
+        final List<String> importedPaths = new ArrayList<>();
+        createDirectories(importProvider, entry, destination, files, importedPaths, monitor);
+        extractFiles(importProvider, files, monitor);
+        m_importedFiles.addAll(importedPaths);
+    }
+
+    /**
+     * Creates the directories of the subtree and collects the files to extract.
+     */
+    private void createDirectories(final ILeveledImportStructureProvider importProvider, final Object entry,
+        final AbstractExplorerFileStore destination, final List<ArchiveFile> files, final List<String> importedPaths,
+        final IProgressMonitor monitor) throws IOException {
+        if (monitor.isCanceled()) {
+            throw new IOException("Canceled.");
+        }
         if (importProvider.isFolder(entry)) {
             // first create the destination
             try {
@@ -286,35 +331,144 @@ private void importArchiveEntry(final ILeveledImportStructureProvider importProv
 
             // import all sub elements
             for (Object child : importProvider.getChildren(entry)) {
-                String path = importProvider.getFullPath(child);
-
                 /* Check if it is an unchecked item (AP-13299). */
-                final boolean isUnchecked = m_uncheckedWorkflows.stream()
-                    .anyMatch(e -> ((WorkflowImportElementFromArchive)e).getEntry().equals(child));
-
-                if (!isUnchecked) {
+                if (!m_uncheckedEntries.contains(child)) {
+                    String path = importProvider.getFullPath(child);
                     AbstractExplorerFileStore childDest = destination.getChild(new Path(path).lastSegment());
-                    importArchiveEntry(importProvider, child, childDest, monitor);
+                    createDirectories(importProvider, child, childDest, files, importedPaths, monitor);
                 }
             }
         } else {
-            try (InputStream inStream = importProvider.getContents(entry);
-                    OutputStream outStream = destination.openOutputStream(EFS.NONE, monitor)) {
-                byte[] buffer = new byte[BUFFSIZE];
-                int read;
-                while ((read = inStream.read(buffer)) >= 0) {
-                    if (monitor.isCanceled()) {
-                        throw new IOException("Canceled.");
-                    }
-                    outStream.write(buffer, 0, read);
+            files.add(new ArchiveFile(entry, destination));
+        }
+
+        final String path = importProvider.getFullPath(entry);
+        importedPaths.add(path.endsWith("/") ? path.substring(0, path.length() - 1) : path);
+    }
+
+    /**
+     * Extracts the collected files. Zip archives are read by a pool of threads, stored entries are transferred
+     * without copying them through the heap. Tar archives can only be read sequentially.
+     */
+    @SuppressWarnings("restriction")
+    private static void extractFiles(final ILeveledImportStructureProvider importProvider,
+        final List<ArchiveFile> files, final IProgressMonitor monitor) throws IOException {
+        final SubMonitor progress = SubMonitor.convert(monitor, files.size());
+        final int nrThreads = Math.min(files.size(), Runtime.getRuntime().availableProcessors());
+        if (!(importProvider instanceof ZipLeveledStructureProvider) || nrThreads < 2) {
+            final byte[] buffer = new byte[BUFFSIZE];
+            for (ArchiveFile file : files) {
+                if (monitor.isCanceled()) {
+                    throw new IOException("Canceled.");
                 }
+                extractFile(importProvider, file, null, buffer, monitor::isCanceled);
+                progress.worked(1);
+            }
+            return;
+        }
+
+        final StoredZipEntries storedEntries =
+            openStoredEntries(((ZipLeveledStructureProvider)importProvider).getZipFile().getName());
+        final AtomicBoolean canceled = new AtomicBoolean();
+        final ExecutorService pool = Executors.newFixedThreadPool(nrThreads, r -> {
+            Thread t = new Thread(r, "KNIME-Workflow-Import-" + THREAD_COUNTER.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            final List<Future<?>> futures = new ArrayList<>(files.size());
+            for (ArchiveFile file : files) {
+                futures.add(pool.submit(() -> {
+                    extractFile(importProvider, file, storedEntries, COPY_BUFFER.get(), canceled::get);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                awaitExtraction(future, monitor);
+                progress.worked(1);
+            }
+        } finally {
+            // stops the remaining extractions if anything went wrong
+            canceled.set(true);
+            pool.shutdownNow();
+            try {
+                pool.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (storedEntries != null) {
+                storedEntries.close();
+            }
+        }
+    }
+
+    private static StoredZipEntries openStoredEntries(final String archivePath) {
+        try {
+            return StoredZipEntries.open(new File(archivePath));
+        } catch (IOException e) {
+            LOGGER.debug("Unable to read entry offsets of \"" + archivePath + "\", stored entries are copied: "
+                + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private static void awaitExtraction(final Future<?> future, final IProgressMonitor monitor) throws IOException {
+        try {
+            while (true) {
+                if (monitor.isCanceled()) {
+                    throw new IOException("Canceled.");
+                }
+                try {
+                    future.get(100, TimeUnit.MILLISECONDS);
+                    return;
+                } catch (TimeoutException e) {
+                    // check for cancellation again
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Canceled.", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+
+    private static void extractFile(final ILeveledImportStructureProvider importProvider, final ArchiveFile file,
+        final StoredZipEntries storedEntries, final byte[] buffer, final BooleanSupplier isCanceled)
+        throws IOException {
+        if (storedEntries != null && file.m_entry instanceof ZipEntry
+            && storedEntries.isAvailable((ZipEntry)file.m_entry)) {
+            final File target;
+            try {
+                target = file.m_destination.toLocalFile();
             } catch (CoreException ex) {
                 throw new IOException(ex);
             }
+            if (target != null) {
+                storedEntries.transferTo((ZipEntry)file.m_entry, target, isCanceled);
+                return;
+            }
+        }
+        try (InputStream inStream = importProvider.getContents(file.m_entry);
+                OutputStream outStream = file.m_destination.openOutputStream(EFS.NONE, new NullProgressMonitor())) {
+            if (inStream == null) {
+                throw new IOException(
+                    "Unable to read archive entry \"" + importProvider.getFullPath(file.m_entry) + "\"");
+            }
+            int read;
+            while ((read = inStream.read(buffer)) >= 0) {
+                if (isCanceled.getAsBoolean()) {
+                    throw new IOException("Canceled.");
+                }
+                outStream.write(buffer, 0, read);
+            }
+        } catch (CoreException ex) {
+            throw new IOException(ex);
         }
-
-        final String path = importProvider.getFullPath(entry);
-        m_importedFiles.add(path.endsWith("/") ? path.substring(0, path.length() - 1) : path);
     }
 
     /**
@@ -391,4 +545,15 @@ private void createMetaInfo() throws Exception {
         }
     }
 
+    /** A file entry of an archive and the location it is extracted to. */
+    private static final class ArchiveFile {
+        private final Object m_entry;
+
+        private final AbstractExplorerFileStore m_destination;
+
+        ArchiveFile(final Object entry, final AbstractExplorerFileStore destination) {
+            m_entry = entry;
+            m_destination = destination;
+        }
+    }
 }
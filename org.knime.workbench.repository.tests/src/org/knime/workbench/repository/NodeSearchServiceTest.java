@@ -0,0 +1,163 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026: created
+ */
+package org.knime.workbench.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.knime.workbench.repository.model.AbstractNodeTemplate;
+import org.knime.workbench.repository.model.Category;
+import org.knime.workbench.repository.model.NodeTemplate;
+import org.knime.workbench.repository.model.Root;
+import org.knime.workbench.repository.model.TestNodeTemplate;
+
+/**
+ * Testcases for {@link NodeSearchService}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class NodeSearchServiceTest {
+    private final Map<NodeTemplate, Integer> m_frequencies = new HashMap<NodeTemplate, Integer>();
+
+    private final Root m_root = new Root();
+
+    private NodeTemplate m_rowFilter;
+
+    private NodeTemplate m_columnFilter;
+
+    private NodeTemplate m_ruleFilter;
+
+    private NodeTemplate m_groupBy;
+
+    private NodeTemplate m_pivoting;
+
+    private void createRepository() {
+        Category manipulation = new Category("manipulation", "Manipulation", "org.knime.base");
+        m_root.addChild(manipulation);
+        Category row = new Category("row", "Row", "org.knime.base");
+        manipulation.addChild(row);
+        Category column = new Category("column", "Column", "org.knime.base");
+        manipulation.addChild(column);
+
+        m_rowFilter = addNode(row, "org.knime.base.node.preproc.filter.row.RowFilterNodeFactory", "Row Filter");
+        m_ruleFilter = addNode(row, "org.knime.base.node.rules.engine.RuleEngineFilterNodeFactory",
+            "Rule-based Row Filter");
+        m_groupBy = addNode(row, "org.knime.base.node.preproc.groupby.GroupByNodeFactory", "GroupBy");
+        m_columnFilter =
+            addNode(column, "org.knime.base.node.preproc.filter.column.DataColumnSpecFilterNodeFactory",
+                "Column Filter");
+        m_pivoting = addNode(column, "org.knime.base.node.preproc.pivot.Pivot2NodeFactory", "Pivoting");
+    }
+
+    private NodeTemplate addNode(final Category category, final String id, final String name) {
+        NodeTemplate node = new TestNodeTemplate(id, name, "org.knime.base", category.getPath());
+        category.addChild(node);
+        return node;
+    }
+
+    private NodeSearchService createService() {
+        createRepository();
+        return new NodeSearchService(m_root, n -> m_frequencies.getOrDefault(n, 0));
+    }
+
+    @Test
+    public void testNameMatches() {
+        NodeSearchService service = createService();
+
+        assertEquals("Unexpected best result for exact name", m_groupBy, service.search("GroupBy").get(0));
+        assertEquals("Unexpected results for misspelled name", Arrays.asList(m_groupBy),
+            service.search("gruopby", 1));
+        assertTrue("Unexpected results for empty query", service.search("  ").isEmpty());
+    }
+
+    @Test
+    public void testMaxResults() {
+        NodeSearchService service = createService();
+
+        List<AbstractNodeTemplate> filters = service.search("filter");
+        assertEquals("Unexpected number of results", 3, filters.size());
+        assertEquals("Limited results are not the best results", filters.subList(0, 2),
+            service.search("filter", 2));
+        assertEquals("Unlimited results differ from default results", filters,
+            service.search("filter", Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testCategoryAndKeywordMatches() {
+        NodeSearchService service = createService();
+
+        // the pivoting node is only found by its category, the column filter also matches by name
+        assertEquals("Unexpected results for category", Arrays.asList(m_columnFilter, m_pivoting),
+            service.search("column"));
+
+        // "preproc" is only part of the factory class names
+        List<AbstractNodeTemplate> keywordResults = new ArrayList<AbstractNodeTemplate>(service.search("preproc"));
+        keywordResults.sort(Comparator.comparing(AbstractNodeTemplate::getName));
+        assertEquals("Unexpected results for keyword",
+            Arrays.asList(m_columnFilter, m_groupBy, m_pivoting, m_rowFilter), keywordResults);
+    }
+
+    @Test
+    public void testFrequency() {
+        NodeSearchService service = createService();
+
+        assertEquals("Unexpected order without usage", Arrays.asList(m_rowFilter, m_ruleFilter),
+            service.search("row filter", 2));
+        m_frequencies.put(m_ruleFilter, 100);
+        assertEquals("Frequently used node not ranked higher", Arrays.asList(m_ruleFilter, m_rowFilter),
+            service.search("row filter", 2));
+    }
+}
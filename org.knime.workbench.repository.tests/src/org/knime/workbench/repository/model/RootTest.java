@@ -0,0 +1,158 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026: created
+ */
+package org.knime.workbench.repository.model;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Testcases for the indexed child lookup in {@link AbstractContainerObject} and the container cache in {@link Root}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class RootTest {
+    @Test
+    public void testFindContainer() {
+        Root root = new Root();
+        Category c1 = new Category("c1", "C1", "org.knime.bla");
+        root.addChild(c1);
+        Category c2 = new Category("c2", "C2", "org.knime.bla");
+        c1.addChild(c2);
+
+        assertThat("Unexpected container for root path", root.findContainer("/"),
+            is(sameInstance((IContainerObject)root)));
+        assertThat("Unexpected container for first level", root.findContainer("/c1"),
+            is(sameInstance((IContainerObject)c1)));
+        assertThat("Unexpected container for second level", root.findContainer("/c1/c2"),
+            is(sameInstance((IContainerObject)c2)));
+        assertThat("Unexpected container for cached second level", root.findContainer("/c1/c2"),
+            is(sameInstance((IContainerObject)c2)));
+        assertThat("Non-existing container found", root.findContainer("/c1/c3"), is(nullValue()));
+
+        Category c3 = new Category("c3", "C3", "org.knime.bla");
+        c1.addChild(c3);
+        assertThat("New container not found", root.findContainer("/c1/c3"), is(sameInstance((IContainerObject)c3)));
+
+        c1.removeChild(c2);
+        assertThat("Removed container still found", root.findContainer("/c1/c2"), is(nullValue()));
+
+        c3.move(root);
+        assertThat("Moved container found at old location", root.findContainer("/c1/c3"), is(nullValue()));
+        assertThat("Moved container not found at new location", root.findContainer("/c3"),
+            is(sameInstance((IContainerObject)c3)));
+    }
+
+    @Test
+    public void testChildIndex() {
+        Root root = new Root();
+        Category c1 = new Category("c1", "C1", "org.knime.bla");
+        root.addChild(c1);
+        NodeTemplate n1 = new TestNodeTemplate("n1", "N1", "org.knime.base", "/c1");
+        c1.addChild(n1);
+        NodeTemplate n2 = new TestNodeTemplate("n2", "N2", "org.knime.base", "/c1");
+        c1.addChildBefore(n2, n1);
+
+        assertThat("Child not found by ID", c1.getChildByID("n1", false), is(sameInstance((IRepositoryObject)n1)));
+        assertThat("Inserted child not found by ID", c1.getChildByID("n2", false),
+            is(sameInstance((IRepositoryObject)n2)));
+        assertThat("Child not found recursively", root.getChildByID("n2", true),
+            is(sameInstance((IRepositoryObject)n2)));
+        assertThat("Child found in wrong level", root.getChildByID("n2", false), is(nullValue()));
+        assertThat("Duplicate child added", c1.addChild(n1), is(false));
+        assertThat("Child not contained", c1.contains(n1), is(true));
+
+        c1.removeChild(n1);
+        assertThat("Removed child still found", c1.getChildByID("n1", false), is(nullValue()));
+        assertThat("Removed child still contained", c1.contains(n1), is(false));
+
+        // the first child with a given ID is returned
+        NodeTemplate n2Duplicate = new TestNodeTemplate("n2", "N2 Duplicate", "org.knime.base", "/c1");
+        assertThat("Child with duplicate ID not added", c1.addChild(n2Duplicate), is(true));
+        assertThat("Unexpected child for duplicate ID", c1.getChildByID("n2", false),
+            is(sameInstance((IRepositoryObject)n2)));
+        c1.removeChild(n2);
+        assertThat("Remaining child with duplicate ID not found", c1.getChildByID("n2", false),
+            is(sameInstance((IRepositoryObject)n2Duplicate)));
+        assertThat("Remaining child with duplicate ID not contained", c1.contains(n2Duplicate), is(true));
+    }
+
+    /**
+     * Builds a synthetic repository with 20,000 nodes in 500 categories the same way the repository manager does,
+     * i.e. by looking up each node's category by its path. With linear child scans this used to take quadratic time.
+     */
+    @Test(timeout = 10000)
+    public void testLargeRepository() {
+        final int categoryCount = 500;
+        final int nodeCount = 20000;
+
+        Root root = new Root();
+        for (int i = 0; i < categoryCount / 10; i++) {
+            Category parent = new Category("cat" + i, "Category " + i, "org.knime.bla");
+            root.addChild(parent);
+            for (int j = 1; j < 10; j++) {
+                parent.addChild(new Category("cat" + i + "_" + j, "Category " + i + "/" + j, "org.knime.bla"));
+            }
+        }
+
+        for (int i = 0; i < nodeCount; i++) {
+            int cat = i % categoryCount;
+            String path = "/cat" + (cat / 10) + ((cat % 10 == 0) ? "" : "/cat" + (cat / 10) + "_" + (cat % 10));
+            IContainerObject container = root.findContainer(path);
+            assertThat("Category " + path + " not found", container == null, is(false));
+            NodeTemplate node = new TestNodeTemplate("node" + i, "Node " + i, "org.knime.base", path);
+            assertThat("Node not added", container.addChild(node), is(true));
+        }
+
+        assertThat("Node not found", root.findContainer("/cat49/cat49_9").getChildByID("node19999", false)
+            .getName(), is("Node 19999"));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026: created
+ */
+package org.knime.workbench.repository.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+import org.knime.workbench.repository.util.BigramSearchIndex.Entry;
+
+/**
+ * Tests {@link BigramSearchIndex}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class BigramSearchIndexTest {
+    /**
+     * Checks that bigrams are sorted and free of duplicates.
+     */
+    @Test
+    public void testBigrams() {
+        assertArrayEquals("Unexpected bigrams for empty string", new int[0], BigramSearchIndex.bigrams(""));
+        assertArrayEquals("Unexpected bigrams for single character", new int[0], BigramSearchIndex.bigrams("A"));
+        assertArrayEquals("Unexpected bigrams", new int[]{('A' << 16) | 'A'}, BigramSearchIndex.bigrams("AAAA"));
+        assertArrayEquals("Unexpected bigrams", new int[]{('A' << 16) | 'B', ('B' << 16) | 'A'},
+            BigramSearchIndex.bigrams("ABAB"));
+    }
+
+    /**
+     * Compares the distance computed on packed bigrams with a straightforward implementation based on string sets.
+     */
+    @Test
+    public void testDistance() {
+        Random rand = new Random(4711);
+        String alphabet = "abcdeABCDE -_";
+        for (int i = 0; i < 1000; i++) {
+            String a = randomString(rand, alphabet);
+            String b = randomString(rand, alphabet);
+            assertEquals("Wrong distance between '" + a + "' and '" + b + "'", referenceDistance(a, b),
+                BigramSearchIndex.analyze(a).distance(BigramSearchIndex.analyze(b)), 1e-9);
+        }
+    }
+
+    /**
+     * Checks the case insensitive substring match.
+     */
+    @Test
+    public void testContains() {
+        Entry entry = BigramSearchIndex.EMPTY.get("Row Filter");
+        assertTrue("Query not contained", entry.contains(BigramSearchIndex.analyze("row f")));
+        assertFalse("Query contained", entry.contains(BigramSearchIndex.analyze("column")));
+    }
+
+    private static String randomString(final Random rand, final String alphabet) {
+        char[] chars = new char[rand.nextInt(12)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = alphabet.charAt(rand.nextInt(alphabet.length()));
+        }
+        return new String(chars);
+    }
+
+    private static double referenceDistance(final String textA, final String textB) {
+        Set<String> gramsA = split(textA.toUpperCase());
+        Set<String> gramsB = split(textB.toUpperCase());
+        Set<String> union = new HashSet<String>(gramsA);
+        union.addAll(gramsB);
+        gramsA.retainAll(gramsB);
+        return union.isEmpty() ? 1.0 : 1.0 - gramsA.size() / (double)union.size();
+    }
+
+    private static Set<String> split(final String a) {
+        Set<String> grams = new HashSet<String>();
+        for (int i = 0; i < a.length() - 1; i++) {
+            grams.add(a.substring(i, i + 2));
+        }
+        return grams;
+    }
+}
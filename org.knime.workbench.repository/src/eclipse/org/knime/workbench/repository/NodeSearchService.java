@@ -0,0 +1,330 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026: created
+ */
+package org.knime.workbench.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+import org.knime.workbench.repository.model.AbstractNodeTemplate;
+import org.knime.workbench.repository.model.Category;
+import org.knime.workbench.repository.model.IContainerObject;
+import org.knime.workbench.repository.model.IRepositoryObject;
+import org.knime.workbench.repository.model.MetaNodeTemplate;
+import org.knime.workbench.repository.model.NodeTemplate;
+import org.knime.workbench.repository.model.Root;
+import org.knime.workbench.repository.util.BigramSearchIndex;
+
+/**
+ * Headless search over the node repository that returns the best matching node and metanode templates for a query,
+ * e.g. for quick node insertion. Each template is scored by a weighted sum of
+ * <ul>
+ * <li>its name: 1 if the name contains the query, otherwise the bigram similarity (1 - Tanimoto distance),</li>
+ * <li>its keywords: the fraction of query words that prefix a word of the template's ID, e.g. "filter" for the package
+ * <code>...preproc.filter.row</code>,</li>
+ * <li>its categories: the fraction of query words contained in the names of the enclosing categories,</li>
+ * <li>its usage frequency as recorded by the {@link NodeUsageRegistry}.</li>
+ * </ul>
+ * Templates that match neither by name, keyword nor category are never returned. The results are collected in a heap
+ * bounded by the number of requested results, hence the complete list of matches is never materialized or sorted.
+ *
+ * <p>
+ * A service is created for a fixed repository root and analyzes all names once. {@link #getInstance()} returns a
+ * service for the current repository that is recreated if the repository changes.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.4
+ */
+public final class NodeSearchService {
+    /** The default number of results, e.g. for quick node insertion. */
+    public static final int DEFAULT_MAX_RESULTS = 20;
+
+    private static final double NAME_WEIGHT = 0.5;
+
+    private static final double KEYWORD_WEIGHT = 0.2;
+
+    private static final double CATEGORY_WEIGHT = 0.15;
+
+    private static final double FREQUENCY_WEIGHT = 0.15;
+
+    /** Names with a larger bigram distance to the query do not count as a name match. */
+    private static final double MAX_NAME_DISTANCE = 0.85;
+
+    /** Number of usages which yields half of the maximum frequency score. */
+    private static final double HALF_FREQUENCY = 5;
+
+    private static NodeSearchService instance;
+
+    private final Root m_root;
+
+    private final long m_modificationCount;
+
+    private final Candidate[] m_candidates;
+
+    private final ToIntFunction<NodeTemplate> m_frequencies;
+
+    /**
+     * @param root the repository root to search in
+     * @param frequencies provides the usage frequency of a node
+     */
+    NodeSearchService(final Root root, final ToIntFunction<NodeTemplate> frequencies) {
+        m_root = root;
+        m_modificationCount = root.getModificationCount();
+        m_frequencies = frequencies;
+        BigramSearchIndex index = BigramSearchIndex.create(root);
+        List<Candidate> candidates = new ArrayList<Candidate>();
+        collectCandidates(root, index, "", candidates);
+        m_candidates = candidates.toArray(new Candidate[candidates.size()]);
+    }
+
+    /**
+     * Creates a search service for the given repository root, using the frequencies recorded by the
+     * {@link NodeUsageRegistry}. The service does not reflect later changes to the tree.
+     *
+     * @param root the repository root
+     * @return a new search service
+     */
+    public static NodeSearchService create(final Root root) {
+        return new NodeSearchService(root, NodeUsageRegistry::getFrequency);
+    }
+
+    /**
+     * Returns a search service for the node repository as shown to the user, i.e. without deprecated nodes (see
+     * {@link RepositoryManager#getRoot()}). The service is recreated if the repository has changed since the last call.
+     *
+     * @return a search service
+     */
+    public static synchronized NodeSearchService getInstance() {
+        Root root = RepositoryManager.INSTANCE.getRoot();
+        if ((instance == null) || (instance.m_root != root)
+            || (instance.m_modificationCount != root.getModificationCount())) {
+            instance = create(root);
+        }
+        return instance;
+    }
+
+    private static void collectCandidates(final IContainerObject container, final BigramSearchIndex index,
+        final String categoryNames, final List<Candidate> candidates) {
+        for (IRepositoryObject child : container.getChildren()) {
+            if (child instanceof AbstractNodeTemplate) {
+                candidates.add(new Candidate((AbstractNodeTemplate)child, index, categoryNames));
+            } else if (child instanceof Category) {
+                collectCandidates((Category)child, index,
+                    categoryNames + ' ' + ((Category)child).getName().toUpperCase(), candidates);
+            }
+        }
+    }
+
+    /**
+     * Returns the best matching templates for the given query.
+     *
+     * @param query the query as entered by the user
+     * @param maxResults the maximum number of results
+     * @return the matching templates, the best match first; an empty list if the query is empty
+     */
+    public List<AbstractNodeTemplate> search(final String query, final int maxResults) {
+        if ((query == null) || query.trim().isEmpty() || (maxResults <= 0)) {
+            return Collections.emptyList();
+        }
+        BigramSearchIndex.Entry analyzedQuery = BigramSearchIndex.analyze(query.trim());
+        String[] queryWords = words(analyzedQuery.getUpperCase());
+
+        // min-heap holding the best hits seen so far, the worst of them on top; it never holds more than all
+        // candidates, so don't let a huge limit allocate the heap's array up front
+        PriorityQueue<Hit> best = new PriorityQueue<Hit>(Math.max(1, Math.min(maxResults, m_candidates.length)));
+        for (Candidate candidate : m_candidates) {
+            double score = candidate.score(analyzedQuery, queryWords, m_frequencies);
+            if (score > 0) {
+                Hit hit = new Hit(candidate, score);
+                if (best.size() < maxResults) {
+                    best.add(hit);
+                } else if (hit.compareTo(best.peek()) > 0) {
+                    best.poll();
+                    best.add(hit);
+                }
+            }
+        }
+
+        AbstractNodeTemplate[] result = new AbstractNodeTemplate[best.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = best.poll().m_candidate.m_template;
+        }
+        return Arrays.asList(result);
+    }
+
+    /**
+     * Returns the best {@value #DEFAULT_MAX_RESULTS} matching templates for the given query.
+     *
+     * @param query the query as entered by the user
+     * @return the matching templates, the best match first; an empty list if the query is empty
+     */
+    public List<AbstractNodeTemplate> search(final String query) {
+        return search(query, DEFAULT_MAX_RESULTS);
+    }
+
+    private static String[] words(final String upperCase) {
+        List<String> words = new ArrayList<String>();
+        for (String word : upperCase.split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words.toArray(new String[words.size()]);
+    }
+
+    /**
+     * Splits a template ID, i.e. usually the factory class name, into upper-case words at package separators and
+     * camel case boundaries.
+     */
+    private static String[] keywords(final String id) {
+        Set<String> keywords = new LinkedHashSet<String>();
+        for (String part : id.split("[^\\p{L}\\p{N}]+")) {
+            for (String word : part.split("(?<=\\p{Ll})(?=\\p{Lu})")) {
+                if (word.length() > 1) {
+                    keywords.add(word.toUpperCase());
+                }
+            }
+        }
+        return keywords.toArray(new String[keywords.size()]);
+    }
+
+    /**
+     * A template together with its analyzed name, keywords and category names.
+     */
+    private static final class Candidate {
+        private final AbstractNodeTemplate m_template;
+
+        private final BigramSearchIndex.Entry m_name;
+
+        private final BigramSearchIndex.Entry m_workflowName;
+
+        private final String[] m_keywords;
+
+        private final String m_categoryNames;
+
+        Candidate(final AbstractNodeTemplate template, final BigramSearchIndex index, final String categoryNames) {
+            m_template = template;
+            m_name = index.get(template.getName());
+            m_workflowName = (template instanceof MetaNodeTemplate)
+                ? index.get(((MetaNodeTemplate)template).getManager().getName()) : null;
+            m_keywords = keywords(template.getID());
+            m_categoryNames = categoryNames;
+        }
+
+        double score(final BigramSearchIndex.Entry query, final String[] queryWords,
+            final ToIntFunction<NodeTemplate> frequencies) {
+            double nameScore = nameScore(m_name, query);
+            if (m_workflowName != null) {
+                nameScore = Math.max(nameScore, nameScore(m_workflowName, query));
+            }
+
+            int keywordMatches = 0;
+            int categoryMatches = 0;
+            for (String queryWord : queryWords) {
+                for (String keyword : m_keywords) {
+                    if (keyword.startsWith(queryWord)) {
+                        keywordMatches++;
+                        break;
+                    }
+                }
+                if (m_categoryNames.contains(queryWord)) {
+                    categoryMatches++;
+                }
+            }
+            if ((nameScore == 0) && (keywordMatches == 0) && (categoryMatches == 0)) {
+                return 0;
+            }
+
+            double score = NAME_WEIGHT * nameScore;
+            if (queryWords.length > 0) {
+                score += KEYWORD_WEIGHT * keywordMatches / queryWords.length
+                    + CATEGORY_WEIGHT * categoryMatches / queryWords.length;
+            }
+            if (m_template instanceof NodeTemplate) {
+                int frequency = frequencies.applyAsInt((NodeTemplate)m_template);
+                score += FREQUENCY_WEIGHT * frequency / (frequency + HALF_FREQUENCY);
+            }
+            return score;
+        }
+
+        private static double nameScore(final BigramSearchIndex.Entry name, final BigramSearchIndex.Entry query) {
+            if (name.contains(query)) {
+                return 1;
+            }
+            double distance = name.distance(query);
+            return (distance < MAX_NAME_DISTANCE) ? 1 - distance : 0;
+        }
+    }
+
+    /**
+     * A scored candidate, ordered by ascending score and, for equal scores, by descending name so that the heap
+     * removes the alphabetically last of equally good hits first.
+     */
+    private static final class Hit implements Comparable<Hit> {
+        private final Candidate m_candidate;
+
+        private final double m_score;
+
+        Hit(final Candidate candidate, final double score) {
+            m_candidate = candidate;
+            m_score = score;
+        }
+
+        @Override
+        public int compareTo(final Hit o) {
+            int c = Double.compare(m_score, o.m_score);
+            return (c != 0) ? c : o.m_candidate.m_name.getUpperCase().compareTo(m_candidate.m_name.getUpperCase());
+        }
+    }
+}
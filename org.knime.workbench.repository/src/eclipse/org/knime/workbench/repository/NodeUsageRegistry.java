@@ -47,14 +47,25 @@
  */
 package org.knime.workbench.repository;
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -63,6 +74,7 @@
 import org.eclipse.ui.IMemento;
 import org.knime.core.node.DynamicNodeFactory;
 import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeLogger;
 import org.knime.core.util.KNIMEJob;
 import org.knime.workbench.repository.model.NodeTemplate;
 import org.osgi.framework.FrameworkUtil;
@@ -71,22 +83,52 @@
  * Let one register nodes in order to track their usage (last use, most frequent use) that is, e.g., displayed in the
  * favorites view.
  *
+ * <p>
+ * All methods are thread-safe. Usage counts are kept in striped counters, so that concurrent registrations do not
+ * contend on a lock, and the most frequently used nodes are maintained incrementally. Listeners are notified by a
+ * single background job per burst of registrations.
+ * </p>
+ *
  * @author Fabian Dill, University of Konstanz
  */
 public final class NodeUsageRegistry {
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(NodeUsageRegistry.class);
+
+    /** Delay in ms before listeners are notified, further registrations within this time are reported together. */
+    private static final long NOTIFICATION_DELAY = 100;
 
-    private static int maxMostFrequent = 10;
+    private static volatile int maxMostFrequent = 10;
 
     private static int maxLastUsed = 10;
 
-    private static final Map<NodeTemplateFrequency, NodeTemplateFrequency> FREQUENCIES =
-            new HashMap<NodeTemplateFrequency, NodeTemplateFrequency>();
+    private static final Map<NodeTemplate, NodeTemplateFrequency> FREQUENCIES =
+            new ConcurrentHashMap<NodeTemplate, NodeTemplateFrequency>();
 
     private static final LinkedList<NodeTemplate> LAST_USED = new LinkedList<NodeTemplate>();
 
-    private static final Set<NodeUsageListener> LISTENERS = new LinkedHashSet<>();
+    private static final Set<NodeUsageListener> LISTENERS = new CopyOnWriteArraySet<>();
+
+    /**
+     * The most frequently used nodes sorted by descending frequency, at most {@link #maxMostFrequent} entries. All
+     * modifications are synchronized on the list.
+     */
+    private static final List<NodeTemplateFrequency> MOST_FREQUENT = new ArrayList<NodeTemplateFrequency>();
 
-    private static List<NodeTemplate> cachedFrequent;
+    /** Immutable copy of the nodes in {@link #MOST_FREQUENT}, replaced whenever the list changes. */
+    private static volatile List<NodeTemplate> cachedFrequent = Collections.emptyList();
+
+    private static final Job NOTIFIER =
+        new KNIMEJob("Favorite Node Adder", FrameworkUtil.getBundle(NodeUsageRegistry.class)) {
+            @Override
+            protected IStatus run(final IProgressMonitor monitor) {
+                notifyListener();
+                return Status.OK_STATUS;
+            }
+        };
+
+    static {
+        NOTIFIER.setSystem(true);
+    }
 
     private NodeUsageRegistry() { }
 
@@ -95,43 +137,31 @@ private NodeUsageRegistry() { }
      *            last used or most frequent nodes
      */
     public static void addNodeUsageListener(final NodeUsageListener listener) {
-        synchronized (LISTENERS) {
-            if (!LISTENERS.contains(listener)) {
-                LISTENERS.add(listener);
-            }
-        }
+        LISTENERS.add(listener);
     }
 
     /**
      * @param listener deregisters this listener
      */
     public static void removeNodeUsageListener(final NodeUsageListener listener) {
-        synchronized (LISTENERS) {
-            LISTENERS.remove(listener);
-        }
+        LISTENERS.remove(listener);
     }
 
     private static void notifyListener() {
-        synchronized (LISTENERS) {
-            for (final NodeUsageListener listener : LISTENERS) {
-                listener.nodeAdded();
-            }
+        for (final NodeUsageListener listener : LISTENERS) {
+            listener.nodeAdded();
         }
     }
 
     private static void notifyLastHistoryListener() {
-        synchronized (LISTENERS) {
-            for (final NodeUsageListener listener : LISTENERS) {
-                listener.usedHistoryChanged();
-            }
+        for (final NodeUsageListener listener : LISTENERS) {
+            listener.usedHistoryChanged();
         }
     }
 
     private static void notifyFrequencyHistoryListener() {
-        synchronized (LISTENERS) {
-            for (final NodeUsageListener listener : LISTENERS) {
-                listener.frequentHistoryChanged();
-            }
+        for (final NodeUsageListener listener : LISTENERS) {
+            listener.frequentHistoryChanged();
         }
     }
 
@@ -140,8 +170,8 @@ private static void notifyFrequencyHistoryListener() {
      * @param newMaxSize the new max size for the most frequent nodes
      */
     public static void setMaxFrequentSize(final int newMaxSize) {
-        cachedFrequent = null;
         maxMostFrequent = newMaxSize;
+        rebuildMostFrequent();
         notifyFrequencyHistoryListener();
     }
 
@@ -178,24 +208,16 @@ public static void addNode(final NodeFactory<?> nodeFactory) {
      * @param node the last used node (is added to last used nodes and the frequency is counted)
      */
     public static void addNode(final NodeTemplate node) {
-        NodeTemplateFrequency nodeFreq = new NodeTemplateFrequency(node);
-        NodeTemplateFrequency existing = FREQUENCIES.get(nodeFreq);
-        if (existing == null) {
-            FREQUENCIES.put(nodeFreq, nodeFreq);
-            existing = nodeFreq;
+        if (node == null) {
+            // e.g. a node that is not part of the repository
+            return;
         }
-        cachedFrequent = null;
-        existing.increment();
+        NodeTemplateFrequency nodeFreq = FREQUENCIES.computeIfAbsent(node, NodeTemplateFrequency::new);
+        nodeFreq.increment();
+        updateMostFrequent(nodeFreq);
         addToLastUsedNodes(node);
-        Job favNodeAdder = new KNIMEJob("Favorite Node Adder", FrameworkUtil.getBundle(NodeUsageRegistry.class)) {
-            @Override
-            protected IStatus run(final IProgressMonitor monitor) {
-                notifyListener();
-                return Status.OK_STATUS;
-            }
-        };
-        favNodeAdder.setSystem(true);
-        favNodeAdder.schedule();
+        // coalesces the notifications for registrations in quick succession
+        NOTIFIER.schedule(NOTIFICATION_DELAY);
     }
 
     private static void addToLastUsedNodes(final NodeTemplate node) {
@@ -211,33 +233,84 @@ private static void addToLastUsedNodes(final NodeTemplate node) {
         }
     }
 
+    /**
+     * Moves the given node to its position in the most frequently used nodes after its frequency has been incremented.
+     * As frequencies only grow by one, the list stays sorted if only the incremented node is moved.
+     */
+    private static void updateMostFrequent(final NodeTemplateFrequency nodeFreq) {
+        synchronized (MOST_FREQUENT) {
+            final long frequency = nodeFreq.getFrequency();
+            int index = MOST_FREQUENT.indexOf(nodeFreq);
+            if (index < 0) {
+                int size = MOST_FREQUENT.size();
+                if (size < maxMostFrequent) {
+                    MOST_FREQUENT.add(nodeFreq);
+                    index = size;
+                } else if ((size > 0) && (MOST_FREQUENT.get(size - 1).getFrequency() < frequency)) {
+                    MOST_FREQUENT.set(size - 1, nodeFreq);
+                    index = size - 1;
+                } else {
+                    return;
+                }
+            }
+            while ((index > 0) && (MOST_FREQUENT.get(index - 1).getFrequency() < frequency)) {
+                Collections.swap(MOST_FREQUENT, index, index - 1);
+                index--;
+            }
+            publishMostFrequent();
+        }
+    }
+
+    /**
+     * Recomputes the most frequently used nodes from all frequencies, e.g. after the maximum size has changed.
+     */
+    private static void rebuildMostFrequent() {
+        synchronized (MOST_FREQUENT) {
+            List<NodeTemplateFrequency> all = new ArrayList<NodeTemplateFrequency>(FREQUENCIES.values());
+            Collections.sort(all);
+            MOST_FREQUENT.clear();
+            MOST_FREQUENT.addAll(all.subList(0, Math.max(0, Math.min(maxMostFrequent, all.size()))));
+            publishMostFrequent();
+        }
+    }
+
+    private static void publishMostFrequent() {
+        List<NodeTemplate> nodes = new ArrayList<NodeTemplate>(MOST_FREQUENT.size());
+        for (NodeTemplateFrequency nodeFreq : MOST_FREQUENT) {
+            nodes.add(nodeFreq.getNode());
+        }
+        cachedFrequent = Collections.unmodifiableList(nodes);
+    }
+
     /**
      *
      * @return the n (defined by max size) most frequently used nodes
      */
     public static List<NodeTemplate> getMostFrequentNodes() {
-        if (cachedFrequent != null) {
-            return cachedFrequent;
-        }
-        List<NodeTemplateFrequency> mostFrequent =
-                new ArrayList<NodeTemplateFrequency>(FREQUENCIES.values());
-        Collections.sort(mostFrequent);
-        List<NodeTemplate> temp = new ArrayList<NodeTemplate>();
-
-        int max = Math.min(maxMostFrequent, mostFrequent.size());
-        for (int i = 0; i < max; i++) {
-            temp.add(mostFrequent.get(i).getNode());
-        }
-        return (cachedFrequent = temp);
+        return cachedFrequent;
+    }
+
+    /**
+     * Returns how often the given node has been used.
+     *
+     * @param node a node template
+     * @return the number of recorded usages, 0 if the node has not been used
+     * @since 4.4
+     */
+    public static int getFrequency(final NodeTemplate node) {
+        NodeTemplateFrequency nodeFreq = FREQUENCIES.get(node);
+        return (nodeFreq == null) ? 0 : (int)Math.min(Integer.MAX_VALUE, nodeFreq.getFrequency());
     }
 
     /**
      *
      * @return the <code>n</code> most last used nodes (where <code>n</code> is
-     *         defined by the max size parameter
+     *         defined by the max size parameter), as an unmodifiable copy
      */
     public static List<NodeTemplate> getLastUsedNodes() {
-        return LAST_USED;
+        synchronized (LAST_USED) {
+            return Collections.unmodifiableList(new ArrayList<NodeTemplate>(LAST_USED));
+        }
     }
 
     /**
@@ -250,12 +323,14 @@ public static void clearHistory() {
     }
 
     private static void clearFrequencyHistory() {
-        cachedFrequent = null;
         FREQUENCIES.clear();
+        rebuildMostFrequent();
     }
 
     private static void clearLastUsedHistory() {
-        LAST_USED.clear();
+        synchronized (LAST_USED) {
+            LAST_USED.clear();
+        }
     }
 
     private static class NodeTemplateFrequency implements
@@ -263,7 +338,7 @@ private static class NodeTemplateFrequency implements
 
         private final NodeTemplate m_node;
 
-        private int m_frequency;
+        private final LongAdder m_frequency = new LongAdder();
 
         /**
          *
@@ -272,60 +347,35 @@ private static class NodeTemplateFrequency implements
          */
         public NodeTemplateFrequency(final NodeTemplate node) {
             m_node = node;
-            m_frequency = 0;
         }
 
         /**
          * Incremetns the freqeuncy of the node template.
          */
         public void increment() {
-            m_frequency++;
+            m_frequency.increment();
         }
 
         /**
-         *
-         * @return the underlying node
+         * @param count the number of usages to add
          */
-        public NodeTemplate getNode() {
-            return m_node;
+        public void add(final long count) {
+            m_frequency.add(count);
         }
 
-
         /**
-         * {@inheritDoc}
+         * @return the current frequency
          */
-        @Override
-        public int hashCode() {
-            final int prime = 31;
-            int result = 1;
-            result =
-                    prime * result + ((m_node == null) ? 0 : m_node.hashCode());
-            return result;
+        public long getFrequency() {
+            return m_frequency.sum();
         }
 
         /**
-         * {@inheritDoc}
+         *
+         * @return the underlying node
          */
-        @Override
-        public boolean equals(final Object obj) {
-            if (this == obj) {
-                return true;
-            }
-            if (obj == null) {
-                return false;
-            }
-            if (getClass() != obj.getClass()) {
-                return false;
-            }
-            NodeTemplateFrequency other = (NodeTemplateFrequency)obj;
-            if (m_node == null) {
-                if (other.m_node != null) {
-                    return false;
-                }
-            } else if (!m_node.equals(other.m_node)) {
-                return false;
-            }
-            return true;
+        public NodeTemplate getNode() {
+            return m_node;
         }
 
         /**
@@ -334,7 +384,7 @@ public boolean equals(final Object obj) {
          */
         @Override
         public int compareTo(final NodeTemplateFrequency o) {
-            return o.m_frequency - m_frequency;
+            return Long.compare(o.getFrequency(), getFrequency());
         }
 
         /**
@@ -354,8 +404,7 @@ public String toString() {
     private static final String TAG_FREQUENCY = "frequency";
 
     /**
-     * Saves most frequent nodes to XML memento. Called from
-     * FavoriteNodesManager#saveFavoriteNodes.
+     * Saves most frequent nodes to XML memento.
      *
      * @see #loadFrequentNodes(IMemento)
      * @param freqNodes XML memento to save most frequently used nodes to
@@ -364,19 +413,18 @@ public static void saveFrequentNodes(final IMemento freqNodes) {
         for (NodeTemplateFrequency nodeFreq : FREQUENCIES.values()) {
             IMemento item = freqNodes.createChild(TAG_FAVORITE);
             item.putString(TAG_NODE_ID, nodeFreq.getNode().getID());
-            item.putInteger(TAG_FREQUENCY, nodeFreq.m_frequency);
+            item.putInteger(TAG_FREQUENCY, (int)Math.min(Integer.MAX_VALUE, nodeFreq.getFrequency()));
         }
     }
 
     /**
-     * Saves last used nodes to XML memento. Called from
-     * FavoriteNodesManager#saveFavoriteNodes.
+     * Saves last used nodes to XML memento.
      *
      * @see #loadLastUsedNodes(IMemento)
      * @param lastUsedNodes XML memento to save last used nodes to
      */
     public static void saveLastUsedNodes(final IMemento lastUsedNodes) {
-        for (NodeTemplate node : LAST_USED) {
+        for (NodeTemplate node : getLastUsedNodes()) {
             IMemento item = lastUsedNodes.createChild(TAG_FAVORITE);
             item.putString(TAG_NODE_ID, node.getID());
         }
@@ -384,7 +432,7 @@ public static void saveLastUsedNodes(final IMemento lastUsedNodes) {
 
     /**
      * Loads the most frequently used nodes from XML memento. Called from
-     * FavoriteNodesManager#loadFavoriteNodes.
+     * FavoriteNodesManager#loadFavoriteNodes if no history file (see {@link #loadHistory()}) exists yet.
      *
      * @see #saveFrequentNodes(IMemento)
      * @param freqNodes the XML memento containing the most frequently used
@@ -396,17 +444,15 @@ public static void loadFrequentNodes(final IMemento freqNodes) {
             int frequency = freqNode.getInteger(TAG_FREQUENCY);
             NodeTemplate node = RepositoryManager.INSTANCE.getNodeTemplate(id);
             if (node != null) {
-                NodeTemplateFrequency nodeFreq =
-                        new NodeTemplateFrequency(node);
-                nodeFreq.m_frequency = frequency;
-                FREQUENCIES.put(nodeFreq, nodeFreq);
+                FREQUENCIES.computeIfAbsent(node, NodeTemplateFrequency::new).add(frequency);
             }
         }
+        rebuildMostFrequent();
     }
 
     /**
      * Loads the last used nodes from XML memento. Called from
-     * FavoriteNodesManager#loadFavoriteNodes.
+     * FavoriteNodesManager#loadFavoriteNodes if no history file (see {@link #loadHistory()}) exists yet.
      *
      * @see #saveLastUsedNodes(IMemento)
      * @param lastUsedNodes the XML memento to load the last used nodes from
@@ -421,4 +467,130 @@ public static void loadLastUsedNodes(final IMemento lastUsedNodes) {
         }
     }
 
+    private static final String HISTORY_FILE_NAME = "nodeUsageHistory.bin";
+
+    private static final int HISTORY_MAGIC_NUMBER = 0x4B4E5548; // "KNUH"
+
+    private static final int HISTORY_FORMAT_VERSION = 1;
+
+    /**
+     * Saves the most frequent and last used history to a binary file in the plug-in's state location. The file
+     * contains the node IDs with their frequencies followed by the IDs of the last used nodes; each ID is stored as its
+     * UTF-8 length and bytes.
+     *
+     * @see #loadHistory()
+     * @since 4.4
+     */
+    public static void saveHistory() {
+        File file = getHistoryFile();
+        if (file == null) {
+            return;
+        }
+        File tempFile = new File(file.getParentFile(), file.getName() + ".tmp");
+        try {
+            try (DataOutputStream out =
+                new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile.toPath())))) {
+                List<NodeTemplateFrequency> frequencies = new ArrayList<NodeTemplateFrequency>(FREQUENCIES.values());
+                out.writeInt(HISTORY_MAGIC_NUMBER);
+                out.writeInt(HISTORY_FORMAT_VERSION);
+                out.writeInt(frequencies.size());
+                for (NodeTemplateFrequency nodeFreq : frequencies) {
+                    writeID(out, nodeFreq.getNode().getID());
+                    out.writeLong(nodeFreq.getFrequency());
+                }
+                List<NodeTemplate> lastUsed = getLastUsedNodes();
+                out.writeInt(lastUsed.size());
+                for (NodeTemplate node : lastUsed) {
+                    writeID(out, node.getID());
+                }
+            }
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+            LOGGER.warn("Could not write node usage history '" + file + "': " + ex.getMessage(), ex);
+            tempFile.delete();
+        }
+    }
+
+    /**
+     * Loads the history saved by {@link #saveHistory()}. The file is read into memory at once (so that it isn't kept
+     * open and can be replaced by the next save) and decoded completely before anything is added to the registry, a
+     * corrupt or incompatible file leaves the registry unchanged. Nodes that are no longer part of the repository are
+     * ignored.
+     *
+     * @return <code>true</code> if the history file exists and has been read, <code>false</code> otherwise
+     * @since 4.4
+     */
+    public static boolean loadHistory() {
+        File file = getHistoryFile();
+        if ((file == null) || !file.isFile()) {
+            return false;
+        }
+        Map<NodeTemplate, Long> frequencies = new LinkedHashMap<NodeTemplate, Long>();
+        List<NodeTemplate> lastUsed = new ArrayList<NodeTemplate>();
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+            if ((buffer.getInt() != HISTORY_MAGIC_NUMBER) || (buffer.getInt() != HISTORY_FORMAT_VERSION)) {
+                LOGGER.debug("Ignoring node usage history '" + file + "' with unknown format");
+                return false;
+            }
+            for (int i = buffer.getInt(); i > 0; i--) {
+                NodeTemplate node = RepositoryManager.INSTANCE.getNodeTemplate(readID(buffer));
+                long frequency = buffer.getLong();
+                if (node != null) {
+                    frequencies.merge(node, frequency, Long::sum);
+                }
+            }
+            for (int i = buffer.getInt(); i > 0; i--) {
+                NodeTemplate node = RepositoryManager.INSTANCE.getNodeTemplate(readID(buffer));
+                if (node != null) {
+                    lastUsed.add(node);
+                }
+            }
+        } catch (IOException | BufferUnderflowException ex) {
+            LOGGER.warn("Could not read node usage history '" + file + "': " + ex.getMessage(), ex);
+            return false;
+        }
+
+        // the complete file has been read, now it's added to the registry
+        frequencies.forEach((node, frequency) -> FREQUENCIES.computeIfAbsent(node, NodeTemplateFrequency::new)
+            .add(frequency));
+        rebuildMostFrequent();
+        synchronized (LAST_USED) {
+            for (NodeTemplate node : lastUsed) {
+                if (!LAST_USED.contains(node) && (LAST_USED.size() < maxLastUsed)) {
+                    LAST_USED.addLast(node);
+                }
+            }
+        }
+        return true;
+    }
+
+    private static void writeID(final DataOutputStream out, final String id) throws IOException {
+        byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readID(final ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if ((length < 0) || (length > buffer.remaining())) {
+            // corrupt file
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static File getHistoryFile() {
+        KNIMERepositoryPlugin plugin = KNIMERepositoryPlugin.getDefault();
+        if (plugin == null) {
+            return null;
+        }
+        try {
+            return plugin.getStateLocation().append(HISTORY_FILE_NAME).toFile();
+        } catch (IllegalStateException ex) { // NOSONAR no instance location, e.g. in some headless applications
+            return null;
+        }
+    }
 }
@@ -52,6 +52,7 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import org.eclipse.core.runtime.FileLocator;
@@ -103,33 +104,77 @@ private RepositoryFactory() {
 
 
     /**
-     * Creates a new node repository object. Throws an exception, if this fails
+     * Creates the repository snapshot entry for a node factory extension. If the node is contained in the given
+     * snapshot, only its factory class is loaded. Otherwise the factory is instantiated (which includes parsing its
+     * node description) and the new entry is added to the snapshot. This method does not touch the repository tree
+     * and may be called concurrently for different extensions.
      *
      * @param nodeFactoryExtension from {@link NodeFactoryExtensionManager}.
-     * @return NodeTemplate object to be used within the repository.
+     * @param snapshot the repository snapshot, may be <code>null</code>
+     * @return the node's entry
      * @throws InvalidNodeFactoryExtensionException if the element is not compatible (e.g.
      *             wrong attributes, or factory class not found)
      */
     @SuppressWarnings("unchecked")
-    static Pair<DefaultNodeTemplate, Boolean> createNode(final NodeFactoryExtension nodeFactoryExtension)
-        throws InvalidNodeFactoryExtensionException {
+    static RepositorySnapshot.NodeEntry createNodeEntry(final NodeFactoryExtension nodeFactoryExtension,
+        final RepositorySnapshot snapshot) throws InvalidNodeFactoryExtensionException {
+        String pluginID = nodeFactoryExtension.getPlugInSymbolicName();
+        RepositorySnapshot.NodeEntry entry =
+            (snapshot == null) ? null : snapshot.getNode(pluginID, nodeFactoryExtension.getFactoryClassName());
+        if (entry != null) {
+            Bundle bundle = Platform.getBundle(pluginID);
+            try {
+                if (bundle != null) {
+                    entry.setFactoryClass(
+                        (Class<? extends NodeFactory<? extends NodeModel>>)bundle.loadClass(entry.getFactoryClassName()));
+                    return entry;
+                }
+            } catch (ClassNotFoundException ex) {
+                LOGGER.debug("Could not restore node '" + entry.getFactoryClassName()
+                    + "' from repository snapshot: " + ex.getMessage(), ex);
+            }
+        }
+
         // Try to load the node factory class...
         NodeFactory<? extends NodeModel> factory = nodeFactoryExtension.createFactory();
-        boolean isDeprecated = factory.isDeprecated();
+        entry = RepositorySnapshot.NodeEntry.create(pluginID, factory, nodeFactoryExtension.getCategoryPath(),
+            nodeFactoryExtension.getAfterID());
+        if (snapshot != null) {
+            snapshot.putNode(entry);
+        }
+        return entry;
+    }
 
+    /**
+     * Creates a new node repository object from its entry created by
+     * {@link #createNodeEntry(NodeFactoryExtension, RepositorySnapshot)}.
+     *
+     * @param nodeFactoryExtension from {@link NodeFactoryExtensionManager}.
+     * @param entry the node's entry
+     * @return NodeTemplate object to be used within the repository together with the deprecation flag from the
+     *         node's description
+     */
+    @SuppressWarnings("unchecked")
+    static Pair<DefaultNodeTemplate, Boolean> createNode(final NodeFactoryExtension nodeFactoryExtension,
+        final RepositorySnapshot.NodeEntry entry) {
         String pluginID = nodeFactoryExtension.getPlugInSymbolicName();
         String categoryPath = nodeFactoryExtension.getCategoryPath();
-        DefaultNodeTemplate node = new DefaultNodeTemplate((Class<NodeFactory<? extends NodeModel>>)factory.getClass(),
-            factory.getNodeName(), pluginID, categoryPath, factory.getType());
+        DefaultNodeTemplate node =
+            new DefaultNodeTemplate((Class<NodeFactory<? extends NodeModel>>)entry.getFactoryClass(), entry.getName(),
+                pluginID, categoryPath, entry.getType());
         node.setAfterID(nodeFactoryExtension.getAfterID());
 
         if (!Boolean.getBoolean("java.awt.headless")) {
             // Load images from declaring plugin
-            Image icon = ImageRepository.getIconImage(factory);
-            node.setIcon(icon);
+            node.setIcon(getIconImage(entry));
         }
 
-        return Pair.create(node, Boolean.valueOf(isDeprecated));
+        return Pair.create(node, Boolean.valueOf(entry.isDeprecated()));
+    }
+
+    private static Image getIconImage(final RepositorySnapshot.NodeEntry entry) {
+        Image icon = ImageRepository.getIconImage(entry.resolveIcon());
+        return (icon == null) ? ImageRepository.getIconImage(SharedImages.DefaultNodeIcon) : icon;
     }
 
     /**
@@ -319,50 +364,100 @@ private static String str(final String s, final String defaultString) {
      */
     public static Collection<DynamicNodeTemplate> createNodeSet(
             final NodeSetFactoryExtension set, final Root root, final boolean isIncludeDeprecated) {
-        String iconPath = set.getDefaultCategoryIconPath().orElse(null);
+        return createNodeSet(set, root, isIncludeDeprecated, createNodeSetEntries(set, null));
+    }
 
+    /**
+     * Creates the repository snapshot entries for all nodes of a node set. Nodes that are contained in the given
+     * snapshot are restored from it by only loading their factory class, all other nodes are instantiated and added to
+     * the snapshot. This method does not touch the repository tree and may be called concurrently for different node
+     * sets.
+     *
+     * @param set the node set factory extension to load the nodes from
+     * @param snapshot the repository snapshot, may be <code>null</code>
+     * @return pairs of factory ID and entry for all nodes in the set, in the order of the node set's factory IDs
+     */
+    @SuppressWarnings("unchecked")
+    static List<Pair<String, RepositorySnapshot.NodeEntry>> createNodeSetEntries(final NodeSetFactoryExtension set,
+        final RepositorySnapshot snapshot) {
         // Try to load the node set factory class...
         NodeSetFactory nodeSet = set.getNodeSetFactory();
         if (nodeSet.isHidden()) {
             return Collections.emptyList();
         }
 
-        Collection<DynamicNodeTemplate> dynamicNodeTemplates = new ArrayList<>();
+        List<Pair<String, RepositorySnapshot.NodeEntry>> entries = new ArrayList<>();
+        String pluginID = set.getPlugInSymbolicName();
+        String nodeSetClassName = nodeSet.getClass().getName();
 
         // for all nodes in the node set
         for (String factoryId : set.getNodeFactoryIds()) {
-            // Try to load the node factory class...
-            Optional<NodeFactory<? extends NodeModel>> factoryOptional = set.createNodeFactory(factoryId);
-            if (!factoryOptional.isPresent()) {
-                continue; // error handling done elsewhere
+            RepositorySnapshot.NodeEntry entry =
+                (snapshot == null) ? null : snapshot.getNodeSetNode(pluginID, nodeSetClassName, factoryId);
+            if (entry != null) {
+                try {
+                    entry.setFactoryClass((Class<? extends NodeFactory<? extends NodeModel>>)nodeSet.getClass()
+                        .getClassLoader().loadClass(entry.getFactoryClassName()));
+                } catch (ClassNotFoundException ex) {
+                    LOGGER.debug("Could not restore node '" + factoryId + "' from repository snapshot: "
+                        + ex.getMessage(), ex);
+                    entry = null;
+                }
             }
 
-            NodeFactory<? extends NodeModel> factory = factoryOptional.get();
+            if (entry == null) {
+                // Try to load the node factory class...
+                Optional<NodeFactory<? extends NodeModel>> factoryOptional = set.createNodeFactory(factoryId);
+                if (!factoryOptional.isPresent()) {
+                    continue; // error handling done elsewhere
+                }
+                entry = RepositorySnapshot.NodeEntry.create(pluginID, factoryOptional.get(),
+                    nodeSet.getCategoryPath(factoryId), nodeSet.getAfterID(factoryId));
+                if (snapshot != null) {
+                    snapshot.putNodeSetNode(nodeSetClassName, factoryId, entry);
+                }
+            }
+            entries.add(Pair.create(factoryId, entry));
+        }
+        return entries;
+    }
+
+    /**
+     * Creates the set of dynamic node templates from the entries created by
+     * {@link #createNodeSetEntries(NodeSetFactoryExtension, RepositorySnapshot)}.
+     *
+     * @param set the node set factory extension to load the nodes from
+     * @param root the root to add the missing categories in
+     * @param isIncludeDeprecated if deprecated nodes are to be included in the result collection
+     * @param entries pairs of factory ID and entry for the nodes in the set
+     * @return the created dynamic node templates
+     */
+    static Collection<DynamicNodeTemplate> createNodeSet(final NodeSetFactoryExtension set, final Root root,
+        final boolean isIncludeDeprecated, final List<Pair<String, RepositorySnapshot.NodeEntry>> entries) {
+        String iconPath = set.getDefaultCategoryIconPath().orElse(null);
+        String pluginID = set.getPlugInSymbolicName();
+
+        Collection<DynamicNodeTemplate> dynamicNodeTemplates = new ArrayList<>();
+
+        for (Pair<String, RepositorySnapshot.NodeEntry> p : entries) {
+            RepositorySnapshot.NodeEntry entry = p.getSecond();
 
             // DynamicNodeFactory implementations can set deprecation independently from extension
-            if ((set.isDeprecated() || factory.isDeprecated()) && !isIncludeDeprecated ) {
+            if ((set.isDeprecated() || entry.isDeprecated()) && !isIncludeDeprecated ) {
                 continue;
             }
 
-            String categoryPath = nodeSet.getCategoryPath(factoryId);
-            NodeType nodeType = factory.getType();
+            DynamicNodeTemplate node = new DynamicNodeTemplate(set, entry.getFactoryClass(), p.getFirst(),
+                entry.getName(), entry.getCategoryPath(), entry.getType());
 
-            @SuppressWarnings("unchecked")
-            DynamicNodeTemplate node = new DynamicNodeTemplate(set,
-                (Class<? extends NodeFactory<? extends NodeModel>>)factory.getClass(), factoryId,
-                factory.getNodeName(), categoryPath, nodeType);
-
-            node.setAfterID(nodeSet.getAfterID(factoryId));
+            node.setAfterID(entry.getAfterID());
 
             if (!Boolean.getBoolean("java.awt.headless")) {
-                Image icon = ImageRepository.getIconImage(factory);
-                node.setIcon(icon);
+                node.setIcon(getIconImage(entry));
             }
 
             dynamicNodeTemplates.add(node);
 
-            String pluginID = set.getPlugInSymbolicName();
-
             //
             // Insert in proper location, create all categories on
             // the path
@@ -55,7 +55,14 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtension;
@@ -64,6 +71,8 @@
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.swt.widgets.Display;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeFactory;
 import org.knime.core.node.NodeLogger;
@@ -141,6 +150,10 @@ public interface Listener {
     private static final String ID_META_NODE
             = "org.knime.workbench.repository.metanode";
 
+    /** Maximum number of threads used for loading node factories. */
+    private static final int READER_PARALLELISM =
+        Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), 8));
+
     private final List<Listener> m_loadListeners =
             new CopyOnWriteArrayList<Listener>();
 
@@ -151,6 +164,8 @@ public interface Listener {
 
     private final Root m_completeRoot = new Root();
 
+    private RepositorySnapshot m_snapshot;
+
     /**
      * Creates the repository model. This instantiates all contributed
      * category/node extensions found in the global Eclipse PluginRegistry, and
@@ -165,11 +180,7 @@ private void readRepository(final IProgressMonitor monitor) {
         if (monitor.isCanceled()) {
             return;
         }
-        readNodes(monitor, m_root, false);
-        if (monitor.isCanceled()) {
-            return;
-        }
-        readNodeSets(monitor, m_root, false);
+        readNodesAndNodeSets(monitor, m_root, false);
         if (monitor.isCanceled()) {
             return;
         }
@@ -178,6 +189,7 @@ private void readRepository(final IProgressMonitor monitor) {
             return;
         }
         removeEmptyCategories(m_root);
+        getSnapshot().saveIfDirty();
         m_loadListeners.clear();
     }
 
@@ -187,11 +199,7 @@ private void readCompleteRepository(final IProgressMonitor monitor) {
         if (monitor.isCanceled()) {
             return;
         }
-        readNodes(monitor, m_completeRoot, true);
-        if (monitor.isCanceled()) {
-            return;
-        }
-        readNodeSets(monitor, m_completeRoot, true);
+        readNodesAndNodeSets(monitor, m_completeRoot, true);
         if (monitor.isCanceled()) {
             return;
         }
@@ -200,6 +208,7 @@ private void readCompleteRepository(final IProgressMonitor monitor) {
             return;
         }
         removeEmptyCategories(m_completeRoot);
+        getSnapshot().saveIfDirty();
         m_loadListeners.clear();
     }
 
@@ -345,136 +354,258 @@ public int compare(final IConfigurationElement o1,
     }
 
 
-    private void readNodes(final IProgressMonitor monitor, final Root root, final boolean isIncludeDeprecated) {
-        IContainerObject uncategorized = root.findContainer("/uncategorized");
-        if (uncategorized == null) {
-            // this should never happen, but who knows...
-            uncategorized = root;
-        }
-
+    /**
+     * Reads all nodes and node sets. Loading the node factories (and parsing their node descriptions) is done in
+     * parallel, the resulting templates are then added to the repository tree one after the other in the order of the
+     * extensions. Therefore the tree is always the same as if it had been read sequentially and the load listeners are
+     * notified in the calling thread.
+     *
+     * <p>
+     * If called in a display thread the factories are loaded sequentially in the calling thread. Waiting for the pool
+     * would block the display thread while factories may need it (e.g. via <code>Display.syncExec</code>), which
+     * deadlocks.
+     * </p>
+     */
+    private void readNodesAndNodeSets(final IProgressMonitor monitor, final Root root,
+        final boolean isIncludeDeprecated) {
+        List<NodeFactoryExtension> nodeExtensions = new ArrayList<>();
         for (NodeFactoryExtension nodeFactoryExtension : NodeFactoryExtensionManager.getInstance()
             .getNodeFactoryExtensions()) {
-            if (monitor.isCanceled()) {
-                return;
+            // deprecated nodes are hidden
+            if ((!nodeFactoryExtension.isDeprecated() || isIncludeDeprecated) && !nodeFactoryExtension.isHidden()) {
+                nodeExtensions.add(nodeFactoryExtension);
             }
+        }
+        List<NodeSetFactoryExtension> setExtensions = new ArrayList<>();
+        for (NodeSetFactoryExtension set : NodeFactoryExtensionManager.getInstance().getNodeSetFactoryExtensions()) {
+            setExtensions.add(set);
+        }
 
-            try {
-                if (nodeFactoryExtension.isDeprecated() && !isIncludeDeprecated) { // deprecate nodes are hidden
-                    continue;
-                }
-                if (nodeFactoryExtension.isHidden()) {
-                    continue;
-                }
+        final SubMonitor progress =
+            SubMonitor.convert(monitor, "Reading node repository", nodeExtensions.size() + setExtensions.size());
+        final RepositorySnapshot snapshot = getSnapshot();
+        // null if the factories must be loaded in the calling (display) thread
+        final ForkJoinPool pool = (Display.getCurrent() == null) ? createReaderPool() : null;
+        try {
+            // parallel phase: create the factories and snapshot entries
+            List<Future<RepositorySnapshot.NodeEntry>> nodeEntries = new ArrayList<>(nodeExtensions.size());
+            for (final NodeFactoryExtension nodeFactoryExtension : nodeExtensions) {
+                nodeEntries.add(submit(pool, () -> monitor.isCanceled() ? null
+                    : RepositoryFactory.createNodeEntry(nodeFactoryExtension, snapshot)));
+            }
+            List<Future<List<Pair<String, RepositorySnapshot.NodeEntry>>>> setEntries =
+                new ArrayList<>(setExtensions.size());
+            for (final NodeSetFactoryExtension set : setExtensions) {
+                setEntries.add(submit(pool, () -> monitor.isCanceled()
+                    ? Collections.<Pair<String, RepositorySnapshot.NodeEntry>> emptyList()
+                    : RepositoryFactory.createNodeSetEntries(set, snapshot)));
+            }
 
-                Pair<DefaultNodeTemplate, Boolean> nodePair = RepositoryFactory.createNode(nodeFactoryExtension);
-                DefaultNodeTemplate node = nodePair.getFirst();
-                Boolean isDeprecatedInNode = nodePair.getSecond();
-
-                // nodeFactoryExtension.isDeprecated() - reads the flag from the plugin.xml
-                // isDeprecatedInNode -- reads FooNodeFactory.xml header _AND_ plugin.xml
-                //                                                             (injected via NodeFactoryExtension)
-                // if they are different then the node is deprecated via the FooFactory.xml but not in the plugin.xml...
-                if (nodeFactoryExtension.isDeprecated() != isDeprecatedInNode) {
-                    LOGGER.codingWithFormat(
-                        "%s \"%s\" is declared 'deprecated' in its node description but not in "
-                            + "the extension point contribution (plug-in \"%s\")",
-                        NodeFactory.class.getSimpleName(), nodeFactoryExtension.getFactoryClassName(),
-                        nodeFactoryExtension.getPlugInSymbolicName());
-                    if (!isIncludeDeprecated) {
-                        continue;
+            // serial phase: insert the templates into the tree
+            IContainerObject uncategorized = root.findContainer("/uncategorized");
+            if (uncategorized == null) {
+                // this should never happen, but who knows...
+                uncategorized = root;
+            }
+            for (int i = 0; i < nodeExtensions.size(); i++) {
+                if (progress.isCanceled()) {
+                    return;
+                }
+                NodeFactoryExtension nodeFactoryExtension = nodeExtensions.get(i);
+                try {
+                    RepositorySnapshot.NodeEntry entry = getResult(nodeEntries.get(i));
+                    if (entry != null) {
+                        addNode(root, uncategorized, nodeFactoryExtension, entry, isIncludeDeprecated);
                     }
+                } catch (InvalidNodeFactoryExtensionException t) {
+                    LOGGER.error(t.getMessage(), t);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
                 }
+                progress.worked(1);
+            }
 
-                LOGGER.debugWithFormat("Found node extension '%s': %s", node.getID(), node.getName());
-                for (Listener l : m_loadListeners) {
-                    l.newNode(root, node);
+            for (int i = 0; i < setExtensions.size(); i++) {
+                if (progress.isCanceled()) {
+                    return;
                 }
+                try {
+                    addNodeSet(progress, root, setExtensions.get(i), getResult(setEntries.get(i)),
+                        isIncludeDeprecated);
+                } catch (InvalidNodeFactoryExtensionException t) {
+                    // not thrown when creating node sets
+                    LOGGER.error(t.getMessage(), t);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                progress.worked(1);
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdownNow();
+            }
+            progress.done();
+        }
+    }
 
-                m_nodesById.put(node.getID(), node);
-                String nodeName = node.getID();
-                nodeName = nodeName.substring(nodeName.lastIndexOf('.') + 1);
-
-                // Ask the root to lookup the category-container located at
-                // the given path
-                IContainerObject parentContainer =
-                        root.findContainer(node.getCategoryPath());
-
-                // If parent category is illegal, log an error and append
-                // the node to the repository root.
-                if (parentContainer == null) {
-                    LOGGER.coding("Unknown category for node " + node.getID() + " (plugin: "
-                            + node.getContributingPlugin() + "): " + node.getCategoryPath()
-                            + ". Node will be added to 'Uncategorized' instead");
-                    uncategorized.addChild(node);
-                } else {
-                    String nodePluginId = nodeFactoryExtension.getPlugInSymbolicName();
-                    String categoryPluginId = parentContainer.getContributingPlugin();
-                    if (categoryPluginId == null) {
-                        categoryPluginId = "";
-                    }
-                    int secondDotIndex = nodePluginId.indexOf('.', nodePluginId.indexOf('.') + 1);
-                    if (secondDotIndex == -1) {
-                        secondDotIndex = 0;
-                    }
+    private void addNode(final Root root, final IContainerObject uncategorized,
+        final NodeFactoryExtension nodeFactoryExtension, final RepositorySnapshot.NodeEntry entry,
+        final boolean isIncludeDeprecated) {
+        Pair<DefaultNodeTemplate, Boolean> nodePair = RepositoryFactory.createNode(nodeFactoryExtension, entry);
+        DefaultNodeTemplate node = nodePair.getFirst();
+        Boolean isDeprecatedInNode = nodePair.getSecond();
+
+        // nodeFactoryExtension.isDeprecated() - reads the flag from the plugin.xml
+        // isDeprecatedInNode -- reads FooNodeFactory.xml header _AND_ plugin.xml
+        //                                                             (injected via NodeFactoryExtension)
+        // if they are different then the node is deprecated via the FooFactory.xml but not in the plugin.xml...
+        if (nodeFactoryExtension.isDeprecated() != isDeprecatedInNode) {
+            LOGGER.codingWithFormat(
+                "%s \"%s\" is declared 'deprecated' in its node description but not in "
+                    + "the extension point contribution (plug-in \"%s\")",
+                NodeFactory.class.getSimpleName(), nodeFactoryExtension.getFactoryClassName(),
+                nodeFactoryExtension.getPlugInSymbolicName());
+            if (!isIncludeDeprecated) {
+                return;
+            }
+        }
 
-                    if (!parentContainer.isLocked() ||
-                            nodePluginId.equals(categoryPluginId) ||
-                            nodePluginId.startsWith("org.knime.") ||
-                            nodePluginId.startsWith("com.knime.") ||
-                            nodePluginId.regionMatches(0, categoryPluginId, 0, secondDotIndex)) {
-                        // container not locked, or node and category from same plug-in
-                        // or the vendor is the same (comparing the first two parts of the plug-in ids)
-                        parentContainer.addChild(node);
-                    } else {
-                        LOGGER.coding("Locked category for node " + node.getID() + ": " + node.getCategoryPath()
-                                    + ". Node will be added to 'Uncategorized' instead");
-                        uncategorized.addChild(node);
-                    }
-                }
+        LOGGER.debugWithFormat("Found node extension '%s': %s", node.getID(), node.getName());
+        for (Listener l : m_loadListeners) {
+            l.newNode(root, node);
+        }
 
-            } catch (InvalidNodeFactoryExtensionException t) {
-                LOGGER.error(t.getMessage(), t);
+        m_nodesById.put(node.getID(), node);
+
+        // Ask the root to lookup the category-container located at
+        // the given path
+        IContainerObject parentContainer =
+                root.findContainer(node.getCategoryPath());
+
+        // If parent category is illegal, log an error and append
+        // the node to the repository root.
+        if (parentContainer == null) {
+            LOGGER.coding("Unknown category for node " + node.getID() + " (plugin: "
+                    + node.getContributingPlugin() + "): " + node.getCategoryPath()
+                    + ". Node will be added to 'Uncategorized' instead");
+            uncategorized.addChild(node);
+        } else {
+            String nodePluginId = nodeFactoryExtension.getPlugInSymbolicName();
+            String categoryPluginId = parentContainer.getContributingPlugin();
+            if (categoryPluginId == null) {
+                categoryPluginId = "";
+            }
+            int secondDotIndex = nodePluginId.indexOf('.', nodePluginId.indexOf('.') + 1);
+            if (secondDotIndex == -1) {
+                secondDotIndex = 0;
             }
 
-        } // for configuration elements
+            if (!parentContainer.isLocked() ||
+                    nodePluginId.equals(categoryPluginId) ||
+                    nodePluginId.startsWith("org.knime.") ||
+                    nodePluginId.startsWith("com.knime.") ||
+                    nodePluginId.regionMatches(0, categoryPluginId, 0, secondDotIndex)) {
+                // container not locked, or node and category from same plug-in
+                // or the vendor is the same (comparing the first two parts of the plug-in ids)
+                parentContainer.addChild(node);
+            } else {
+                LOGGER.coding("Locked category for node " + node.getID() + ": " + node.getCategoryPath()
+                            + ". Node will be added to 'Uncategorized' instead");
+                uncategorized.addChild(node);
+            }
+        }
     }
 
+    private void addNodeSet(final IProgressMonitor monitor, final Root root, final NodeSetFactoryExtension set,
+        final List<Pair<String, RepositorySnapshot.NodeEntry>> entries, final boolean isIncludeDeprecated) {
+        Collection<DynamicNodeTemplate> dynamicNodeTemplates =
+                RepositoryFactory.createNodeSet(set, root, isIncludeDeprecated, entries);
 
-    private void readNodeSets(final IProgressMonitor monitor, final Root root, final boolean isIncludeDeprecated) {
-        for (NodeSetFactoryExtension set : NodeFactoryExtensionManager.getInstance().getNodeSetFactoryExtensions()) {
-            Collection<DynamicNodeTemplate> dynamicNodeTemplates =
-                    RepositoryFactory.createNodeSet(set, root, isIncludeDeprecated);
+        for (DynamicNodeTemplate node : dynamicNodeTemplates) {
+            if (monitor.isCanceled()) {
+                return;
+            }
+            for (Listener l : m_loadListeners) {
+                l.newNode(root, node);
+            }
 
-            for (DynamicNodeTemplate node : dynamicNodeTemplates) {
-                if (monitor.isCanceled()) {
-                    return;
-                }
-                for (Listener l : m_loadListeners) {
-                    l.newNode(root, node);
-                }
+            m_nodesById.put(node.getID(), node);
 
-                m_nodesById.put(node.getID(), node);
-                String nodeName = node.getID();
-                nodeName = nodeName.substring(nodeName.lastIndexOf('.') + 1);
+            // Ask the root to lookup the category-container located at the given path
+            IContainerObject parentContainer = root.findContainer(node.getCategoryPath());
 
-                // Ask the root to lookup the category-container located at the given path
-                IContainerObject parentContainer = root.findContainer(node.getCategoryPath());
+            // If parent category is illegal, log an error and append the node to the repository root.
+            if (parentContainer == null) {
+                LOGGER.warnWithFormat("Invalid category-path for node contribution: '%s' - adding to root instead",
+                    node.getCategoryPath());
+                root.addChild(node);
+            } else {
+                // everything is fine, add the node to its parent
+                // category
+                parentContainer.addChild(node);
+            }
+        }
+    }
 
-                // If parent category is illegal, log an error and append the node to the repository root.
-                if (parentContainer == null) {
-                    LOGGER.warnWithFormat("Invalid category-path for node contribution: '%s' - adding to root instead",
-                        node.getCategoryPath());
-                    root.addChild(node);
-                } else {
-                    // everything is fine, add the node to its parent
-                    // category
-                    parentContainer.addChild(node);
-                }
+    /**
+     * Executes the task in the reader pool or, if there is none, directly in the calling thread.
+     */
+    private static <T> Future<T> submit(final ForkJoinPool pool, final Callable<T> task) {
+        if (pool != null) {
+            return pool.submit(task);
+        }
+        final FutureTask<T> future = new FutureTask<>(task);
+        future.run();
+        return future;
+    }
 
+    /**
+     * Waits for the result of a task executed by {@link #submit(ForkJoinPool, Callable)}. An
+     * {@link InvalidNodeFactoryExtensionException} thrown by the task is passed on, unchecked exceptions and errors are
+     * re-thrown.
+     */
+    private static <T> T getResult(final Future<T> future)
+        throws InvalidNodeFactoryExtensionException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof InvalidNodeFactoryExtensionException) {
+                throw (InvalidNodeFactoryExtensionException)cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            } else {
+                throw new IllegalStateException(cause.getMessage(), cause);
             }
         }
     }
 
+    /**
+     * Creates the bounded pool that loads node factories in parallel. Its threads use the context class loader of the
+     * calling thread.
+     */
+    private static ForkJoinPool createReaderPool() {
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        final AtomicInteger threadCounter = new AtomicInteger();
+        return new ForkJoinPool(READER_PARALLELISM, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("KNIME-Node-Repository-Reader-" + threadCounter.incrementAndGet());
+            thread.setContextClassLoader(contextClassLoader);
+            return thread;
+        }, null, false);
+    }
+
+    private RepositorySnapshot getSnapshot() {
+        if (m_snapshot == null) {
+            m_snapshot = RepositorySnapshot.load();
+        }
+        return m_snapshot;
+    }
+
     /**
      * Returns the extensions for a given extension point.
      *
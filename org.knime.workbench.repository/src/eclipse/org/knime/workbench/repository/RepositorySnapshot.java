@@ -0,0 +1,458 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026: created
+ */
+package org.knime.workbench.repository;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Platform;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeFactory.NodeType;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeModel;
+import org.osgi.framework.Bundle;
+
+/**
+ * Versioned, binary snapshot of the node templates that have been created while reading the node repository. The
+ * snapshot is stored in the repository plug-in's state location inside the workspace metadata. Each entry remembers
+ * the version of the bundle that contributed it and is only handed out again as long as this bundle is still
+ * installed in exactly the same version. Hence a warm start only instantiates the node factories (and parses their
+ * node descriptions) of bundles that have been added or updated since the last start; all other templates are
+ * restored from the snapshot and their factories are created on first use.
+ *
+ * <p>
+ * Bundles with a non-release version (i.e. a version qualifier that has not been replaced during the build) are never
+ * put into the snapshot, because their content may change without the version changing. The snapshot can be turned
+ * off completely by setting the system property {@value #PROPERTY_DISABLE_SNAPSHOT} to <code>true</code>.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class RepositorySnapshot {
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(RepositorySnapshot.class);
+
+    /** System property that disables the repository snapshot if set to <code>true</code>. */
+    static final String PROPERTY_DISABLE_SNAPSHOT = "knime.repository.snapshot.disabled";
+
+    private static final String FILE_NAME = "repositorySnapshot.bin";
+
+    private static final int MAGIC_NUMBER = 0x4B4E5253; // "KNRS"
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String RESOURCE_ICON_PREFIX = "resource:";
+
+    private static final String ENTRY_ICON_PREFIX = "entry:";
+
+    /**
+     * A single node template as stored in the snapshot.
+     */
+    static final class NodeEntry {
+        private final String m_pluginID;
+
+        private final String m_factoryClassName;
+
+        private final String m_name;
+
+        private final String m_categoryPath;
+
+        private final NodeType m_type;
+
+        private final String m_afterID;
+
+        private final String m_icon;
+
+        private final boolean m_deprecated;
+
+        // the following fields are only valid during the current session and not written to the snapshot
+
+        private Class<? extends NodeFactory<? extends NodeModel>> m_factoryClass;
+
+        private URL m_iconURL;
+
+        private NodeEntry(final String pluginID, final String factoryClassName, final String name,
+            final String categoryPath, final NodeType type, final String afterID, final String icon,
+            final boolean deprecated) {
+            m_pluginID = pluginID;
+            m_factoryClassName = factoryClassName;
+            m_name = name;
+            m_categoryPath = categoryPath;
+            m_type = type;
+            m_afterID = afterID;
+            m_icon = icon;
+            m_deprecated = deprecated;
+        }
+
+        /**
+         * Creates a new entry from a freshly instantiated node factory.
+         *
+         * @param pluginID the ID of the contributing plug-in
+         * @param factory the node factory
+         * @param categoryPath the category path of the node
+         * @param afterID the after-ID of the node, may be <code>null</code>
+         * @return a new entry
+         */
+        @SuppressWarnings("unchecked")
+        static NodeEntry create(final String pluginID, final NodeFactory<? extends NodeModel> factory,
+            final String categoryPath, final String afterID) {
+            URL iconURL = factory.getIcon();
+            NodeEntry e = new NodeEntry(pluginID, factory.getClass().getName(), factory.getNodeName(), categoryPath,
+                factory.getType(), afterID, encodeIcon(iconURL), factory.isDeprecated());
+            e.m_factoryClass = (Class<? extends NodeFactory<? extends NodeModel>>)factory.getClass();
+            e.m_iconURL = iconURL;
+            return e;
+        }
+
+        String getFactoryClassName() {
+            return m_factoryClassName;
+        }
+
+        String getName() {
+            return m_name;
+        }
+
+        String getCategoryPath() {
+            return m_categoryPath;
+        }
+
+        NodeType getType() {
+            return m_type;
+        }
+
+        String getAfterID() {
+            return m_afterID;
+        }
+
+        boolean isDeprecated() {
+            return m_deprecated;
+        }
+
+        /**
+         * Returns the node factory class. It is only available after it has been set by
+         * {@link #setFactoryClass(Class)} or if the entry has been created from a factory instance.
+         *
+         * @return the factory class or <code>null</code>
+         */
+        Class<? extends NodeFactory<? extends NodeModel>> getFactoryClass() {
+            return m_factoryClass;
+        }
+
+        /**
+         * Sets the node factory class after it has been loaded in the current session.
+         *
+         * @param factoryClass the factory class
+         */
+        void setFactoryClass(final Class<? extends NodeFactory<? extends NodeModel>> factoryClass) {
+            m_factoryClass = factoryClass;
+        }
+
+        /**
+         * Resolves the node's icon URL. For restored entries this requires the factory class to be set.
+         *
+         * @return the icon's URL or <code>null</code> if the node has no icon or it cannot be resolved anymore
+         */
+        URL resolveIcon() {
+            if ((m_iconURL != null) || (m_icon == null)) {
+                return m_iconURL;
+            } else if (m_icon.startsWith(RESOURCE_ICON_PREFIX)) {
+                return (m_factoryClass == null) ? null
+                    : m_factoryClass.getResource(m_icon.substring(RESOURCE_ICON_PREFIX.length()));
+            } else if (m_icon.startsWith(ENTRY_ICON_PREFIX)) {
+                Bundle bundle = Platform.getBundle(m_pluginID);
+                return (bundle == null) ? null : bundle.getEntry(m_icon.substring(ENTRY_ICON_PREFIX.length()));
+            } else {
+                try {
+                    return new URL(m_icon);
+                } catch (MalformedURLException ex) {
+                    LOGGER.debug("Invalid icon URL '" + m_icon + "' in repository snapshot: " + ex.getMessage(), ex);
+                    return null;
+                }
+            }
+        }
+
+        // bundle URLs contain the runtime bundle id, which is not stable across restarts, therefore only the path
+        // is stored for them
+        private static String encodeIcon(final URL icon) {
+            if (icon == null) {
+                return null;
+            } else if ("bundleresource".equals(icon.getProtocol())) {
+                return RESOURCE_ICON_PREFIX + icon.getPath();
+            } else if ("bundleentry".equals(icon.getProtocol())) {
+                return ENTRY_ICON_PREFIX + icon.getPath();
+            } else {
+                return icon.toExternalForm();
+            }
+        }
+    }
+
+    private final File m_file;
+
+    private final Map<String, String> m_bundleVersions;
+
+    private final Map<String, NodeEntry> m_entries;
+
+    private boolean m_dirty;
+
+    private RepositorySnapshot(final File file, final Map<String, String> bundleVersions,
+        final Map<String, NodeEntry> entries) {
+        m_file = file;
+        m_bundleVersions = bundleVersions;
+        m_entries = entries;
+    }
+
+    /**
+     * Loads the snapshot from the repository plug-in's state location. If the snapshot does not exist, is outdated or
+     * cannot be read, an empty snapshot is returned.
+     *
+     * @return a snapshot, never <code>null</code>
+     */
+    static RepositorySnapshot load() {
+        File file = getSnapshotFile();
+        RepositorySnapshot snapshot = new RepositorySnapshot(file, new HashMap<String, String>(),
+            new HashMap<String, NodeEntry>());
+        if ((file == null) || !file.isFile()) {
+            return snapshot;
+        }
+
+        long start = System.currentTimeMillis();
+        try (DataInputStream in =
+            new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath()), 1 << 16))) {
+            if ((in.readInt() != MAGIC_NUMBER) || (in.readInt() != FORMAT_VERSION)) {
+                LOGGER.debug("Ignoring repository snapshot '" + file + "' with unknown format");
+                return snapshot;
+            }
+            int bundleCount = in.readInt();
+            for (int i = 0; i < bundleCount; i++) {
+                snapshot.m_bundleVersions.put(in.readUTF(), in.readUTF());
+            }
+            int entryCount = in.readInt();
+            for (int i = 0; i < entryCount; i++) {
+                String key = in.readUTF();
+                NodeEntry e = new NodeEntry(in.readUTF(), in.readUTF(), in.readUTF(), readString(in),
+                    NodeType.valueOf(in.readUTF()), readString(in), readString(in), in.readBoolean());
+                snapshot.m_entries.put(key, e);
+            }
+        } catch (IOException | IllegalArgumentException ex) {
+            LOGGER.info("Could not read node repository snapshot '" + file + "', rebuilding it: " + ex.getMessage(),
+                ex);
+            snapshot.m_bundleVersions.clear();
+            snapshot.m_entries.clear();
+            return snapshot;
+        }
+        snapshot.removeOutdatedEntries();
+        LOGGER.debugWithFormat("Read node repository snapshot with %d entries in %dms", snapshot.m_entries.size(),
+            System.currentTimeMillis() - start);
+        return snapshot;
+    }
+
+    /**
+     * Removes all entries whose contributing bundle is not installed anymore or has been updated.
+     */
+    private void removeOutdatedEntries() {
+        for (Iterator<Map.Entry<String, String>> it = m_bundleVersions.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<String, String> e = it.next();
+            if (!e.getValue().equals(getCacheableVersion(e.getKey()))) {
+                it.remove();
+                m_dirty = true;
+            }
+        }
+        if (m_dirty) {
+            m_entries.values().removeIf(e -> !m_bundleVersions.containsKey(e.m_pluginID));
+        }
+    }
+
+    private static File getSnapshotFile() {
+        if (Boolean.getBoolean(PROPERTY_DISABLE_SNAPSHOT)) {
+            return null;
+        }
+        KNIMERepositoryPlugin plugin = KNIMERepositoryPlugin.getDefault();
+        if (plugin == null) {
+            return null;
+        }
+        try {
+            IPath stateLocation = plugin.getStateLocation();
+            return stateLocation.append(FILE_NAME).toFile();
+        } catch (IllegalStateException ex) { // NOSONAR no instance location, e.g. in some headless applications
+            return null;
+        }
+    }
+
+    /**
+     * Returns the entry for a node contributed by a node factory extension. The entry is only returned if the
+     * contributing bundle is still installed in the same version as when the entry has been created.
+     *
+     * @param pluginID the ID of the contributing plug-in
+     * @param factoryClassName the node factory's class name
+     * @return an entry or <code>null</code> if the node must be created from scratch
+     */
+    NodeEntry getNode(final String pluginID, final String factoryClassName) {
+        return get(pluginID, factoryClassName);
+    }
+
+    /**
+     * Returns the entry for a node contributed by a node set factory. The entry is only returned if the contributing
+     * bundle is still installed in the same version as when the entry has been created.
+     *
+     * @param pluginID the ID of the contributing plug-in
+     * @param nodeSetFactoryClassName the node set factory's class name
+     * @param factoryID the node's ID inside the node set
+     * @return an entry or <code>null</code> if the node must be created from scratch
+     */
+    NodeEntry getNodeSetNode(final String pluginID, final String nodeSetFactoryClassName, final String factoryID) {
+        return get(pluginID, nodeSetFactoryClassName + "#" + factoryID);
+    }
+
+    /**
+     * Adds the entry for a node contributed by a node factory extension.
+     *
+     * @param entry the entry
+     */
+    void putNode(final NodeEntry entry) {
+        put(entry.getFactoryClassName(), entry);
+    }
+
+    /**
+     * Adds the entry for a node contributed by a node set factory.
+     *
+     * @param nodeSetFactoryClassName the node set factory's class name
+     * @param factoryID the node's ID inside the node set
+     * @param entry the entry
+     */
+    void putNodeSetNode(final String nodeSetFactoryClassName, final String factoryID, final NodeEntry entry) {
+        put(nodeSetFactoryClassName + "#" + factoryID, entry);
+    }
+
+    private synchronized NodeEntry get(final String pluginID, final String key) {
+        NodeEntry e = m_entries.get(key);
+        return ((e != null) && e.m_pluginID.equals(pluginID)) ? e : null;
+    }
+
+    private synchronized void put(final String key, final NodeEntry entry) {
+        String version = getCacheableVersion(entry.m_pluginID);
+        if (version == null) {
+            return;
+        }
+        m_bundleVersions.put(entry.m_pluginID, version);
+        m_entries.put(key, entry);
+        m_dirty = true;
+    }
+
+    private static String getCacheableVersion(final String pluginID) {
+        Bundle bundle = Platform.getBundle(pluginID);
+        if (bundle == null) {
+            return null;
+        }
+        String version = bundle.getVersion().toString();
+        return version.endsWith("qualifier") ? null : version;
+    }
+
+    /**
+     * Writes the snapshot back to disk if it has been changed since it was loaded.
+     */
+    synchronized void saveIfDirty() {
+        if ((m_file == null) || !m_dirty) {
+            return;
+        }
+
+        File tempFile = new File(m_file.getParentFile(), m_file.getName() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempFile.toPath()), 1 << 16))) {
+                out.writeInt(MAGIC_NUMBER);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(m_bundleVersions.size());
+                for (Map.Entry<String, String> e : m_bundleVersions.entrySet()) {
+                    out.writeUTF(e.getKey());
+                    out.writeUTF(e.getValue());
+                }
+                out.writeInt(m_entries.size());
+                for (Map.Entry<String, NodeEntry> me : m_entries.entrySet()) {
+                    NodeEntry e = me.getValue();
+                    out.writeUTF(me.getKey());
+                    out.writeUTF(e.m_pluginID);
+                    out.writeUTF(e.m_factoryClassName);
+                    out.writeUTF(e.m_name);
+                    writeString(out, e.m_categoryPath);
+                    out.writeUTF(e.m_type.name());
+                    writeString(out, e.m_afterID);
+                    writeString(out, e.m_icon);
+                    out.writeBoolean(e.m_deprecated);
+                }
+            }
+            Files.move(tempFile.toPath(), m_file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            m_dirty = false;
+            LOGGER.debugWithFormat("Wrote node repository snapshot with %d entries", m_entries.size());
+        } catch (IOException ex) {
+            LOGGER.warn("Could not write node repository snapshot '" + m_file + "': " + ex.getMessage(), ex);
+            tempFile.delete();
+        }
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeString(final DataOutputStream out, final String s) throws IOException {
+        out.writeBoolean(s != null);
+        if (s != null) {
+            out.writeUTF(s);
+        }
+    }
+}
@@ -49,9 +49,11 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 
 /**
  * Abstract base implementation of a container object.
@@ -105,6 +107,7 @@ protected AbstractContainerObject(final AbstractContainerObject copy) {
                     (AbstractRepositoryObject)child.deepCopy();
             childCopy.setParent(this);
             this.m_children.add(childCopy);
+            indexChild(childCopy);
         }
     }
 
@@ -142,6 +145,16 @@ protected boolean sortChildren() {
 
     private AbstractRepositoryObject[] m_sortedChildren = null;
 
+    /**
+     * Index of the children by their ID. If several children share the same ID, the first one in {@link #m_children}
+     * is indexed.
+     */
+    private final Map<String, AbstractRepositoryObject> m_childrenByID =
+            new HashMap<String, AbstractRepositoryObject>();
+
+    /** Whether at least two children with the same ID have been added to this container. */
+    private boolean m_hasDuplicateIDs;
+
     /**
      * {@inheritDoc}
      */
@@ -155,8 +168,8 @@ public final boolean hasChildren() {
      * {@inheritDoc}
      */
     @Override
-    public boolean addChild(final AbstractRepositoryObject child) {
-        if (m_children.contains(child)) {
+    public synchronized boolean addChild(final AbstractRepositoryObject child) {
+        if (contains(child)) {
             return false;
         }
         if (child instanceof Root) {
@@ -167,17 +180,67 @@ public boolean addChild(final AbstractRepositoryObject child) {
             throw new IllegalArgumentException("Can't add 'this' as a child");
         }
         m_children.add(child);
+        indexChild(child);
         child.setParent(this);
         m_sortedChildren = null;
+        childrenChanged(child, true);
         return true;
     }
 
     /**
      * Removes all children from this container.
      */
-    public void removeAllChildren() {
+    public synchronized void removeAllChildren() {
         m_children.clear();
+        m_childrenByID.clear();
+        m_hasDuplicateIDs = false;
         m_sortedChildren = null;
+        childrenChanged(null, false);
+    }
+
+    /**
+     * Adds a newly inserted child to the ID index. Must be called after the child has been inserted into
+     * {@link #m_children}.
+     */
+    private void indexChild(final AbstractRepositoryObject child) {
+        AbstractRepositoryObject previous = m_childrenByID.putIfAbsent(child.getID(), child);
+        if (previous != null) {
+            m_hasDuplicateIDs = true;
+            reindexChild(child.getID());
+        }
+    }
+
+    /**
+     * Updates the ID index for the given ID after a child with this ID has been inserted at an arbitrary position or
+     * has been removed.
+     */
+    private void reindexChild(final String id) {
+        if (m_hasDuplicateIDs) {
+            for (AbstractRepositoryObject o : m_children) {
+                if (o.getID().equals(id)) {
+                    m_childrenByID.put(id, o);
+                    return;
+                }
+            }
+        }
+        m_childrenByID.remove(id);
+    }
+
+    /**
+     * Called after the children of this container have changed. Informs the repository root so that it can discard
+     * cached container lookups. Appending a child that is not a container cannot change the result of a lookup.
+     *
+     * @param child the added or removed child, <code>null</code> if all children have been removed
+     * @param appended <code>true</code> if the child has been appended at the end of the children
+     */
+    private void childrenChanged(final AbstractRepositoryObject child, final boolean appended) {
+        IContainerObject container = this;
+        while (container.getParent() != null) {
+            container = container.getParent();
+        }
+        if (container instanceof Root) {
+            ((Root)container).treeChanged(!appended || (child instanceof IContainerObject));
+        }
     }
 
     /**
@@ -238,14 +301,16 @@ private static List<AbstractRepositoryObject> sortChildren(final List<AbstractRe
      *      removeChild(AbstractRepositoryObject)
      */
     @Override
-    public void removeChild(final AbstractRepositoryObject child) {
-        if (!m_children.contains(child)) {
+    public synchronized void removeChild(final AbstractRepositoryObject child) {
+        if (!contains(child)) {
             throw new IllegalArgumentException(
                     "Can't remove child more, object not found");
         }
         m_children.remove(child);
+        reindexChild(child.getID());
         child.detach();
         m_sortedChildren = null;
+        childrenChanged(child, false);
     }
 
     /**
@@ -273,6 +338,9 @@ public synchronized IRepositoryObject getChildByID(final String id,
         if ("/".equals(id) || "".equals(id.trim())) {
             return this;
         }
+        if (!rec) {
+            return m_childrenByID.get(id);
+        }
         for (Iterator<AbstractRepositoryObject> it = m_children.iterator(); it
                 .hasNext();) {
             IRepositoryObject o = it.next();
@@ -282,13 +350,11 @@ public synchronized IRepositoryObject getChildByID(final String id,
             }
 
             // if it is a container, recursivly dive inside it !
-            if (rec) {
-                if (o instanceof IContainerObject) {
-                    IRepositoryObject result =
-                            ((IContainerObject)o).getChildByID(id, rec);
-                    if (result != null) {
-                        return result;
-                    }
+            if (o instanceof IContainerObject) {
+                IRepositoryObject result =
+                        ((IContainerObject)o).getChildByID(id, rec);
+                if (result != null) {
+                    return result;
                 }
             }
 
@@ -300,9 +366,9 @@ public synchronized IRepositoryObject getChildByID(final String id,
      * {@inheritDoc}
      */
     @Override
-    public boolean addChildAfter(final AbstractRepositoryObject child,
+    public synchronized boolean addChildAfter(final AbstractRepositoryObject child,
             final AbstractRepositoryObject before) {
-        if (m_children.contains(child)) {
+        if (contains(child)) {
             return false;
         }
 
@@ -310,7 +376,9 @@ public boolean addChildAfter(final AbstractRepositoryObject child,
         while (it.hasNext()) {
             if (it.next() == before) {
                 it.add(child);
+                indexChild(child);
                 m_sortedChildren = null;
+                childrenChanged(child, false);
                 return true;
             }
         }
@@ -321,9 +389,9 @@ public boolean addChildAfter(final AbstractRepositoryObject child,
      * {@inheritDoc}
      */
     @Override
-    public boolean addChildBefore(final AbstractRepositoryObject child,
+    public synchronized boolean addChildBefore(final AbstractRepositoryObject child,
             final AbstractRepositoryObject after) {
-        if (m_children.contains(child)) {
+        if (contains(child)) {
             return false;
         }
         ListIterator<AbstractRepositoryObject> it = m_children.listIterator();
@@ -331,7 +399,9 @@ public boolean addChildBefore(final AbstractRepositoryObject child,
             if (it.next() == after) {
                 it.previous();
                 it.add(child);
+                indexChild(child);
                 m_sortedChildren = null;
+                childrenChanged(child, false);
                 return true;
             }
         }
@@ -342,8 +412,19 @@ public boolean addChildBefore(final AbstractRepositoryObject child,
      * {@inheritDoc}
      */
     @Override
-    public boolean contains(final IRepositoryObject child) {
-        return m_children.contains(child);
+    public synchronized boolean contains(final IRepositoryObject child) {
+        if (child == null) {
+            return false;
+        }
+        // equal repository objects always have the same ID
+        AbstractRepositoryObject indexed = m_childrenByID.get(child.getID());
+        if (indexed == null) {
+            return false;
+        } else if (indexed.equals(child)) {
+            return true;
+        } else {
+            return m_hasDuplicateIDs && m_children.contains(child);
+        }
     }
 
     /**
@@ -47,6 +47,9 @@
  */
 package org.knime.workbench.repository.model;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Realizes a root node. This has no parent (<code>null</code>) and can't be
@@ -55,6 +58,14 @@
  * @author Florian Georg, University of Konstanz
  */
 public class Root extends AbstractContainerObject {
+    /**
+     * Cache for {@link #findContainer(String)}, only successful lookups are cached. It is cleared whenever a container
+     * is added to or removed from the tree.
+     */
+    private final Map<String, IContainerObject> m_containerCache = new ConcurrentHashMap<String, IContainerObject>();
+
+    private final AtomicLong m_modificationCount = new AtomicLong();
+
     /**
      * Constructor for a root.
      */
@@ -111,6 +122,11 @@ public void setParent(final IContainerObject parent) {
      * @return The container, or <code>null</code> if not found
      */
     public IContainerObject findContainer(final String path) {
+        IContainerObject cached = m_containerCache.get(path);
+        if (cached != null) {
+            return cached;
+        }
+
         String[] segments = path.split("/");
         IContainerObject parent = this;
         for (int i = 0; i < segments.length; i++) {
@@ -130,9 +146,34 @@ public IContainerObject findContainer(final String path) {
 
         assert parent != null;
 
+        m_containerCache.put(path, parent);
         return parent;
     }
 
+    /**
+     * Called by the containers in the tree whenever their children change. Discards all cached container lookups if
+     * containers may have been added or removed.
+     *
+     * @param containersChanged <code>true</code> if containers may have been added to or removed from the tree
+     */
+    void treeChanged(final boolean containersChanged) {
+        m_modificationCount.incrementAndGet();
+        if (containersChanged) {
+            m_containerCache.clear();
+        }
+    }
+
+    /**
+     * Returns a counter that is incremented whenever an object is added to or removed from the tree below this root.
+     * It allows clients to detect whether information they have derived from the tree is still up to date.
+     *
+     * @return the current modification count
+     * @since 4.4
+     */
+    public long getModificationCount() {
+        return m_modificationCount.get();
+    }
+
     /**
      * {@inheritDoc}
      */
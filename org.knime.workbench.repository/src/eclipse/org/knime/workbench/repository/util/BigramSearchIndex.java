@@ -0,0 +1,242 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026: created
+ */
+package org.knime.workbench.repository.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.knime.workbench.repository.model.AbstractNodeTemplate;
+import org.knime.workbench.repository.model.Category;
+import org.knime.workbench.repository.model.IContainerObject;
+import org.knime.workbench.repository.model.IRepositoryObject;
+import org.knime.workbench.repository.model.MetaNodeTemplate;
+import org.knime.workbench.repository.model.Root;
+
+/**
+ * Immutable search index over the names in a node repository tree. For each node name, metanode workflow name and
+ * category name it holds the upper-cased name and its set of character bigrams. A bigram is encoded as a single
+ * <code>int</code> (the two characters packed into the upper and lower 16 bits) and the set as a sorted array without
+ * duplicates, so that the Tanimoto distance between two names can be computed by merging two arrays without any
+ * allocation.
+ *
+ * <p>
+ * Names that are not contained in the index (e.g. because the repository tree has changed after the index was built)
+ * are analyzed on the fly. In this case {@link #hasMisses()} returns <code>true</code> afterwards, indicating that the
+ * index should be rebuilt.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.4
+ */
+public final class BigramSearchIndex {
+    /** An index without any entries. */
+    public static final BigramSearchIndex EMPTY = new BigramSearchIndex(new HashMap<String, Entry>());
+
+    private static final int[] NO_BIGRAMS = new int[0];
+
+    /**
+     * The analyzed form of a string, i.e. the upper-cased string and its bigrams.
+     */
+    public static final class Entry {
+        private final String m_upperCase;
+
+        private final int[] m_bigrams;
+
+        private Entry(final String text) {
+            m_upperCase = text.toUpperCase();
+            m_bigrams = bigrams(m_upperCase);
+        }
+
+        /**
+         * Returns the upper-cased string.
+         *
+         * @return the string in upper case
+         */
+        public String getUpperCase() {
+            return m_upperCase;
+        }
+
+        /**
+         * Returns whether this entry's string contains the given query string, ignoring case.
+         *
+         * @param query a query
+         * @return <code>true</code> if the query is contained, <code>false</code> otherwise
+         */
+        public boolean contains(final Entry query) {
+            return m_upperCase.contains(query.m_upperCase);
+        }
+
+        /**
+         * Computes the Tanimoto distance between the bigram sets of this and the given entry.
+         *
+         * @param other another entry
+         * @return the distance, a value between 0 (identical bigrams) and 1 (no common bigram)
+         */
+        public double distance(final Entry other) {
+            int[] a = m_bigrams;
+            int[] b = other.m_bigrams;
+            int intersection = 0;
+            int i = 0;
+            int j = 0;
+            while ((i < a.length) && (j < b.length)) {
+                if (a[i] < b[j]) {
+                    i++;
+                } else if (a[i] > b[j]) {
+                    j++;
+                } else {
+                    intersection++;
+                    i++;
+                    j++;
+                }
+            }
+            int union = a.length + b.length - intersection;
+            return (union > 0) ? 1.0 - intersection / (double)union : 1.0;
+        }
+    }
+
+    private final Map<String, Entry> m_entries;
+
+    private volatile boolean m_hasMisses;
+
+    private BigramSearchIndex(final Map<String, Entry> entries) {
+        m_entries = entries;
+    }
+
+    /**
+     * Builds the index for all names in the given repository tree.
+     *
+     * @param root the repository root
+     * @return a new index
+     */
+    public static BigramSearchIndex create(final Root root) {
+        Map<String, Entry> entries = new HashMap<String, Entry>();
+        addNames(root, entries);
+        return new BigramSearchIndex(entries);
+    }
+
+    private static void addNames(final IContainerObject container, final Map<String, Entry> entries) {
+        for (IRepositoryObject o : container.getChildren()) {
+            if (o instanceof AbstractNodeTemplate) {
+                add(o.getName(), entries);
+                if (o instanceof MetaNodeTemplate) {
+                    add(((MetaNodeTemplate)o).getManager().getName(), entries);
+                }
+            } else if (o instanceof Category) {
+                add(o.getName(), entries);
+            }
+            if (o instanceof IContainerObject) {
+                addNames((IContainerObject)o, entries);
+            }
+        }
+    }
+
+    private static void add(final String name, final Map<String, Entry> entries) {
+        if ((name != null) && !entries.containsKey(name)) {
+            entries.put(name, new Entry(name));
+        }
+    }
+
+    /**
+     * Analyzes a query string. The returned entry is not added to the index.
+     *
+     * @param query the query string
+     * @return the analyzed query
+     */
+    public static Entry analyze(final String query) {
+        return new Entry(query);
+    }
+
+    /**
+     * Returns the analyzed form of the given name. If the name is not part of the index, it is analyzed on the fly.
+     *
+     * @param name a name
+     * @return the analyzed name
+     */
+    public Entry get(final String name) {
+        Entry e = m_entries.get(name);
+        if (e == null) {
+            m_hasMisses = true;
+            e = new Entry(name);
+        }
+        return e;
+    }
+
+    /**
+     * Returns whether names have been requested that are not part of the index.
+     *
+     * @return <code>true</code> if there were unindexed names, <code>false</code> otherwise
+     */
+    public boolean hasMisses() {
+        return m_hasMisses;
+    }
+
+    /**
+     * Computes the sorted set of bigrams of the given string.
+     *
+     * @param s any string
+     * @return a sorted array of bigrams without duplicates
+     */
+    static int[] bigrams(final String s) {
+        if (s.length() < 2) {
+            return NO_BIGRAMS;
+        }
+        int[] grams = new int[s.length() - 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = (s.charAt(i) << 16) | s.charAt(i + 1);
+        }
+        Arrays.sort(grams);
+        int unique = 1;
+        for (int i = 1; i < grams.length; i++) {
+            if (grams[i] != grams[unique - 1]) {
+                grams[unique++] = grams[i];
+            }
+        }
+        return (unique == grams.length) ? grams : Arrays.copyOf(grams, unique);
+    }
+}
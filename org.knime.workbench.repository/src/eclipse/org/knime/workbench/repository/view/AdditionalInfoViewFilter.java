@@ -95,6 +95,7 @@ public boolean select(final Viewer viewer, final Object parentElement, final Obj
 
                 //additional infos are present, check the textual delegate filter
                 if (m_delegate.hasNonEmptyQuery()) {
+                    m_delegate.prepare(viewer.getInput());
                     return m_delegate.match(nT.getName());
                 } else {
                     return true;
@@ -0,0 +1,105 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026: created
+ */
+package org.knime.workbench.repository.view;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.knime.core.util.KNIMEJob;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * Background job that matches the elements of the node repository against a new search query. It works on a copy of
+ * the view's filter (see {@link TextualViewFilter#createSearchCopy(String)}) so that the filter used by the viewer is
+ * not touched while the job is running. Once the job has finished, the results are taken over by the viewer's filter on
+ * the UI thread and the viewer is refreshed, which then only needs to look up the results.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class RepositorySearchJob extends KNIMEJob {
+    private final TextualViewFilter m_filter;
+
+    private final Object m_input;
+
+    private final String m_query;
+
+    /**
+     * @param filter a copy of the viewer's filter, already set to the query
+     * @param input the viewer's input, usually the repository root
+     * @param query the query as entered by the user
+     */
+    RepositorySearchJob(final TextualViewFilter filter, final Object input, final String query) {
+        super("Node Repository Search", FrameworkUtil.getBundle(RepositorySearchJob.class));
+        m_filter = filter;
+        m_input = input;
+        m_query = query;
+        setSystem(true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected IStatus run(final IProgressMonitor monitor) {
+        return m_filter.precompute(m_input, monitor) ? Status.OK_STATUS : Status.CANCEL_STATUS;
+    }
+
+    /**
+     * @return the filter holding the results
+     */
+    TextualViewFilter getFilter() {
+        return m_filter;
+    }
+
+    /**
+     * @return the query as entered by the user
+     */
+    String getQuery() {
+        return m_query;
+    }
+}
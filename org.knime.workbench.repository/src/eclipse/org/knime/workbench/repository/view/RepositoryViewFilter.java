@@ -51,7 +51,6 @@
 import org.knime.workbench.repository.model.Category;
 import org.knime.workbench.repository.model.IRepositoryObject;
 import org.knime.workbench.repository.model.MetaNodeTemplate;
-import org.knime.workbench.repository.model.Root;
 
 /**
  * Viewer Filter for the repository view.
@@ -83,15 +82,7 @@ protected boolean doSelect(final Object parentElement,
             }
             // we must also check towards root, as we want to include all
             // children of a selected category
-            IRepositoryObject temp = (IRepositoryObject)parentElement;
-            while (!(temp instanceof Root)) {
-
-                // check parent category, but do *not* recurse !!!!
-                if (doSelect(temp.getParent(), temp, false)) {
-                    return true;
-                }
-                temp = temp.getParent();
-            }
+            return isParentSelected(parentElement);
         } else
         // Category: Match against name and children
         if (element instanceof Category) {
@@ -101,20 +92,50 @@ protected boolean doSelect(final Object parentElement,
                 return true;
             }
 
-            // check recursively against children, if needed
-            if (recurse) {
-                Category category = (Category)element;
-                IRepositoryObject[] children = category.getChildren();
-                for (int i = 0; i < children.length; i++) {
-                    // recursively check. return true on first matching child
-                    if (doSelect(category, children[i], true)) {
-                        return true;
-                    }
+            if (!recurse) {
+                // without recursion a category is only checked on behalf of its children, hence it is also selected
+                // if any parent category matches
+                return isParentSelected(parentElement);
+            }
 
+            // check recursively against children
+            Category category = (Category)element;
+            IRepositoryObject[] children = category.getChildren();
+            for (int i = 0; i < children.length; i++) {
+                // recursively check. return true on first matching child
+                if (isSelected(category, children[i], true)) {
+                    return true;
                 }
+
             }
         }
 
         return false;
     }
+
+    /**
+     * Checks the parent category and, transitively, all categories above it. The results are cached per category.
+     */
+    private boolean isParentSelected(final Object parentElement) {
+        // check parent category, but do *not* recurse !!!!
+        return (parentElement instanceof Category)
+            && isSelected(((Category)parentElement).getParent(), parentElement, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isCachingResults() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isRefinementMonotonic() {
+        // the names are matched against the query as a substring
+        return true;
+    }
 }
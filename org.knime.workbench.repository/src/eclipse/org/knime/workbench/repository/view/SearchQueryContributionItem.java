@@ -49,9 +49,10 @@
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.eclipse.jface.action.ControlContribution;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.jface.viewers.ITreeSelection;
@@ -95,7 +96,7 @@ class SearchQueryContributionItem extends ControlContribution implements KeyList
      * Delay for a triggered (by a key event) tree viewer update process before the actually update is performed.
      * This avoids unnecessary updates while typing the search query.
      */
-    private static final long DELAY = 150;
+    private static final int DELAY = 150;
 
 
     private final TreeViewer m_viewer;
@@ -113,16 +114,15 @@ class SearchQueryContributionItem extends ControlContribution implements KeyList
     private TreeItem[] m_treeItems;
 
     /**
-     * Flag that indicates whether the thread that delays
-     * the actual processing of the search query is running.
+     * Starts the search once the user stopped typing for {@link #DELAY} ms, rescheduled with every key event.
      */
-    private final AtomicBoolean m_isDelayThreadRunning = new AtomicBoolean(false);
+    private final Runnable m_delayedSearch = () -> startSearch();
 
     /**
-     * Flag that indicates whether the 'delay thread' should continue
-     * delaying the processing of the search query a bit further.
+     * The job computing the results of the most recent query in the background, <code>null</code> if there is none.
+     * Only accessed in the UI thread.
      */
-    private final AtomicBoolean m_continueDelay = new AtomicBoolean(true);
+    private RepositorySearchJob m_searchJob;
 
     /**
      * The listener to appropriately update the node repository view in reaction to search results.
@@ -282,38 +282,20 @@ public void keyReleased(final KeyEvent e) {
 
         m_lastKey = e.character;
 
-        if (!m_isDelayThreadRunning.getAndSet(true)) {
-            //if the thread to delay the actually
-            //processing of the search query is not running, start a new one
-            delayQueryProcessing();
-        } else {
-            //if delay thread is already running
-            //and a new key event arrives,
-            //just continue delaying the actual
-            //processing of the search query a bit further
-            m_continueDelay.set(true);
-        }
+        //the results of a running search are outdated
+        cancelSearch();
+        //(re)start delaying the processing of the search query
+        m_text.getDisplay().timerExec(DELAY, m_delayedSearch);
 
         //undo the selection of a node in the list since the search query probably has been changed
         m_viewer.setSelection(StructuredSelection.EMPTY);
     }
 
-    private void delayQueryProcessing() {
-        new Thread(new Runnable() {
-            @Override
-            public void run() {
-                //delay the processing a bit
-                try {
-                    while (m_continueDelay.getAndSet(false)) {
-                        Thread.sleep(DELAY);
-                    }
-                    //do the actual work in the UI thread
-                    Display.getDefault().asyncExec(() -> updateRepositoryTree());
-                } catch (InterruptedException ex) {
-                    // do nothing, just return
-                }
-            }
-        }).start();
+    private void cancelSearch() {
+        if (m_searchJob != null) {
+            m_searchJob.cancel();
+            m_searchJob = null;
+        }
     }
 
     /**
@@ -336,6 +318,7 @@ void setQueryChangedCallback(final Runnable c) {
      * @param filter the filter
      */
     void setFilter(final TextualViewFilter filter) {
+        cancelSearch();
         m_treeItems = null;
         m_filter = filter;
     }
@@ -383,12 +366,15 @@ static private void createNode(final Object o) {
         }
     }
 
-    private void updateRepositoryTree() {
-        m_continueDelay.set(true);
-        m_isDelayThreadRunning.set(false);
-
-        //clear the tree items since the search query possibly has been changed
-        m_treeItems = null;
+    /**
+     * Called in the UI thread once the user stopped typing. Matches the repository against the query in the background
+     * if the filter supports it, otherwise updates the tree right away.
+     */
+    private void startSearch() {
+        if (m_text.isDisposed()) {
+            return;
+        }
+        cancelSearch();
 
         boolean update = m_liveUpdate;
 
@@ -401,6 +387,44 @@ private void updateRepositoryTree() {
             searchString = m_text.getText();
         }
 
+        update = update || searchString.isEmpty();
+        if (!update || searchString.isEmpty() || !m_filter.isCachingResults()) {
+            updateRepositoryTree(searchString, null, update);
+            return;
+        }
+
+        final RepositorySearchJob job =
+            new RepositorySearchJob(m_filter.createSearchCopy(searchString), m_viewer.getInput(), searchString);
+        job.addJobChangeListener(new JobChangeAdapter() {
+            @Override
+            public void done(final IJobChangeEvent event) {
+                if (event.getResult().isOK()) {
+                    Display.getDefault().asyncExec(() -> {
+                        // only apply the results of the most recent query
+                        if ((m_searchJob == job) && !m_text.isDisposed()) {
+                            m_searchJob = null;
+                            updateRepositoryTree(job.getQuery(), job.getFilter(), true);
+                        }
+                    });
+                }
+            }
+        });
+        m_searchJob = job;
+        job.schedule();
+    }
+
+    /**
+     * Sets the query on the filter and updates the tree. Must be called in the UI thread.
+     *
+     * @param searchString the new query
+     * @param results a copy of the filter that holds the results for the query, <code>null</code> if not available
+     * @param update whether the tree should be updated
+     */
+    private void updateRepositoryTree(final String searchString, final TextualViewFilter results,
+        final boolean update) {
+        //clear the tree items since the search query possibly has been changed
+        m_treeItems = null;
+
         if (searchString.isEmpty()) {
             final DefaultRepositoryView repositoryView = getRepositoryView();
 
@@ -411,11 +435,13 @@ private void updateRepositoryTree() {
 
         //update the filter and inform the callback object
         m_filter.setQueryString(searchString);
+        if (results != null) {
+            m_filter.adoptResults(results);
+        }
         if (m_callback != null) {
             m_callback.run();
         }
 
-        update = update || searchString.isEmpty();
         //update the tree view itself
         TreeViewerUpdater.collapseAndUpdate(m_viewer, m_treeUpdateListener, update, searchString.isEmpty(),
             !searchString.isEmpty());
@@ -424,6 +450,15 @@ private void updateRepositoryTree() {
 
     private class TreeUpdateListener implements TreeViewerUpdater.UpdateListener {
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void treeDidExpand() {
+            //the leaves collected so far are incomplete
+            m_treeItems = null;
+        }
+
         /**
          * {@inheritDoc}
          */
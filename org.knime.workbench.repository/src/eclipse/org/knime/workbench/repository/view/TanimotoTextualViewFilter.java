@@ -46,166 +46,99 @@
 package org.knime.workbench.repository.view;
 
 import java.util.Comparator;
-import java.util.HashSet;
-import java.util.Set;
-
-import org.eclipse.jface.viewers.Viewer;
-import org.knime.workbench.repository.model.AbstractNodeTemplate;
-import org.knime.workbench.repository.model.Category;
-import org.knime.workbench.repository.model.IRepositoryObject;
-import org.knime.workbench.repository.model.MetaNodeTemplate;
+
 import org.knime.workbench.repository.model.Root;
+import org.knime.workbench.repository.util.BigramSearchIndex;
 
 /**
  * A filter for items which computes the tanimoto distance to a given query and filters all nodes which have a distance
- * greater or equal to UPPER_DISTANCE_BOUND=0.6.
+ * greater or equal to UPPER_DISTANCE_BOUND=0.6. The bigrams of all names in the repository are taken from a
+ * {@link BigramSearchIndex} that is built once for the viewer's input, so that matching and sorting do not need to
+ * analyze the names again for every query.
  *
  * @author Marcel Hanser, KNIME AG, Zurich, Switzerland
  */
-final class TanimotoTextualViewFilter extends TextualViewFilter {
+final class TanimotoTextualViewFilter extends RepositoryViewFilter {
     /**
      * Upper excluding bound of distances to a query a node may have to be labeled as a match.
      */
     private static final double UPPER_DISTANCE_BOUND = 0.85;
 
+    // the comparator may be used concurrently
+    private volatile BigramSearchIndex m_index = BigramSearchIndex.EMPTY;
+
+    private Root m_indexedRoot;
+
+    private boolean m_rebuildIndex;
+
+    private BigramSearchIndex.Entry m_analyzedQuery;
+
     /**
      * {@inheritDoc}
      */
     @Override
-    public boolean select(final Viewer viewer, final Object parentElement, final Object element) {
-
-        // this means that the filter has been cleared
-        if (!hasNonEmptyQuery()) {
-            return true;
-        }
-        // call helper method
-        return doSelect(parentElement, element, true);
+    public void setQueryString(final String query) {
+        super.setQueryString(query);
+        m_analyzedQuery = hasNonEmptyQuery() ? BigramSearchIndex.analyze(getQueryString()) : null;
+        // the repository has changed since the index was built, e.g. because it was still loading
+        m_rebuildIndex = m_index.hasMisses();
     }
 
     /**
-     * Copied from {@link TextualViewFilter}.
+     * Builds the search index if the viewer's input has changed or the current index is outdated.
      */
     @Override
-    protected boolean doSelect(final Object parentElement, final Object element, final boolean recurse) {
-        boolean selectThis = false;
-        // Node Template : Match against name
-        if (element instanceof AbstractNodeTemplate) {
-
-            // check against node name
-            selectThis = match(((AbstractNodeTemplate)element).getName());
-            if (element instanceof MetaNodeTemplate) {
-                // with meta nodes also check the name of the workflow manager
-                selectThis |= match(((MetaNodeTemplate)element).getManager().getName());
-            }
-            if (selectThis) {
-                return true;
-            }
-            // we must also check towards root, as we want to include all
-            // children of a selected category
-            IRepositoryObject temp = (IRepositoryObject)parentElement;
-            while (!(temp instanceof Root)) {
-
-                // check parent category, but do *not* recurse !!!!
-                if (doSelect(temp.getParent(), temp, false)) {
-                    return true;
-                }
-                temp = temp.getParent();
-            }
-        } else
-        // Category: Match against name and children
-        if (element instanceof Category) {
-            // check against node name
-            selectThis = match(((Category)element).getName());
-            if (selectThis) {
-                return true;
-            }
-
-            // check recursively against children, if needed
-            if (recurse) {
-                Category category = (Category)element;
-                IRepositoryObject[] children = category.getChildren();
-                for (int i = 0; i < children.length; i++) {
-                    // recursively check. return true on first matching child
-                    if (doSelect(category, children[i], true)) {
-                        return true;
-                    }
-
-                }
-            }
+    void prepare(final Object input) {
+        super.prepare(input);
+        if ((input instanceof Root) && ((input != m_indexedRoot) || m_rebuildIndex)) {
+            m_indexedRoot = (Root)input;
+            m_index = BigramSearchIndex.create(m_indexedRoot);
+            m_rebuildIndex = false;
         }
-
-        return false;
     }
 
     /**
-     * @param test String to test
-     * @return <code>true</code> if the test is contained in the m_query String (ignoring case)
+     * {@inheritDoc}
      */
     @Override
-    protected boolean match(final String test) {
-        if (test == null) {
-            return false;
-        }
-        boolean contains = test.toUpperCase().contains(getQueryString());
-        if (!contains) {
-            return computeTanimotoBiGramDistance(test, getQueryString()) < UPPER_DISTANCE_BOUND;
-        } else {
-            return true;
+    void adoptResults(final TextualViewFilter copy) {
+        super.adoptResults(copy);
+        TanimotoTextualViewFilter other = (TanimotoTextualViewFilter)copy;
+        if (other.m_indexedRoot != null) {
+            m_index = other.m_index;
+            m_indexedRoot = other.m_indexedRoot;
+            m_rebuildIndex = other.m_rebuildIndex;
         }
     }
 
-
     /**
-     * Copied from the Tanimoto BiGram distance from the distmatrix package.
+     * {@inheritDoc}
      */
-    private static double computeTanimotoBiGramDistance(final String textA, final String textB) {
-
-        String a = textA.toUpperCase();
-        String b = textB.toUpperCase();
-
-        Set<String> gramsA = split(a, 2);
-        Set<String> gramsB = split(b, 2);
-
-        int nominator = cardinalityOfIntersection(gramsA, gramsB);
-        int inAButNotInB = cardinalityOfRelativeComplement(gramsA, gramsB);
-        int inBButNotInA = cardinalityOfRelativeComplement(gramsB, gramsA);
-
-        double denominator = nominator + inAButNotInB + inBButNotInA;
-
-        if (denominator > 0) {
-            return 1.0 - nominator / denominator;
-        } else {
-            return 1.0;
-        }
-    }
-
-    private static int cardinalityOfIntersection(final Set<String> a, final Set<String> b) {
-        int toReturn = 0;
-        for (String gram : a) {
-            if (b.contains(gram)) {
-                toReturn++;
-            }
-        }
-        return toReturn;
+    @Override
+    boolean isShownAsList() {
+        return true;
     }
 
-    private static int cardinalityOfRelativeComplement(final Set<String> a, final Set<String> b) {
-        int toReturn = 0;
-        for (String gram : a) {
-            if (!b.contains(gram)) {
-                toReturn++;
-            }
-        }
-        return toReturn;
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isRefinementMonotonic() {
+        // extending the query may decrease its distance to a name
+        return false;
     }
 
-    private static Set<String> split(final String a, final int count) {
-        Set<String> toReturn = new HashSet<String>(a.length() > 1 ? a.length() - 1 : 12);
-
-        for (int i = 0; i < a.length() - count + 1; i++) {
-            toReturn.add(a.substring(i, i + count));
+    /**
+     * @param test String to test
+     * @return <code>true</code> if the test is contained in the m_query String (ignoring case)
+     */
+    @Override
+    protected boolean match(final String test) {
+        if (test == null) {
+            return false;
         }
-        return toReturn;
+        BigramSearchIndex.Entry entry = m_index.get(test);
+        return entry.contains(m_analyzedQuery) || (entry.distance(m_analyzedQuery) < UPPER_DISTANCE_BOUND);
     }
 
     /**
@@ -217,14 +150,16 @@ public Comparator<String> createComparator() {
         // Actually there seems to be a concurrent execution somewhere,
         // so i decided to use a thread safe implementation.
         if (hasNonEmptyQuery()) {
-            final String currentQuery = getQueryString();
+            final BigramSearchIndex.Entry currentQuery = m_analyzedQuery;
 
             return new Comparator<String>() {
 
                 @Override
                 public int compare(final String o1, final String o2) {
-                    double computeTanimotoBiGramDistanceO1 = computeTanimotoBiGramDistance(currentQuery, o1);
-                    double computeTanimotoBiGramDistanceO2 = computeTanimotoBiGramDistance(currentQuery, o2);
+                    // the index is (re-)built when the viewer is filtered, which happens before sorting
+                    BigramSearchIndex index = m_index;
+                    double computeTanimotoBiGramDistanceO1 = index.get(o1).distance(currentQuery);
+                    double computeTanimotoBiGramDistanceO2 = index.get(o2).distance(currentQuery);
                     return Double.compare(computeTanimotoBiGramDistanceO1, computeTanimotoBiGramDistanceO2);
                 }
             };
@@ -46,18 +46,39 @@
 package org.knime.workbench.repository.view;
 
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
 
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.jface.viewers.ViewerFilter;
+import org.knime.workbench.repository.model.IContainerObject;
+import org.knime.workbench.repository.model.IRepositoryObject;
+import org.knime.workbench.repository.model.Root;
 
 /**
  *
  * @author Dominik Morent, KNIME AG, Zurich, Switzerland
  *
  */
-public abstract class TextualViewFilter extends ViewerFilter {
+public abstract class TextualViewFilter extends ViewerFilter implements Cloneable {
     private String m_query;
 
+    /** Results of {@link #doSelect(Object, Object, boolean)} for the current query, only used if results are cached. */
+    private Map<Object, Boolean> m_results = new IdentityHashMap<Object, Boolean>();
+
+    private Map<Object, Boolean> m_nonRecursiveResults = new IdentityHashMap<Object, Boolean>();
+
+    /** Results for a previous query which the current query refines, <code>null</code> if there is none. */
+    private Map<Object, Boolean> m_previousResults;
+
+    private Map<Object, Boolean> m_previousNonRecursiveResults;
+
+    private Object m_cachedInput;
+
+    private long m_cachedModificationCount;
+
     /**
      * {@inheritDoc}
      */
@@ -69,8 +90,40 @@ public boolean select(final Viewer viewer, final Object parentElement,
         if (!hasNonEmptyQuery()) {
             return true;
         }
+        prepare((viewer == null) ? null : viewer.getInput());
         // call helper method
-        return doSelect(parentElement, element, true);
+        return isSelected(parentElement, element, true);
+    }
+
+    /**
+     * Determines if an element shall be selected or not. If results are cached (see {@link #isCachingResults()}), each
+     * element is checked by {@link #doSelect(Object, Object, boolean)} only once per query. Implementations of
+     * {@link #doSelect(Object, Object, boolean)} should call this method instead of themselves when checking parents or
+     * children of an element.
+     *
+     * @param parentElement the parent element
+     * @param element the element to check for selection
+     * @param recursive whether to recurse into elements or not
+     * @return <code>true</code> if the element should be selected
+     * @since 4.4
+     */
+    protected final boolean isSelected(final Object parentElement, final Object element, final boolean recursive) {
+        if (!isCachingResults()) {
+            return doSelect(parentElement, element, recursive);
+        }
+        Map<Object, Boolean> results = recursive ? m_results : m_nonRecursiveResults;
+        Boolean result = results.get(element);
+        if (result == null) {
+            Map<Object, Boolean> previousResults = recursive ? m_previousResults : m_previousNonRecursiveResults;
+            if ((previousResults != null) && Boolean.FALSE.equals(previousResults.get(element))) {
+                // the element did not match the previous query, hence it cannot match the refined query either
+                result = Boolean.FALSE;
+            } else {
+                result = Boolean.valueOf(doSelect(parentElement, element, recursive));
+            }
+            results.put(element, result);
+        }
+        return result.booleanValue();
     }
 
     /**
@@ -84,6 +137,154 @@ public boolean select(final Viewer viewer, final Object parentElement,
     protected abstract boolean doSelect(Object parentElement,
             Object element, boolean recursive) ;
 
+    /**
+     * Called before elements of a viewer are matched against the query. Discards cached results if the viewer's input
+     * has changed.
+     *
+     * @param input the input of the viewer whose elements are filtered, may be <code>null</code>
+     */
+    void prepare(final Object input) {
+        if (!isCachingResults()) {
+            return;
+        }
+        // the cached results are only valid as long as the repository does not change
+        long modificationCount = (input instanceof Root) ? ((Root)input).getModificationCount() : -1;
+        if ((input != m_cachedInput) || (modificationCount != m_cachedModificationCount)) {
+            m_cachedInput = input;
+            m_cachedModificationCount = modificationCount;
+            clearResults(false);
+        }
+    }
+
+    /**
+     * Returns whether the results of {@link #doSelect(Object, Object, boolean)} only depend on the query and the
+     * element, so that they can be cached until the query or the viewer's input changes. The default implementation
+     * returns <code>false</code>.
+     *
+     * @return <code>true</code> if results can be cached, <code>false</code> otherwise
+     * @since 4.4
+     */
+    protected boolean isCachingResults() {
+        return false;
+    }
+
+    /**
+     * Returns whether a query that contains the previous query can only select elements that have been selected by the
+     * previous query. This allows to skip all elements that have been rejected before when the user types more
+     * characters. Only used if results are cached. The default implementation returns <code>false</code>.
+     *
+     * @return <code>true</code> if refining the query can only reduce the selected elements
+     * @since 4.4
+     */
+    protected boolean isRefinementMonotonic() {
+        return false;
+    }
+
+    private void clearResults(final boolean keepAsPrevious) {
+        if (keepAsPrevious) {
+            m_previousResults = m_results;
+            m_previousNonRecursiveResults = m_nonRecursiveResults;
+            m_results = new IdentityHashMap<Object, Boolean>();
+            m_nonRecursiveResults = new IdentityHashMap<Object, Boolean>();
+        } else {
+            m_previousResults = null;
+            m_previousNonRecursiveResults = null;
+            m_results.clear();
+            m_nonRecursiveResults.clear();
+        }
+    }
+
+    /**
+     * Creates a copy of this filter with the given query that can be used to compute the results on a background
+     * thread by {@link #precompute(Object, IProgressMonitor)}. Results cached by this filter are passed on to the copy
+     * if the new query refines the current one. Must be called on the thread that uses this filter.
+     *
+     * @param query the query of the copy
+     * @return a new filter
+     */
+    TextualViewFilter createSearchCopy(final String query) {
+        final TextualViewFilter copy;
+        try {
+            copy = (TextualViewFilter)clone();
+        } catch (CloneNotSupportedException ex) {
+            throw new IllegalStateException(ex);
+        }
+        copy.m_results = new IdentityHashMap<Object, Boolean>(m_results);
+        copy.m_nonRecursiveResults = new IdentityHashMap<Object, Boolean>(m_nonRecursiveResults);
+        copy.m_previousResults = null;
+        copy.m_previousNonRecursiveResults = null;
+        copy.setQueryString(query);
+        return copy;
+    }
+
+    /**
+     * Matches all elements below the given input that a viewer showing the input would ask this filter for, so that
+     * the results are cached afterwards. Does nothing if results are not cached.
+     *
+     * @param input the repository root
+     * @param monitor a monitor for cancellation
+     * @return <code>false</code> if the computation has been canceled, <code>true</code> otherwise
+     */
+    boolean precompute(final Object input, final IProgressMonitor monitor) {
+        if (!hasNonEmptyQuery() || !isCachingResults()) {
+            return true;
+        }
+        prepare(input);
+        return precompute(input, input, monitor);
+    }
+
+    private boolean precompute(final Object input, final Object parent, final IProgressMonitor monitor) {
+        if (!(parent instanceof IContainerObject)) {
+            return true;
+        }
+        // getChildren returns a copy, hence the tree may be changed concurrently
+        for (IRepositoryObject child : ((IContainerObject)parent).getChildren()) {
+            if (monitor.isCanceled()) {
+                return false;
+            }
+            if (isShownAsList()) {
+                // all nodes are shown as direct children of the input
+                if (!(child instanceof IContainerObject)) {
+                    isSelected(input, child, true);
+                } else if (!precompute(input, child, monitor)) {
+                    return false;
+                }
+            } else if (isSelected(parent, child, true) && !precompute(input, child, monitor)) {
+                // children of filtered categories are never shown
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Takes over the results that the given copy of this filter has computed in the background. They are only used if
+     * the copy's query is equal to the current query of this filter.
+     *
+     * @param copy a filter created by {@link #createSearchCopy(String)}
+     */
+    void adoptResults(final TextualViewFilter copy) {
+        if (isCachingResults() && Objects.equals(m_query, copy.m_query)) {
+            m_results = copy.m_results;
+            m_nonRecursiveResults = copy.m_nonRecursiveResults;
+            m_previousResults = copy.m_previousResults;
+            m_previousNonRecursiveResults = copy.m_previousNonRecursiveResults;
+            m_cachedInput = copy.m_cachedInput;
+            m_cachedModificationCount = copy.m_cachedModificationCount;
+        }
+    }
+
+    /**
+     * Returns whether the viewer shows all nodes as a flat list without their categories while this filter has a
+     * non-empty query (see {@link ListRepositoryContentProvider}). The default implementation returns
+     * <code>false</code>.
+     *
+     * @return <code>true</code> if the elements are shown as a list
+     */
+    boolean isShownAsList() {
+        return false;
+    }
+
     /**
      *
      * @param test String to test
@@ -103,11 +304,17 @@ protected boolean match(final String test) {
      * @param query The query string
      */
     public void setQueryString(final String query) {
+        String previousQuery = m_query;
         if (query != null) {
             m_query = query.toUpperCase();
         } else {
             m_query = null;
         }
+        if (isCachingResults() && !Objects.equals(previousQuery, m_query)) {
+            // results for the previous query remain useful if the new query only extends it
+            clearResults(isRefinementMonotonic() && (previousQuery != null) && (previousQuery.length() > 0)
+                && (m_query != null) && m_query.contains(previousQuery));
+        }
     }
 
     /**
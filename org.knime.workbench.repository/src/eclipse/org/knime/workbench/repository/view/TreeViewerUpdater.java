@@ -48,10 +48,14 @@
  */
 package org.knime.workbench.repository.view;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.jface.viewers.TreeViewer;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.TreeItem;
 
@@ -65,6 +69,15 @@
 class TreeViewerUpdater {
     private static final boolean IS_OS_WINDOWS = Platform.OS_WIN32.equals(Platform.getOS());
 
+    /**
+     * Maximum number of tree items that are expanded before control is given back to the event loop when expanding the
+     * tree after an update.
+     */
+    private static final int EXPANSIONS_PER_TICK = 100;
+
+    /** Key of the control's data holding the currently running expansion. */
+    private static final String EXPANSION_KEY = TreeViewerUpdater.class.getName() + ".expansion";
+
     /**
      * Consumers of the <code>collapseAndUpdate(TreeViewer, UpdateListener, boolean, boolean, boolean)</code> method may
      * choose to implement this and pass an instance of the implementor to that method in order to be notified when the
@@ -77,6 +90,14 @@ public interface UpdateListener {
          * @param treeItemCount the count of items in the tree being visually updated.
          */
         void treeDidUpdate (final int treeItemCount);
+
+        /**
+         * This notification will be delivered on the SWT thread once the tree has been expanded completely. The
+         * default implementation does nothing.
+         */
+        default void treeDidExpand() {
+            // nothing to do by default
+        }
     }
 
 
@@ -93,6 +114,7 @@ static void update(final TreeViewer viewer, final boolean shouldExpand, final bo
 
         viewer.getControl().setRedraw(false);
         try {
+            viewer.getControl().setData(EXPANSION_KEY, null);
             viewer.refresh();
             if (shouldExpand) {
                 viewer.expandAll();
@@ -129,6 +151,10 @@ static void collapseAndUpdate(final TreeViewer viewer, final TreeViewerUpdater.U
         viewer.getControl().setRedraw(false);
 
         try {
+            if (collapse || update) {
+                // stop a running expansion, it would counteract the collapse and its items may be disposed
+                viewer.getControl().setData(EXPANSION_KEY, null);
+            }
             if (collapse) {
                 viewer.collapseAll();
             }
@@ -136,10 +162,6 @@ static void collapseAndUpdate(final TreeViewer viewer, final TreeViewerUpdater.U
             if (update) {
                 viewer.refresh();
 
-                if (shouldExpand) {
-                    viewer.expandAll();
-                }
-
                 final int itemCount = viewer.getTree().getItemCount();
                 if (itemCount > 0) {
                     TreeItem item = viewer.getTree().getItem(0);
@@ -151,6 +173,13 @@ static void collapseAndUpdate(final TreeViewer viewer, final TreeViewerUpdater.U
                 if (updateListener != null) {
                     updateListener.treeDidUpdate(itemCount);
                 }
+
+                if (shouldExpand) {
+                    // expanding a large tree at once blocks the UI, hence it is done in several steps
+                    Expansion expansion = new Expansion(viewer, updateListener);
+                    viewer.getControl().setData(EXPANSION_KEY, expansion);
+                    expansion.run();
+                }
             }
         } finally {
             if (backup != null) {
@@ -160,4 +189,64 @@ static void collapseAndUpdate(final TreeViewer viewer, final TreeViewerUpdater.U
             viewer.getControl().setRedraw(true);
         }
     }
+
+    /**
+     * Expands all items of a tree, at most {@link TreeViewerUpdater#EXPANSIONS_PER_TICK} items at a time. The
+     * expansion stops as soon as another update of the tree has been started.
+     */
+    private static final class Expansion implements Runnable {
+        private final TreeViewer m_viewer;
+
+        private final UpdateListener m_updateListener;
+
+        private final Deque<TreeItem> m_pending = new ArrayDeque<TreeItem>();
+
+        Expansion(final TreeViewer viewer, final UpdateListener updateListener) {
+            m_viewer = viewer;
+            m_updateListener = updateListener;
+            addCollapsedChildren(viewer.getTree().getItems());
+        }
+
+        private void addCollapsedChildren(final TreeItem[] items) {
+            for (TreeItem item : items) {
+                // items that can be expanded have at least a dummy child
+                if (item.getItemCount() > 0) {
+                    m_pending.add(item);
+                }
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void run() {
+            final Control control = m_viewer.getControl();
+            if (control.isDisposed() || (control.getData(EXPANSION_KEY) != this)) {
+                return;
+            }
+            control.setRedraw(false);
+            try {
+                int expanded = 0;
+                while (!m_pending.isEmpty() && (expanded < EXPANSIONS_PER_TICK)) {
+                    TreeItem item = m_pending.poll();
+                    if (!item.isDisposed()) {
+                        m_viewer.setExpandedState(item.getData(), true);
+                        addCollapsedChildren(item.getItems());
+                        expanded++;
+                    }
+                }
+            } finally {
+                control.setRedraw(true);
+            }
+            if (!m_pending.isEmpty()) {
+                control.getDisplay().asyncExec(this);
+            } else {
+                control.setData(EXPANSION_KEY, null);
+                if (m_updateListener != null) {
+                    m_updateListener.treeDidExpand();
+                }
+            }
+        }
+    }
 }
@@ -244,12 +244,8 @@ private void saveFavoriteNodes(final XMLMemento memento) {
             IMemento item = favNodes.createChild(TAG_FAVORITE);
             item.putString(TAG_NODE_ID, ((NodeTemplate)reposObj).getID());
         }
-        // most frequent
-        IMemento freqNodes = memento.createChild(TAG_MOST_FREQUENT);
-        NodeUsageRegistry.saveFrequentNodes(freqNodes);
-        // last used
-        IMemento lastUsedNodes = memento.createChild(TAG_LAST_USED);
-        NodeUsageRegistry.saveLastUsedNodes(lastUsedNodes);
+        // most frequent and last used are stored in the compact history file of the registry
+        NodeUsageRegistry.saveHistory();
     }
 
     private File getFavoriteNodesFile() {
@@ -257,13 +253,15 @@ private File getFavoriteNodesFile() {
     }
 
     private void loadFavorites() {
+        boolean historyLoaded = NodeUsageRegistry.loadHistory();
         // load the personal favorites
         Reader reader = null;
         try {
             reader = new InputStreamReader(new FileInputStream(getFavoriteNodesFile()), Charset.forName("UTF-8"));
-            loadFavoriteNodes(XMLMemento.createReadRoot(reader));
+            loadFavoriteNodes(XMLMemento.createReadRoot(reader), historyLoaded);
         } catch (FileNotFoundException fnf) {
             // no favorites saved
+            updateNodes();
         } catch (Exception e) {
             LOGGER.error("Failed to load favorite nodes file", e);
         } finally {
@@ -277,7 +275,7 @@ private void loadFavorites() {
         }
     }
 
-    private void loadFavoriteNodes(final XMLMemento favoriteNodes) {
+    private void loadFavoriteNodes(final XMLMemento favoriteNodes, final boolean historyLoaded) {
         IMemento favNodes = favoriteNodes.getChild(TAG_PERSONAL_FAVS);
         for (IMemento favNode : favNodes.getChildren(TAG_FAVORITE)) {
             String id = favNode.getString(TAG_NODE_ID);
@@ -286,10 +284,17 @@ private void loadFavoriteNodes(final XMLMemento favoriteNodes) {
                 addFavoriteNode(node);
             }
         }
-        IMemento freqNodes = favoriteNodes.getChild(TAG_MOST_FREQUENT);
-        NodeUsageRegistry.loadFrequentNodes(freqNodes);
-        IMemento lastNodes = favoriteNodes.getChild(TAG_LAST_USED);
-        NodeUsageRegistry.loadLastUsedNodes(lastNodes);
+        if (!historyLoaded) {
+            // favorites file written by an older version
+            IMemento freqNodes = favoriteNodes.getChild(TAG_MOST_FREQUENT);
+            if (freqNodes != null) {
+                NodeUsageRegistry.loadFrequentNodes(freqNodes);
+            }
+            IMemento lastNodes = favoriteNodes.getChild(TAG_LAST_USED);
+            if (lastNodes != null) {
+                NodeUsageRegistry.loadLastUsedNodes(lastNodes);
+            }
+        }
         updateNodes();
     }
 
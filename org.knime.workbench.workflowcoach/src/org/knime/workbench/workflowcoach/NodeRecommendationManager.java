@@ -49,15 +49,12 @@
 package org.knime.workbench.workflowcoach;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
-import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
@@ -106,8 +103,6 @@ public interface IUpdateListener {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(NodeRecommendationManager.class);
 
-    private static final String SOURCE_NODES_KEY = "<source_nodes>";
-
     private static final String NODE_NAME_SEP = "#";
 
     private static final String TRIPLE_PROVIDER_EXTENSION_POINT_ID = "org.knime.workbench.workflowcoach.nodetriples";
@@ -116,7 +111,7 @@ public interface IUpdateListener {
 
     private final List<IUpdateListener> m_listeners = new ArrayList<>(1);
 
-    private List<Map<String, List<NodeRecommendation>>> m_recommendations;
+    private volatile NodeRecommendationStore m_recommendations;
 
 
     static {
@@ -179,63 +174,49 @@ public void removeUpdateListener(final IUpdateListener listener) {
     public void loadRecommendations() throws Exception {
         //read from multiple frequency sources
         List<NodeTripleProvider> providers = getNodeTripleProviders();
-        List<Map<String, List<NodeRecommendation>>> recommendations = new ArrayList<>(providers.size());
+        NodeRecommendationStore.Builder builder = new NodeRecommendationStore.Builder();
 
         for (NodeTripleProvider provider : providers) {
             if (provider.isEnabled() && !updateRequired(provider)) {
-                Map<String, List<NodeRecommendation>> recommendationMap = new HashMap<>();
-                recommendations.add(recommendationMap);
-
-                provider.getNodeTriples().forEach(nf -> fillRecommendationsMap(recommendationMap, nf));
-
-                //aggregate multiple occurring id's
-                //but apply a different aggregation method to source nodes
-                BiConsumer<NodeRecommendation, NodeRecommendation> avgAggr = (np1, np2) -> {
-                    np1.increaseFrequency(np2.getFrequency(), 1);
-                };
-                BiConsumer<NodeRecommendation, NodeRecommendation> sumAggr = (np1, np2) -> {
-                    np1.increaseFrequency(np2.getFrequency(), 0);
-                };
-                recommendationMap.keySet().stream().forEach(s -> {
-                    if (s.equals(SOURCE_NODES_KEY)) {
-                        aggregate(recommendationMap.get(s), sumAggr);
-                    } else {
-                        aggregate(recommendationMap.get(s), avgAggr);
-                    }
-                });
+                //multiple occurring id's are aggregated by the builder
+                //but a different aggregation method is applied to source nodes
+                builder.startTable();
+                try (Stream<NodeTriple> triples = provider.getNodeTriples()) {
+                    triples.forEach(nf -> fillRecommendations(builder, nf));
+                }
             }
         } //end for
 
-        m_recommendations = recommendations;
+        m_recommendations = builder.build();
         m_listeners.stream().forEach(l -> l.updated());
     }
 
-    private static void fillRecommendationsMap(final Map<String, List<NodeRecommendation>> recommendationMap,
-        final NodeTriple nf) {
+    private static void fillRecommendations(final NodeRecommendationStore.Builder builder, final NodeTriple nf) {
         /* considering the successor only, i.e. for all entries where the predecessor and the node
          * itself is not present
          */
         if (!nf.getNode().isPresent() && !nf.getPredecessor().isPresent() && isSourceNode(nf.getSuccessor())) {
-            add(recommendationMap, SOURCE_NODES_KEY, nf.getSuccessor(), nf.getCount());
+            add(builder, NodeRecommendationStore.SOURCE_NODES_KEY, nf.getSuccessor(), nf.getCount());
         }
 
         /* considering the the node itself as successor, but only for those nodes that don't have a
          * predecessor -> source nodes, i.e. nodes without an input port
          */
         if (!nf.getPredecessor().isPresent() && nf.getNode().isPresent() && isSourceNode(nf.getNode().get())) {
-            add(recommendationMap, SOURCE_NODES_KEY, nf.getNode().get(), nf.getCount());
+            add(builder, NodeRecommendationStore.SOURCE_NODES_KEY, nf.getNode().get(), nf.getCount());
         }
 
         /* without predecessor but with the node, if given*/
         if (nf.getNode().isPresent()) {
-            add(recommendationMap, getKey(nf.getNode().get()), nf.getSuccessor(), nf.getCount());
+            add(builder,
+                NodeRecommendationStore.key(NodeRecommendationStore.NONE, internNode(builder, nf.getNode().get())),
+                nf.getSuccessor(), nf.getCount());
         }
 
         /* considering predecessor, if given */
         if (nf.getPredecessor().isPresent() && nf.getNode().isPresent()) {
-            add(recommendationMap,
-                getKey(nf.getPredecessor().get()) + NODE_NAME_SEP + getKey(nf.getNode().get()),
-                nf.getSuccessor(), nf.getCount());
+            add(builder, NodeRecommendationStore.key(internNode(builder, nf.getPredecessor().get()),
+                internNode(builder, nf.getNode().get())), nf.getSuccessor(), nf.getCount());
         }
     }
 
@@ -261,18 +242,20 @@ private static boolean updateRequired(final NodeTripleProvider ntp) {
     }
 
     /**
-     * Adds a new node recommendation to the map.
+     * Adds a new node recommendation to the store.
      */
-    private static void add(final Map<String, List<NodeRecommendation>> recommendation, final String key,
-        final NodeInfo ni, final int count) {
-        List<NodeRecommendation> p = recommendation.computeIfAbsent(key, k -> new ArrayList<>());
-        //create the new node recommendation
+    private static void add(final NodeRecommendationStore.Builder builder, final long key, final NodeInfo ni,
+        final int count) {
         NodeTemplate nt = findNodeTemplate(ni);
         if (nt != null) {
-            p.add(new NodeRecommendation(nt, count));
+            builder.add(key, nt, count);
         }
     }
 
+    private static int internNode(final NodeRecommendationStore.Builder builder, final NodeInfo ni) {
+        return builder.internNode(ni.getFactory(), ni.getName());
+    }
+
     private static NodeTemplate findNodeTemplate(final NodeInfo ni) {
         NodeTemplate nt = RepositoryManager.INSTANCE.getNodeTemplate(ni.getFactory());
         if (nt == null) {
@@ -283,30 +266,6 @@ private static NodeTemplate findNodeTemplate(final NodeInfo ni) {
         return nt;
     }
 
-    /**
-     * Aggregates multiple occurring id's and takes the mean of the frequencies
-     *
-     * @param l the list is manipulated directly
-     * @param aggregationOperation the operation that aggregates the frequency of two node recommendations - important:
-     *            only the first node recommendation-object must be manipulated
-     */
-    private static void aggregate(final List<NodeRecommendation> l,
-        final BiConsumer<NodeRecommendation, NodeRecommendation> aggregationOperation) {
-        Map<String, NodeRecommendation> aggregates = new HashMap<>();
-
-        for (NodeRecommendation np : l) {
-            if (aggregates.containsKey(np.toString())) {
-                //aggregate
-                NodeRecommendation np2 = aggregates.get(np.toString());
-                aggregationOperation.accept(np2, np);
-            } else {
-                aggregates.put(np.toString(), np);
-            }
-        }
-        l.clear();
-        l.addAll(aggregates.values());
-    }
-
     /**
      * Determines lists of node recommendation based on the given nodes (e.g. that are selected in the workflow editor).
      * The {@link NodeRecommendation}s are determined based on the statistics of {@link NodeTriple}s (i.e. predecessor,
@@ -335,72 +294,98 @@ private static void aggregate(final List<NodeRecommendation> l,
      *         node statistics!
      */
     public List<NodeRecommendation>[] getNodeRecommendationFor(final NativeNodeContainerUI... nnc) {
-        if (m_recommendations == null) {
+        NodeRecommendationStore store = m_recommendations;
+        if (store == null) {
             return null;
         }
-        @SuppressWarnings("unchecked")
-        List<NodeRecommendation>[] res = new List[m_recommendations.size()];
-        for (int idx = 0; idx < res.length; idx++) {
-            if (nnc.length == 0) {
-                //recommendations if no node is given -> source nodes are recommended
-                res[idx] = m_recommendations.get(idx).get(SOURCE_NODES_KEY);
-                if (res[idx] == null) {
-                    res[idx] = Collections.emptyList();
-                }
-            } else if (nnc.length == 1) {
-                String nodeID = getKey(nnc[0]);
-                Set<NodeRecommendation> set = new HashSet<NodeRecommendationManager.NodeRecommendation>();
-
-                /* recommendations based on the given node and possible predecessors */
-                for (int i = 0; i < nnc[0].getNrInPorts(); i++) {
-                    ConnectionContainerUI cc = nnc[0].getParent().getIncomingConnectionFor(nnc[0].getID(), i);
-                    if (cc != null) {
-                        //only take the predecessor if its not leaving the workflow (e.g. the actual predecessor is outside of a metanode)
-                        if (cc.getType() != ConnectionType.WFMIN) {
-                            NodeContainerUI predecessor = nnc[0].getParent().getNodeContainer(cc.getSource());
-                            if (predecessor instanceof NativeNodeContainerUI) {
-                                List<NodeRecommendation> l = m_recommendations.get(idx)
-                                    .get(getKey((NativeNodeContainerUI)predecessor) + NODE_NAME_SEP + getKey(nnc[0]));
-                                if (l != null) {
-                                    set.addAll(l);
-                                }
-                            }
-                        }
-                    }
-                }
+        if (nnc.length > 1) {
+            throw new UnsupportedOperationException("Recommendations for more than one node are not supported, yet.");
+        }
 
-                /* recommendation based on the given node only */
-                List<NodeRecommendation> p1 = m_recommendations.get(idx).get(nodeID);
-                if (p1 != null) {
-                    set.addAll(p1);
-                }
+        long[] keys;
+        int nodeID = NodeRecommendationStore.NONE;
+        if (nnc.length == 0) {
+            //recommendations if no node is given -> source nodes are recommended
+            keys = new long[]{NodeRecommendationStore.SOURCE_NODES_KEY};
+        } else {
+            nodeID = store.getNodeID(nnc[0].getNodeFactoryClassName(), nnc[0].getName());
+            keys = (nodeID == NodeRecommendationStore.NONE) ? new long[0] : getKeys(store, nnc[0], nodeID);
+        }
 
-                //add to the result list
-                res[idx] = new ArrayList<NodeRecommendationManager.NodeRecommendation>(set.size());
-                res[idx].addAll(set);
-            } else {
-                throw new UnsupportedOperationException(
-                    "Recommendations for more than one node are not supported, yet.");
+        @SuppressWarnings("unchecked")
+        List<NodeRecommendation>[] res = new List[store.getNumTables()];
+        synchronized (store) {
+            for (int idx = 0; idx < res.length; idx++) {
+                res[idx] = getRecommendations(store, idx, keys, nodeID);
             }
+        }
+        return res;
+    }
 
-            /* post-process result */
-            Collections.sort(res[idx]);
-            if (nnc.length == 1) {
-                //remove the node, the recommendations have bee requested for, from the list
-                //in order to match the nodes [NodeFactory]#[NodeName] needs to be compared, otherwise it won't work with dynamically generated nodes
-                res[idx] = res[idx].stream().filter(nr -> !getKey(nr.getNodeTemplate()).equals(getKey(nnc[0])))
-                    .collect(Collectors.toList());
+    /**
+     * Determines the keys for the recommendations based on the given node and its possible predecessors, followed by
+     * the key for the recommendations based on the given node only.
+     */
+    private static long[] getKeys(final NodeRecommendationStore store, final NativeNodeContainerUI nnc,
+        final int nodeID) {
+        long[] keys = new long[nnc.getNrInPorts() + 1];
+        int n = 0;
+        for (int i = 0; i < nnc.getNrInPorts(); i++) {
+            ConnectionContainerUI cc = nnc.getParent().getIncomingConnectionFor(nnc.getID(), i);
+            //only take the predecessor if its not leaving the workflow (e.g. the actual predecessor is outside of a metanode)
+            if ((cc != null) && (cc.getType() != ConnectionType.WFMIN)) {
+                NodeContainerUI predecessor = nnc.getParent().getNodeContainer(cc.getSource());
+                if (predecessor instanceof NativeNodeContainerUI) {
+                    int predecessorID = store.getNodeID(
+                        ((NativeNodeContainerUI)predecessor).getNodeFactoryClassName(), predecessor.getName());
+                    if (predecessorID != NodeRecommendationStore.NONE) {
+                        keys[n++] = NodeRecommendationStore.key(predecessorID, nodeID);
+                    }
+                }
             }
+        }
+        keys[n++] = NodeRecommendationStore.key(NodeRecommendationStore.NONE, nodeID);
+        return (n == keys.length) ? keys : Arrays.copyOf(keys, n);
+    }
 
-            //update the total frequencies
-            int tmpFreqs = 0;
-            for (NodeRecommendation np : res[idx]) {
-                tmpFreqs += np.getFrequency();
+    /**
+     * Collects the recommendations of one provider for the given keys. Duplicate recommendations are resolved by
+     * keeping the first occurrence, the node the recommendations have been requested for is removed. Must be called
+     * while holding the store's lock.
+     */
+    private static List<NodeRecommendation> getRecommendations(final NodeRecommendationStore store, final int table,
+        final long[] keys, final int nodeID) {
+        int stamp = store.newLookup();
+        List<NodeRecommendation> res = new ArrayList<>();
+        int nonEmpty = 0;
+        for (long key : keys) {
+            NodeRecommendationStore.Recommendations recs = store.get(table, key);
+            if (recs == null) {
+                continue;
             }
-            for (NodeRecommendation np : res[idx]) {
-                np.setTotalFrequency(tmpFreqs);
+            nonEmpty++;
+            for (int i = 0; i < recs.size(); i++) {
+                int templateID = recs.getTemplateID(i);
+                //in order to match the nodes [NodeFactory]#[NodeName] needs to be compared, otherwise it won't work
+                //with dynamically generated nodes
+                if (store.markSeen(templateID, stamp) && (store.getNodeIDOfTemplate(templateID) != nodeID)) {
+                    res.add(new NodeRecommendation(store.getTemplate(templateID), recs.getFrequency(i)));
+                }
             }
         }
+        if (nonEmpty > 1) {
+            //each list is already sorted, only merged lists need to be sorted again
+            Collections.sort(res);
+        }
+
+        //update the total frequencies
+        int totalFrequency = 0;
+        for (NodeRecommendation np : res) {
+            totalFrequency += np.getFrequency();
+        }
+        for (NodeRecommendation np : res) {
+            np.setTotalFrequency(totalFrequency);
+        }
         return res;
     }
 
@@ -410,38 +395,22 @@ public List<NodeRecommendation>[] getNodeRecommendationFor(final NativeNodeConta
      * @return the number of loaded providers
      */
     public int getNumLoadedProviders() {
-        if (m_recommendations == null) {
+        NodeRecommendationStore store = m_recommendations;
+        if (store == null) {
             return 0;
         } else {
-            return m_recommendations.size();
+            return store.getNumTables();
         }
     }
 
-    /**
-     * @param nnc the native node container to create the key for
-     * @return the key to be used to look up the node recommendations
-     */
-    private static String getKey(final NativeNodeContainerUI nnc) {
-        return nnc.getNodeFactoryClassName() + NODE_NAME_SEP + nnc.getName();
-    }
-
     /**
      * @param nt the node info to create the key for
-     * @return the key to be used to look up the node recommendations
+     * @return the key to be used to look up dynamically generated node templates
      */
     private static String getKey(final NodeInfo ni) {
         return ni.getFactory() + NODE_NAME_SEP + ni.getName();
     }
 
-    /**
-     * @param nt the node template to create the key for
-     * @return the key to be used to look up the node recommendations and to filter the recommendations for the same
-     *         node they were requested for
-     */
-    private static String getKey(final NodeTemplate nt) {
-        return nt.getFactory().getName() + NODE_NAME_SEP + nt.getName();
-    }
-
     /**
      * Object representing one node recommendation, including the node template itself and a frequency as a measure of a
      * certainty for the given recommendation.
@@ -449,14 +418,12 @@ private static String getKey(final NodeTemplate nt) {
      * @author Martin Horn, University of Konstanz
      */
     public static class NodeRecommendation implements Comparable<NodeRecommendation> {
-        private int m_frequency;
+        private final int m_frequency;
 
         private final NodeTemplate m_node;
 
         private int m_totalFrequency;
 
-        private int m_num = 1;
-
         /**
          * Creates a new node recommendation for the given node.
          *
@@ -476,7 +443,7 @@ public static class NodeRecommendation implements Comparable<NodeRecommendation>
          * @return the frequency
          */
         public int getFrequency() {
-            return (int)Math.round(m_frequency / (double)m_num);
+            return m_frequency;
         }
 
         /**
@@ -497,22 +464,6 @@ private void setTotalFrequency(final int frequency) {
             m_totalFrequency = frequency;
         }
 
-        /**
-         * Increases the frequency by the given amount. Needed in order to aggregate frequencies of node recommendations
-         * that recommend the same node (e.g. if the selected node only is taken into account and the predecessor
-         * ignored). See {@link NodeRecommendationManager#aggregate(List)}.
-         *
-         * @param freqIncrease the amount of how much to increase the frequency
-         * @param countIncrease the amount the count should be increased by which the frequency is in the end divided by
-         *            when calling the {@link #getFrequency()}-method. If 1 is passed with every frequency increase, the
-         *            mean is essentially taken when finally calling {@link #getFrequency()}. If 0 is passed every time,
-         *            {@link #getFrequency()} will return sum of all frequencies provided here.
-         */
-        private void increaseFrequency(final int freqIncrease, final int countIncrease) {
-            m_frequency += freqIncrease;
-            m_num += countIncrease;
-        }
-
         /**
          * Returns the recommended node as {@link NodeTemplate}.
          *
@@ -0,0 +1,382 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026: created
+ */
+package org.knime.workbench.workflowcoach;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.knime.workbench.repository.model.NodeTemplate;
+
+/**
+ * Compact in-memory representation of the node recommendations of all node triple providers. Nodes (identified by
+ * factory class name and node name) and recommended node templates are interned to <code>int</code> IDs. For each
+ * provider, the recommendations for a (predecessor, node) pair, for a node alone and for source nodes are stored under
+ * a packed <code>long</code> key in a primitive open-addressing hash map. Each entry holds the recommended templates
+ * sorted by descending, already aggregated frequency, so that a lookup does not need to allocate anything apart from
+ * the result.
+ *
+ * <p>
+ * Instances are immutable apart from the scratch space used to detect duplicate recommendations, hence lookups must
+ * synchronize on the store (see {@link #markSeen(int, int)}).
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class NodeRecommendationStore {
+    /** ID used for a missing predecessor or node. */
+    static final int NONE = -1;
+
+    /** Key for the recommendations of source nodes, i.e. nodes without predecessor. */
+    static final long SOURCE_NODES_KEY = key(NONE, NONE);
+
+    /**
+     * The recommendations for one key, sorted by descending frequency.
+     */
+    static final class Recommendations {
+        private final int[] m_templateIDs;
+
+        private final int[] m_frequencies;
+
+        private Recommendations(final int[] templateIDs, final int[] frequencies) {
+            m_templateIDs = templateIDs;
+            m_frequencies = frequencies;
+        }
+
+        /**
+         * @return the number of recommended templates
+         */
+        int size() {
+            return m_templateIDs.length;
+        }
+
+        /**
+         * @param index an index between 0 and {@link #size()}
+         * @return the ID of the recommended template at the given position
+         */
+        int getTemplateID(final int index) {
+            return m_templateIDs[index];
+        }
+
+        /**
+         * @param index an index between 0 and {@link #size()}
+         * @return the aggregated frequency of the recommended template at the given position
+         */
+        int getFrequency(final int index) {
+            return m_frequencies[index];
+        }
+    }
+
+    private final Map<String, Map<String, Integer>> m_nodeIDs;
+
+    private final NodeTemplate[] m_templates;
+
+    private final int[] m_templateNodeIDs;
+
+    private final LongObjectMap<Recommendations>[] m_tables;
+
+    private final int[] m_seen;
+
+    private int m_stamp;
+
+    private NodeRecommendationStore(final Map<String, Map<String, Integer>> nodeIDs, final NodeTemplate[] templates,
+        final int[] templateNodeIDs, final LongObjectMap<Recommendations>[] tables) {
+        m_nodeIDs = nodeIDs;
+        m_templates = templates;
+        m_templateNodeIDs = templateNodeIDs;
+        m_tables = tables;
+        m_seen = new int[templates.length];
+    }
+
+    /**
+     * Packs a predecessor and a node ID into a single key.
+     *
+     * @param predecessorID the predecessor's ID or {@link #NONE}
+     * @param nodeID the node's ID or {@link #NONE}
+     * @return the key
+     */
+    static long key(final int predecessorID, final int nodeID) {
+        return ((long)predecessorID << 32) | (nodeID & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @return the number of providers whose recommendations are stored
+     */
+    int getNumTables() {
+        return m_tables.length;
+    }
+
+    /**
+     * Returns the ID of the node with the given factory and name.
+     *
+     * @param factoryClassName the node factory's class name
+     * @param nodeName the node's name
+     * @return the ID or {@link #NONE} if there are no recommendations involving this node
+     */
+    int getNodeID(final String factoryClassName, final String nodeName) {
+        Map<String, Integer> names = m_nodeIDs.get(factoryClassName);
+        Integer id = (names == null) ? null : names.get(nodeName);
+        return (id == null) ? NONE : id.intValue();
+    }
+
+    /**
+     * @param table the provider's index
+     * @param key a key created by {@link #key(int, int)}
+     * @return the recommendations or <code>null</code> if there are none
+     */
+    Recommendations get(final int table, final long key) {
+        return m_tables[table].get(key);
+    }
+
+    /**
+     * @param templateID a template ID
+     * @return the node template
+     */
+    NodeTemplate getTemplate(final int templateID) {
+        return m_templates[templateID];
+    }
+
+    /**
+     * @param templateID a template ID
+     * @return the node ID of the template, i.e. the ID of its factory class and name
+     */
+    int getNodeIDOfTemplate(final int templateID) {
+        return m_templateNodeIDs[templateID];
+    }
+
+    /**
+     * Starts a new lookup. Templates marked as seen during previous lookups are considered unseen afterwards.
+     *
+     * @return the stamp for {@link #markSeen(int, int)}
+     */
+    int newLookup() {
+        if (++m_stamp == 0) {
+            // overflow, the stamps stored so far become ambiguous
+            Arrays.fill(m_seen, 0);
+            m_stamp = 1;
+        }
+        return m_stamp;
+    }
+
+    /**
+     * Marks a template as seen during the current lookup.
+     *
+     * @param templateID the template ID
+     * @param stamp the stamp returned by {@link #newLookup()}
+     * @return <code>true</code> if the template has not been seen yet during the lookup, <code>false</code> otherwise
+     */
+    boolean markSeen(final int templateID, final int stamp) {
+        if (m_seen[templateID] == stamp) {
+            return false;
+        }
+        m_seen[templateID] = stamp;
+        return true;
+    }
+
+    /**
+     * Collects the recommendations of all providers and creates the store.
+     */
+    static final class Builder {
+        private final Map<String, Map<String, Integer>> m_nodeIDs = new HashMap<>();
+
+        private final Map<String, Integer> m_templateIDs = new HashMap<>();
+
+        private final List<NodeTemplate> m_templates = new ArrayList<>();
+
+        private final List<Map<Long, Map<Integer, long[]>>> m_tables = new ArrayList<>();
+
+        private Map<Long, Map<Integer, long[]>> m_currentTable;
+
+        private int m_numNodes;
+
+        /**
+         * Starts collecting the recommendations of another provider.
+         */
+        void startTable() {
+            m_currentTable = new HashMap<>();
+            m_tables.add(m_currentTable);
+        }
+
+        /**
+         * Returns the ID of the node with the given factory and name, creating a new one if necessary.
+         *
+         * @param factoryClassName the node factory's class name
+         * @param nodeName the node's name
+         * @return the node ID
+         */
+        int internNode(final String factoryClassName, final String nodeName) {
+            return m_nodeIDs.computeIfAbsent(factoryClassName, f -> new HashMap<>()).computeIfAbsent(nodeName,
+                n -> m_numNodes++);
+        }
+
+        /**
+         * Adds a recommendation to the current provider's table. Recommendations of the same template under the same
+         * key are aggregated: their frequencies are summed up for source nodes and averaged otherwise.
+         *
+         * @param key a key created by {@link #key(int, int)}
+         * @param template the recommended template
+         * @param count the frequency
+         */
+        void add(final long key, final NodeTemplate template, final int count) {
+            // templates are identified by their ID, the same instance is used for all occurrences
+            Integer templateID = m_templateIDs.get(template.getID());
+            if (templateID == null) {
+                templateID = m_templates.size();
+                m_templateIDs.put(template.getID(), templateID);
+                m_templates.add(template);
+            }
+            // insertion order breaks ties between equal frequencies
+            long[] sumAndNum = m_currentTable.computeIfAbsent(key, k -> new LinkedHashMap<>())
+                .computeIfAbsent(templateID, t -> new long[2]);
+            sumAndNum[0] += count;
+            sumAndNum[1]++;
+        }
+
+        /**
+         * @return the new store
+         */
+        NodeRecommendationStore build() {
+            NodeTemplate[] templates = m_templates.toArray(new NodeTemplate[m_templates.size()]);
+            int[] templateNodeIDs = new int[templates.length];
+            for (int i = 0; i < templates.length; i++) {
+                templateNodeIDs[i] = internNode(templates[i].getFactory().getName(), templates[i].getName());
+            }
+
+            @SuppressWarnings("unchecked")
+            LongObjectMap<Recommendations>[] tables = new LongObjectMap[m_tables.size()];
+            for (int t = 0; t < tables.length; t++) {
+                Map<Long, Map<Integer, long[]>> table = m_tables.get(t);
+                tables[t] = new LongObjectMap<>(table.size());
+                for (Map.Entry<Long, Map<Integer, long[]>> e : table.entrySet()) {
+                    tables[t].put(e.getKey(), createRecommendations(e.getValue(), e.getKey() == SOURCE_NODES_KEY));
+                }
+            }
+            return new NodeRecommendationStore(m_nodeIDs, templates, templateNodeIDs, tables);
+        }
+
+        private static Recommendations createRecommendations(final Map<Integer, long[]> aggregates,
+            final boolean sum) {
+            int size = aggregates.size();
+            Integer[] order = new Integer[size];
+            int[] templateIDs = new int[size];
+            int[] frequencies = new int[size];
+            int i = 0;
+            for (Map.Entry<Integer, long[]> e : aggregates.entrySet()) {
+                long[] sumAndNum = e.getValue();
+                templateIDs[i] = e.getKey();
+                frequencies[i] = (int)(sum ? sumAndNum[0] : Math.round(sumAndNum[0] / (double)sumAndNum[1]));
+                order[i] = i;
+                i++;
+            }
+            // stable, hence equal frequencies keep their insertion order
+            Arrays.sort(order, (a, b) -> Integer.compare(frequencies[b], frequencies[a]));
+
+            int[] sortedTemplateIDs = new int[size];
+            int[] sortedFrequencies = new int[size];
+            for (i = 0; i < size; i++) {
+                sortedTemplateIDs[i] = templateIDs[order[i]];
+                sortedFrequencies[i] = frequencies[order[i]];
+            }
+            return new Recommendations(sortedTemplateIDs, sortedFrequencies);
+        }
+    }
+
+    /**
+     * Minimal hash map from <code>long</code> keys to objects using open addressing with linear probing. Its size is
+     * fixed at creation.
+     */
+    private static final class LongObjectMap<V> {
+        /** Marks free slots, cannot be a valid key since IDs are either non-negative or {@link #NONE}. */
+        private static final long FREE = Long.MIN_VALUE;
+
+        private final long[] m_keys;
+
+        private final Object[] m_values;
+
+        private final int m_mask;
+
+        LongObjectMap(final int maxSize) {
+            // at most half of the slots are used
+            int capacity = Integer.highestOneBit(Math.max(2, maxSize) * 2 - 1) << 1;
+            m_keys = new long[capacity];
+            Arrays.fill(m_keys, FREE);
+            m_values = new Object[capacity];
+            m_mask = capacity - 1;
+        }
+
+        void put(final long key, final V value) {
+            int i = index(key);
+            while ((m_keys[i] != FREE) && (m_keys[i] != key)) {
+                i = (i + 1) & m_mask;
+            }
+            m_keys[i] = key;
+            m_values[i] = value;
+        }
+
+        @SuppressWarnings("unchecked")
+        V get(final long key) {
+            int i = index(key);
+            long k;
+            while ((k = m_keys[i]) != FREE) {
+                if (k == key) {
+                    return (V)m_values[i];
+                }
+                i = (i + 1) & m_mask;
+            }
+            return null;
+        }
+
+        private int index(final long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int)(h ^ (h >>> 32)) & m_mask;
+        }
+    }
+}
@@ -123,7 +123,18 @@ protected AbstractFileDownloadTripleProvider(final String url, final String file
      */
     @Override
     public Stream<NodeTriple> getNodeTriples() throws IOException {
-        return NodeFrequencies.from(Files.newInputStream(m_file)).getFrequencies().stream();
+        Path index = NodeTripleIndex.getIndexFile(m_file);
+        if (!NodeTripleIndex.isUpToDate(m_file, index)) {
+            // first load after a download (or the index was removed), the file is parsed once
+            NodeTripleIndex.write(m_file, index);
+        }
+        try {
+            return NodeTripleIndex.read(index);
+        } catch (IOException ex) {
+            NodeLogger.getLogger(getClass()).debug("Re-creating node triple index: " + ex.getMessage(), ex);
+            NodeTripleIndex.write(m_file, index);
+            return NodeTripleIndex.read(index);
+        }
     }
 
     /**
@@ -165,18 +176,28 @@ public void update() throws Exception {
         }
 
         //check the download and rename the file
+        Path tmpIndex = NodeTripleIndex.getIndexFile(m_tmpFile);
         try {
             checkDownloadedFile(m_tmpFile);
             Files.move(m_tmpFile, m_file, StandardCopyOption.REPLACE_EXISTING);
+            if (Files.exists(tmpIndex)) {
+                //moved after the file, hence it is not older than the file
+                Files.move(tmpIndex, NodeTripleIndex.getIndexFile(m_file), StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.deleteIfExists(NodeTripleIndex.getIndexFile(m_file));
+            }
         } finally {
-            //delete temporary file
+            //delete temporary files
             Files.deleteIfExists(m_tmpFile);
+            Files.deleteIfExists(tmpIndex);
         }
     }
 
     /**
      * Attempts to parse the temporary file containing the downloaded recommendation data. If the file does not contain
-     * node triples an {@code IOException} is thrown. Necessary to detect e.g. login-webpages in hotels.
+     * node triples an {@code IOException} is thrown. Necessary to detect e.g. login-webpages in hotels. The default
+     * implementation writes the binary index of the triples while streaming through the file, so that the file does
+     * not need to be parsed again when the triples are loaded.
      * @see NodeFrequencies#from(InputStream)
      *
      * @param file the temporary file containing the downloaded data
@@ -185,7 +206,7 @@ public void update() throws Exception {
      */
     protected void checkDownloadedFile(final Path file) throws IOException {
         try {
-            NodeFrequencies.from(Files.newInputStream(file));
+            NodeTripleIndex.write(file, NodeTripleIndex.getIndexFile(file));
         } catch (IOException e) {
             throw new IOException("Downloaded file doesn't contain node recommendation data.");
         }
@@ -0,0 +1,320 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026: created
+ */
+package org.knime.workbench.workflowcoach.data;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.knime.core.node.NodeInfo;
+import org.knime.core.node.NodeTriple;
+
+/**
+ * Compact binary index of a node triple file. After a header holding the size of the triple file and the number of
+ * triples and nodes, the index contains one fixed-size record per triple (indices of predecessor, node and successor
+ * in the node table, <code>-1</code> if not present, and the count) followed by the table of all distinct nodes
+ * (factory class name and node name, each stored as UTF-8 length and bytes). The node table comes last so that the
+ * index can be written while the triple file is streamed, only the distinct nodes are held in memory.
+ *
+ * <p>
+ * The index is read into a heap buffer at once; no file handle is kept open afterwards, so that an update can replace
+ * the index file at any time.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class NodeTripleIndex {
+    private static final int MAGIC_NUMBER = 0x4B4E5449; // "KNTI"
+
+    private static final int FORMAT_VERSION = 2;
+
+    /** Position of the number of triples in the header, the number of nodes follows. */
+    private static final int COUNTS_POSITION = 2 * Integer.BYTES + Long.BYTES;
+
+    /** Bytes per triple record: predecessor, node, successor, count. */
+    private static final int RECORD_SIZE = 4 * Integer.BYTES;
+
+    private static final int NONE = -1;
+
+    private NodeTripleIndex() {
+    }
+
+    /**
+     * Returns the index file belonging to the given node triple file. It is located next to the triple file.
+     *
+     * @param file a node triple file
+     * @return the path to the index file
+     */
+    static Path getIndexFile(final Path file) {
+        return file.resolveSibling(file.getFileName() + ".idx");
+    }
+
+    /**
+     * Checks whether the index file exists and was created from the current version of the triple file. The size of
+     * the triple file is recorded in the index, additionally the index must not be older than the triple file.
+     *
+     * @param file a node triple file
+     * @param index the index file
+     * @return <code>true</code> if the index can be used, <code>false</code> if it has to be (re-)created
+     */
+    static boolean isUpToDate(final Path file, final Path index) {
+        try {
+            if (!Files.isRegularFile(index)
+                || (Files.getLastModifiedTime(index).compareTo(Files.getLastModifiedTime(file)) < 0)) {
+                return false;
+            }
+            try (FileChannel channel = FileChannel.open(index, StandardOpenOption.READ)) {
+                ByteBuffer header = ByteBuffer.allocate(COUNTS_POSITION);
+                while (header.hasRemaining() && (channel.read(header) >= 0)) {
+                    // read the complete header
+                }
+                header.flip();
+                return (header.remaining() == header.capacity()) && (header.getInt() == MAGIC_NUMBER)
+                    && (header.getInt() == FORMAT_VERSION) && (header.getLong() == Files.size(file));
+            }
+        } catch (IOException ex) { // NOSONAR the index is simply re-created
+            return false;
+        }
+    }
+
+    /**
+     * Streams the given node triple file and writes its index. The index is written to a temporary file first and
+     * moved to its final location afterwards, hence readers never see a partially written index.
+     *
+     * @param file a node triple file
+     * @param index the index file to write
+     * @throws IOException if the triple file cannot be parsed or the index cannot be written
+     */
+    static void write(final Path file, final Path index) throws IOException {
+        Path tempFile = index.resolveSibling(index.getFileName() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                // not closed, that would close the channel before the counts are written
+                DataOutputStream out =
+                    new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+                out.writeInt(MAGIC_NUMBER);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(Files.size(file));
+                // the counts are only known at the end
+                out.writeInt(0);
+                out.writeInt(0);
+
+                NodeTable nodes = new NodeTable();
+                int numTriples = 0;
+                try (NodeTripleJsonReader reader = new NodeTripleJsonReader(Files.newInputStream(file))) {
+                    NodeTriple triple;
+                    while ((triple = reader.next()) != null) {
+                        out.writeInt(nodes.indexOf(triple.getPredecessor().orElse(null)));
+                        out.writeInt(nodes.indexOf(triple.getNode().orElse(null)));
+                        out.writeInt(nodes.indexOf(triple.getSuccessor()));
+                        out.writeInt(triple.getCount());
+                        numTriples++;
+                    }
+                }
+                nodes.writeTo(out);
+                out.flush();
+
+                ByteBuffer counts = ByteBuffer.allocate(2 * Integer.BYTES);
+                counts.putInt(numTriples).putInt(nodes.size()).flip();
+                long position = COUNTS_POSITION;
+                while (counts.hasRemaining()) {
+                    position += channel.write(counts, position);
+                }
+            }
+            Files.move(tempFile, index, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Reads the triples from the given index file. The file is read completely into memory and closed before this
+     * method returns.
+     *
+     * @param index an index file created by {@link #write(Path, Path)}
+     * @return a stream of node triples, decoded lazily from the index' records
+     * @throws IOException if the index cannot be read or is corrupt
+     */
+    static Stream<NodeTriple> read(final Path index) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(index));
+        try {
+            if ((buffer.getInt() != MAGIC_NUMBER) || (buffer.getInt() != FORMAT_VERSION)) {
+                throw new IOException("Node triple index '" + index + "' has an unknown format");
+            }
+            buffer.getLong();
+            int numTriples = buffer.getInt();
+            NodeInfo[] nodes = new NodeInfo[buffer.getInt()];
+            if ((numTriples < 0) || ((long)numTriples * RECORD_SIZE > buffer.remaining())) {
+                throw new BufferUnderflowException();
+            }
+            ByteBuffer records = buffer.slice();
+            records.limit(numTriples * RECORD_SIZE);
+            buffer.position(buffer.position() + (numTriples * RECORD_SIZE));
+            for (int i = 0; i < nodes.length; i++) {
+                nodes[i] = new NodeInfo(readString(buffer), readString(buffer));
+            }
+            checkNodeIndices(records, nodes.length);
+            return StreamSupport.stream(new TripleSpliterator(records, nodes, numTriples), false);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException ex) {
+            throw new IOException("Node triple index '" + index + "' is corrupt", ex);
+        }
+    }
+
+    /* Makes sure that decoding the records cannot fail later on. */
+    private static void checkNodeIndices(final ByteBuffer records, final int numNodes) {
+        for (int pos = 0; pos < records.limit(); pos += RECORD_SIZE) {
+            for (int i = 0; i < 3; i++) {
+                int nodeIndex = records.getInt(pos + (i * Integer.BYTES));
+                if ((nodeIndex < NONE) || (nodeIndex >= numNodes)) {
+                    throw new IndexOutOfBoundsException("Invalid node index " + nodeIndex);
+                }
+            }
+        }
+    }
+
+    private static void writeString(final DataOutputStream out, final String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if ((length < 0) || (length > buffer.remaining())) {
+            // corrupt file
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The distinct nodes of the triples in the order they were first seen.
+     */
+    private static final class NodeTable {
+        private final Map<String, Map<String, Integer>> m_indices = new HashMap<>();
+
+        private final List<NodeInfo> m_nodes = new ArrayList<>();
+
+        int indexOf(final NodeInfo node) {
+            if (node == null) {
+                return NONE;
+            }
+            return m_indices.computeIfAbsent(node.getFactory(), f -> new HashMap<>())
+                .computeIfAbsent(node.getName(), n -> {
+                    m_nodes.add(node);
+                    return m_nodes.size() - 1;
+                });
+        }
+
+        int size() {
+            return m_nodes.size();
+        }
+
+        void writeTo(final DataOutputStream out) throws IOException {
+            for (NodeInfo node : m_nodes) {
+                writeString(out, node.getFactory());
+                writeString(out, node.getName());
+            }
+        }
+    }
+
+    /**
+     * Decodes one triple record after the other from the buffer.
+     */
+    private static final class TripleSpliterator extends Spliterators.AbstractSpliterator<NodeTriple> {
+        private final ByteBuffer m_records;
+
+        private final NodeInfo[] m_nodes;
+
+        private int m_remaining;
+
+        TripleSpliterator(final ByteBuffer records, final NodeInfo[] nodes, final int numTriples) {
+            super(numTriples, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.SIZED | Spliterator.IMMUTABLE);
+            m_records = records;
+            m_nodes = nodes;
+            m_remaining = numTriples;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super NodeTriple> action) {
+            if (m_remaining == 0) {
+                return false;
+            }
+            m_remaining--;
+            NodeInfo predecessor = getNode(m_records.getInt());
+            NodeInfo node = getNode(m_records.getInt());
+            NodeInfo successor = getNode(m_records.getInt());
+            action.accept(new NodeTriple(predecessor, node, successor, m_records.getInt()));
+            return true;
+        }
+
+        private NodeInfo getNode(final int index) {
+            return (index == NONE) ? null : m_nodes[index];
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026: created
+ */
+package org.knime.workbench.workflowcoach.data;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.knime.core.node.NodeFrequencies;
+import org.knime.core.node.NodeTriple;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+
+/**
+ * Streaming reader for node triple files in the JSON format written by {@link NodeFrequencies}. In contrast to
+ * {@link NodeFrequencies#from(InputStream)} the triples are not collected: the parser walks the token stream and only
+ * the current triple is bound to a {@link NodeTriple} (using its own JSON mapping), so arbitrarily large files are read
+ * with constant memory.
+ *
+ * <p>
+ * The file is a JSON object, the triples are the elements of the array-valued field, all other fields are skipped.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class NodeTripleJsonReader implements Closeable {
+    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new Jdk8Module());
+
+    private final JsonParser m_parser;
+
+    private boolean m_inTriples;
+
+    private boolean m_foundTriples;
+
+    /**
+     * Creates a new reader. The stream is closed when the reader is closed.
+     *
+     * @param in the stream to read the JSON from
+     * @throws IOException if the stream doesn't start with a JSON object
+     */
+    NodeTripleJsonReader(final InputStream in) throws IOException {
+        m_parser = MAPPER.getFactory().createParser(in);
+        if (m_parser.nextToken() != JsonToken.START_OBJECT) {
+            m_parser.close();
+            throw new IOException("Node triple file doesn't contain a JSON object");
+        }
+    }
+
+    /**
+     * Reads the next triple.
+     *
+     * @return the next triple or <code>null</code> if all triples have been read
+     * @throws IOException if the file cannot be read, isn't valid JSON or doesn't contain triples at all
+     */
+    NodeTriple next() throws IOException {
+        while (!m_inTriples) {
+            JsonToken token = m_parser.nextToken();
+            if ((token == null) || (token == JsonToken.END_OBJECT)) {
+                if (!m_foundTriples) {
+                    throw new IOException("Node triple file doesn't contain node triples");
+                }
+                return null;
+            }
+            // a field name, the value follows
+            token = m_parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                m_inTriples = true;
+                m_foundTriples = true;
+            } else {
+                m_parser.skipChildren();
+            }
+        }
+        if (m_parser.nextToken() == JsonToken.END_ARRAY) {
+            m_inTriples = false;
+            return next();
+        }
+        return m_parser.readValueAs(NodeTriple.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        m_parser.close();
+    }
+}